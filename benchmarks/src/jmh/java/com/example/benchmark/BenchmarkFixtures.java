@@ -0,0 +1,109 @@
+package com.example.benchmark;
+
+import com.example.common.Location;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import com.example.turn.station.TurnStations;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크들이 공유하는 테스트 데이터 생성기
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Station station(long id) {
+        return Station.builder()
+                .id(id)
+                .name("station-" + id)
+                .location(Location.of(37.0 + (id % 1000) * 0.001, 127.0 + (id / 1000 % 1000) * 0.001))
+                .createdAt(OffsetDateTime.now())
+                .updatedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    /**
+     * 첫 정류장은 BEGIN/ON, 마지막 정류장은 END/OFF 인 검증을 통과하는 정류장 목록을 만든다.
+     */
+    static List<TurnStation> validTurnStations(int size, OffsetDateTime departure) {
+        List<TurnStation> turnStations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean first = i == 0;
+            boolean last = i == size - 1;
+            turnStations.add(TurnStation.of(
+                    null,
+                    station(i + 1),
+                    last ? TurnStationOnOffType.OFF : TurnStationOnOffType.ON,
+                    first ? TurnStationType.BEGIN : last ? TurnStationType.END : TurnStationType.MIDDLE,
+                    i + 1,
+                    departure.plusMinutes(i * 2L)));
+        }
+        return turnStations;
+    }
+
+    /**
+     * gridSize x gridSize 격자 위에 가로/세로 노선을 깔고, 각 노선마다 headwayMinutes 간격으로 trips 개의 회차를 만든다.
+     * 교차 정류장은 한 노선에서는 하차(OFF), 다른 노선에서는 승차(ON) 가 되도록 번갈아 배치해 환승이 가능하게 한다.
+     */
+    static List<TurnRoute> syntheticNetwork(int gridSize, int tripsPerLine, int headwayMinutes, OffsetDateTime firstDeparture) {
+        Station[][] grid = new Station[gridSize][gridSize];
+        for (int row = 0; row < gridSize; row++) {
+            for (int col = 0; col < gridSize; col++) {
+                grid[row][col] = station((long) row * gridSize + col + 1);
+            }
+        }
+
+        List<TurnRoute> turnRoutes = new ArrayList<>();
+        long turnRouteId = 1;
+        for (int line = 0; line < gridSize * 2; line++) {
+            boolean horizontal = line < gridSize;
+            int fixed = line % gridSize;
+            Route route = Route.builder()
+                    .id((long) line + 1)
+                    .name((horizontal ? "H-" : "V-") + fixed)
+                    .type(RouteType.GO)
+                    .createdAt(firstDeparture)
+                    .updatedAt(firstDeparture)
+                    .build();
+
+            for (int trip = 0; trip < tripsPerLine; trip++) {
+                OffsetDateTime departure = firstDeparture.plusMinutes((long) trip * headwayMinutes + line % headwayMinutes);
+                List<TurnStation> stops = new ArrayList<>(gridSize);
+                for (int i = 0; i < gridSize; i++) {
+                    Station station = horizontal ? grid[fixed][i] : grid[i][fixed];
+                    boolean first = i == 0;
+                    boolean last = i == gridSize - 1;
+                    boolean boardable = horizontal ? i % 2 == 0 : i % 2 == 1;
+                    TurnStationOnOffType onOffType = first ? TurnStationOnOffType.ON
+                            : last ? TurnStationOnOffType.OFF
+                            : boardable ? TurnStationOnOffType.ON : TurnStationOnOffType.OFF;
+                    stops.add(TurnStation.of(
+                            null,
+                            station,
+                            onOffType,
+                            first ? TurnStationType.BEGIN : last ? TurnStationType.END : TurnStationType.MIDDLE,
+                            i + 1,
+                            departure.plusMinutes(i * 2L)));
+                }
+                turnRoutes.add(TurnRoute.builder()
+                        .id(turnRouteId++)
+                        .route(route)
+                        .turnStations(TurnStations.of(stops))
+                        .createdAt(firstDeparture)
+                        .updatedAt(firstDeparture)
+                        .build());
+            }
+        }
+        return turnRoutes;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.benchmark;
+
+import com.example.common.Location;
+import com.example.distance.BatchDistanceCalculator;
+import com.example.distance.DistanceMatrix;
+import com.example.distance.NeighborList;
+import com.example.distance.StationCoordinates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구 하나 규모(n 개 정류장)의 전체 쌍 거리 계산.
+ * haversineLoop 는 Location.distanceTo 를 쌍마다 부르는 기존 방식이고,
+ * scalar/vector 는 단위 구 좌표로 바꾼 뒤 BatchDistanceCalculator 의 스칼라/SIMD 구현으로 계산한다.
+ * 한 연산은 n*n 쌍 전체다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DistanceMatrixBenchmark {
+
+    @Param({"2000"})
+    int stations;
+
+    Location[] locations;
+    StationCoordinates coordinates;
+    BatchDistanceCalculator scalar;
+    BatchDistanceCalculator vector;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        locations = new Location[stations];
+        double[] lats = new double[stations];
+        double[] lngs = new double[stations];
+        for (int i = 0; i < stations; i++) {
+            lats[i] = 37.45 + random.nextDouble() * 0.1;
+            lngs[i] = 126.95 + random.nextDouble() * 0.1;
+            locations[i] = Location.of(lats[i], lngs[i]);
+        }
+        coordinates = StationCoordinates.of(lats, lngs);
+        scalar = BatchDistanceCalculator.scalar();
+        vector = BatchDistanceCalculator.create();
+        if (!vector.isVectorized()) {
+            throw new IllegalStateException("--add-modules jdk.incubator.vector 가 필요합니다.");
+        }
+    }
+
+    @Benchmark
+    public double[] haversineLoop() {
+        double[] meters = new double[stations * stations];
+        for (int i = 0; i < stations; i++) {
+            for (int j = 0; j < stations; j++) {
+                meters[i * stations + j] = locations[i].distanceTo(locations[j]);
+            }
+        }
+        return meters;
+    }
+
+    @Benchmark
+    public DistanceMatrix scalarSequential() {
+        return scalar.sequential().matrix(coordinates);
+    }
+
+    @Benchmark
+    public DistanceMatrix vectorSequential() {
+        return vector.sequential().matrix(coordinates);
+    }
+
+    @Benchmark
+    public DistanceMatrix vectorParallel() {
+        return vector.matrix(coordinates);
+    }
+
+    @Benchmark
+    public NeighborList vectorNeighbors500m() {
+        return vector.neighbors(coordinates, 500);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.benchmark;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정적 팩토리(Station.of, Location.of)의 생성 비용과 할당량을 측정한다. 할당량은 gc 프로파일러 결과로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainFactoryBenchmark {
+
+    double lat = 37.4979;
+    double lng = 127.0276;
+    Location location = Location.of(lat, lng);
+
+    @Benchmark
+    public Location locationOf() {
+        return Location.of(lat, lng);
+    }
+
+    @Benchmark
+    public Station stationOf() {
+        return Station.of("강남역", location);
+    }
+}
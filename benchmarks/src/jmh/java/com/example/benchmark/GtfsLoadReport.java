@@ -0,0 +1,130 @@
+package com.example.benchmark;
+
+import com.example.gtfs.GtfsFeedLoader;
+import com.example.gtfs.GtfsNetwork;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 합성 GTFS 피드를 만들어 GtfsFeedLoader 의 적재 시간과 최대 힙 사용량을 측정한다.
+ * 실행: gradle :benchmarks:gtfsLoadReport [--args="routes tripsPerDirection stopsPerTrip"]
+ */
+public final class GtfsLoadReport {
+
+    private static final LocalDate SERVICE_DATE = LocalDate.of(2025, 5, 1);
+    private static final ZoneOffset OFFSET = ZoneOffset.ofHours(9);
+    private static final int STATION_COUNT = 5_000;
+
+    private GtfsLoadReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int routes = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int tripsPerDirection = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int stopsPerTrip = args.length > 2 ? Integer.parseInt(args[2]) : 40;
+
+        Path feed = Files.createTempDirectory("gtfs-report-");
+        try {
+            writeFeed(feed, routes, tripsPerDirection, stopsPerTrip);
+            long stopTimesBytes = Files.size(feed.resolve("stop_times.txt"));
+
+            long baseline = usedHeap();
+            resetPeaks();
+            long start = System.nanoTime();
+            GtfsNetwork network = new GtfsFeedLoader().load(feed, SERVICE_DATE, OFFSET);
+            long elapsed = System.nanoTime() - start;
+            long peak = peakHeap();
+            long retained = usedHeap() - baseline;
+
+            long stopTimes = (long) routes * 2 * tripsPerDirection * stopsPerTrip;
+            System.out.printf("stop_times.txt : %,d rows, %,d bytes%n", stopTimes, stopTimesBytes);
+            System.out.printf("loaded         : %d routes, %d trips, %d stations (skipped %d trips)%n",
+                    network.routes().size(), network.turnRoutes().size(), network.stations().size(), network.skippedTrips());
+            System.out.printf("load time      : %,d ms (%.0f rows/s)%n", elapsed / 1_000_000, stopTimes / (elapsed / 1e9));
+            System.out.printf("peak heap      : %,d bytes (baseline %,d)%n", peak, baseline);
+            System.out.printf("retained       : %,d bytes (%.1f bytes/stop)%n", retained, (double) retained / stopTimes);
+        } finally {
+            try (Stream<Path> paths = Files.walk(feed)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static void writeFeed(Path feed, int routes, int tripsPerDirection, int stopsPerTrip) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(feed.resolve("stops.txt"))) {
+            out.write("stop_id,stop_name,stop_lat,stop_lon\n");
+            for (int stop = 0; stop < STATION_COUNT; stop++) {
+                out.write("STOP-" + stop + ",정류장 " + stop + "," + (37.4 + stop % 100 * 0.002) + "," + (126.9 + stop / 100 * 0.004) + "\n");
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(feed.resolve("routes.txt"))) {
+            out.write("route_id,route_short_name,route_long_name,route_type\n");
+            for (int route = 0; route < routes; route++) {
+                out.write("ROUTE-" + route + "," + (100 + route) + ",,3\n");
+            }
+        }
+        try (BufferedWriter trips = Files.newBufferedWriter(feed.resolve("trips.txt"));
+             BufferedWriter stopTimes = Files.newBufferedWriter(feed.resolve("stop_times.txt"))) {
+            trips.write("route_id,service_id,trip_id,direction_id\n");
+            stopTimes.write("trip_id,arrival_time,departure_time,stop_id,stop_sequence,pickup_type,drop_off_type\n");
+            for (int route = 0; route < routes; route++) {
+                for (int direction = 0; direction < 2; direction++) {
+                    for (int trip = 0; trip < tripsPerDirection; trip++) {
+                        String tripId = "TRIP-" + route + "-" + direction + "-" + trip;
+                        trips.write("ROUTE-" + route + ",WD," + tripId + "," + direction + "\n");
+
+                        int departure = 5 * 3600 + trip * 600;
+                        for (int position = 0; position < stopsPerTrip; position++) {
+                            int stop = (route * 7 + (direction == 0 ? position : stopsPerTrip - position) * 13) % STATION_COUNT;
+                            String time = time(departure + position * 120);
+                            stopTimes.write(tripId + "," + time + "," + time + ",STOP-" + stop + "," + (position + 1)
+                                    + "," + (position % 2) + ",0\n");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static String time(int seconds) {
+        return String.format("%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+
+    private static void resetPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
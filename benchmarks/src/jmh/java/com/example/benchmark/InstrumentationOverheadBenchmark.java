@@ -0,0 +1,104 @@
+package com.example.benchmark;
+
+import com.example.application.station.StationService;
+import com.example.common.Location;
+import com.example.memory.MemoryStationRepository;
+import com.example.metrics.InstrumentedStationRepository;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStations;
+import com.example.turn.station.TurnStationsRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계측을 켠 경로와 끈 경로의 비용 차이.
+ * - 저장소: MemoryStationRepository.findById 를 직접 호출 vs InstrumentedStationRepository 를 매번 측정 / 16번에 한 번 측정
+ * - 서비스: 같은 저장소 위의 StationService.findById 를 매번 측정 / 16번에 한 번 측정
+ * - 검증: TurnStationsRule.firstViolation + 복사 vs TurnStations.of (위반 카운터 + JFR 이벤트)
+ * JFR 은 기록하지 않는 상태(운영 기본값)로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstrumentationOverheadBenchmark {
+
+    private static final int STATIONS = 10_000;
+
+    StationRepository raw;
+    StationRepository instrumented;
+    StationRepository sampled;
+    StationService timedService;
+    StationService sampledService;
+    List<TurnStation> turnStations;
+
+    @Setup
+    public void setUp() {
+        MemoryStationRepository memory = new MemoryStationRepository();
+        List<Station> stations = new ArrayList<>(STATIONS);
+        for (int i = 0; i < STATIONS; i++) {
+            stations.add(Station.of("station-" + i, Location.of(37.5, 127.0)));
+        }
+        memory.saveAll(stations);
+
+        raw = memory;
+        instrumented = new InstrumentedStationRepository(memory, new SimpleMeterRegistry());
+        sampled = new InstrumentedStationRepository(memory, new SimpleMeterRegistry(), 16);
+        timedService = new StationService(memory, new SimpleMeterRegistry(), 1);
+        sampledService = new StationService(memory, new SimpleMeterRegistry(), 16);
+        turnStations = BenchmarkFixtures.validTurnStations(10, OffsetDateTime.now());
+    }
+
+    @Benchmark
+    public Optional<Station> rawFindById() {
+        return raw.findById(1L + ThreadLocalRandom.current().nextInt(STATIONS));
+    }
+
+    @Benchmark
+    public Optional<Station> instrumentedFindById() {
+        return instrumented.findById(1L + ThreadLocalRandom.current().nextInt(STATIONS));
+    }
+
+    @Benchmark
+    public Optional<Station> sampledFindById() {
+        return sampled.findById(1L + ThreadLocalRandom.current().nextInt(STATIONS));
+    }
+
+    @Benchmark
+    public Station timedServiceFindById() {
+        return timedService.findById(1L + ThreadLocalRandom.current().nextInt(STATIONS));
+    }
+
+    @Benchmark
+    public Station sampledServiceFindById() {
+        return sampledService.findById(1L + ThreadLocalRandom.current().nextInt(STATIONS));
+    }
+
+    @Benchmark
+    public List<TurnStation> uninstrumentedValidation() {
+        TurnStationsRule violation = TurnStationsRule.firstViolation(turnStations);
+        if (violation != null) {
+            throw violation.exception();
+        }
+        return List.copyOf(turnStations);
+    }
+
+    @Benchmark
+    public TurnStations instrumentedValidation() {
+        return TurnStations.of(turnStations);
+    }
+}
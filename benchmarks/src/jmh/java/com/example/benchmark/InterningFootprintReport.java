@@ -0,0 +1,134 @@
+package com.example.benchmark;
+
+import com.example.common.Location;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import com.example.turn.station.TurnStations;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조인 결과처럼 정류장 방문 행마다 Station/좌표/시각을 새로 만드는 적재에서
+ * 빌더로 바로 만들 때와 DomainInterner 를 거치는 팩터리(TurnStation.of)로 만들 때의 힙 사용량을 비교하고,
+ * 저장 요청처럼 Station.of 로 정류장을 새로 만들 때 정류장 하나당 힙 사용량을 함께 출력한다.
+ * 실행: gradle :benchmarks:interningReport [--args="gridSize tripsPerLine"]
+ */
+public final class InterningFootprintReport {
+
+    private static final OffsetDateTime FIRST_DEPARTURE = OffsetDateTime.of(2025, 5, 1, 5, 0, 0, 0, ZoneOffset.ofHours(9));
+    private static final int HEADWAY_MINUTES = 10;
+
+    private InterningFootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        int gridSize = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int tripsPerLine = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+
+        long baseline = usedHeap();
+        List<TurnRoute> naive = network(gridSize, tripsPerLine, false);
+        long naiveBytes = usedHeap() - baseline;
+
+        List<TurnRoute> interned = network(gridSize, tripsPerLine, true);
+        long internedBytes = usedHeap() - baseline - naiveBytes;
+
+        long stops = (long) naive.size() * gridSize;
+        System.out.printf("trips=%d, stops=%d, stations=%d%n", naive.size(), stops, gridSize * gridSize);
+        System.out.printf("builder  : %,d bytes (%.1f bytes/stop)%n", naiveBytes, (double) naiveBytes / stops);
+        System.out.printf("interned : %,d bytes (%.1f bytes/stop)%n", internedBytes, (double) internedBytes / stops);
+        System.out.printf("saved    : %.1f%%%n", 100.0 * (naiveBytes - internedBytes) / naiveBytes);
+
+        // 저장 요청마다 Station.of 로 새 정류장을 만들 때 정류장 하나가 차지하는 힙(정규화 비용 포함).
+        long beforeStations = usedHeap();
+        List<Station> created = created(gridSize * gridSize * 10);
+        long createdBytes = usedHeap() - beforeStations;
+        System.out.printf("Station.of: %,d bytes (%.1f bytes/station)%n", createdBytes, (double) createdBytes / created.size());
+
+        // 측정이 끝날 때까지 모든 모델이 도달 가능하도록 유지한다.
+        System.out.println(naive.size() + interned.size() + created.size() > 0 ? "" : "empty");
+    }
+
+    /**
+     * BenchmarkFixtures.syntheticNetwork 와 같은 격자 노선이지만, 정류장 방문 행마다 Station 을 다시 만든다.
+     */
+    private static List<TurnRoute> network(int gridSize, int tripsPerLine, boolean interned) {
+        List<TurnRoute> turnRoutes = new ArrayList<>();
+        for (int line = 0; line < gridSize * 2; line++) {
+            boolean horizontal = line < gridSize;
+            int fixed = line % gridSize;
+            Route route = Route.of((horizontal ? "H-" : "V-") + fixed, RouteType.GO);
+
+            for (int trip = 0; trip < tripsPerLine; trip++) {
+                OffsetDateTime departure = FIRST_DEPARTURE.plusMinutes((long) trip * HEADWAY_MINUTES + line % HEADWAY_MINUTES);
+                List<TurnStation> stops = new ArrayList<>(gridSize);
+                for (int i = 0; i < gridSize; i++) {
+                    long stationId = horizontal ? (long) fixed * gridSize + i + 1 : (long) i * gridSize + fixed + 1;
+                    boolean first = i == 0;
+                    boolean last = i == gridSize - 1;
+                    boolean boardable = horizontal ? i % 2 == 0 : i % 2 == 1;
+                    TurnStationOnOffType onOffType = first ? TurnStationOnOffType.ON
+                            : last ? TurnStationOnOffType.OFF
+                            : boardable ? TurnStationOnOffType.ON : TurnStationOnOffType.OFF;
+                    TurnStationType pointType = first ? TurnStationType.BEGIN : last ? TurnStationType.END : TurnStationType.MIDDLE;
+                    OffsetDateTime arrival = departure.plusMinutes(i * 2L);
+
+                    stops.add(interned
+                            ? TurnStation.of(null, stationRow(stationId), onOffType, pointType, i + 1, arrival)
+                            : TurnStation.builder()
+                                    .station(stationRow(stationId))
+                                    .onOffType(onOffType)
+                                    .pointType(pointType)
+                                    .order(i + 1)
+                                    .expectedArrivalTime(arrival)
+                                    .createdAt(OffsetDateTime.now())
+                                    .updatedAt(OffsetDateTime.now())
+                                    .build());
+                }
+                turnRoutes.add(interned ? TurnRoute.of(route, stops) : TurnRoute.builder()
+                        .route(route)
+                        .turnStations(TurnStations.of(stops))
+                        .createdAt(OffsetDateTime.now())
+                        .updatedAt(OffsetDateTime.now())
+                        .build());
+            }
+        }
+        return turnRoutes;
+    }
+
+    private static List<Station> created(int count) {
+        List<Station> stations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            stations.add(Station.of("station-" + i, Location.of(37.0 + (i % 1000) * 0.001, 127.0 + (i / 1000 % 1000) * 0.001)));
+        }
+        return stations;
+    }
+
+    /**
+     * 정류장 테이블을 조인해 읽은 한 행. 값은 같아도 매번 새 객체다.
+     */
+    private static Station stationRow(long id) {
+        return Station.builder()
+                .id(id)
+                .name("station-" + id)
+                .location(new Location(37.0 + (id % 1000) * 0.001, 127.0 + (id / 1000 % 1000) * 0.001))
+                .createdAt(FIRST_DEPARTURE)
+                .updatedAt(FIRST_DEPARTURE)
+                .build();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.benchmark;
+
+import com.example.journey.ConnectionNetwork;
+import com.example.journey.Itinerary;
+import com.example.journey.JourneyPlanner;
+import com.example.turn.route.TurnRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 격자형 합성 네트워크에서 임의의 두 정류장 사이 경로 탐색 시간을 측정한다.
+ * gridSize 40, tripsPerLine 60 이면 노선 80개, 회차 4,800개, 연결 약 18만 개다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JourneyPlannerBenchmark {
+
+    private static final OffsetDateTime FIRST_DEPARTURE = OffsetDateTime.of(2025, 5, 1, 5, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    @Param({"40"})
+    int gridSize;
+
+    @Param({"60"})
+    int tripsPerLine;
+
+    List<TurnRoute> turnRoutes;
+    JourneyPlanner planner;
+
+    @Setup
+    public void setUp() {
+        turnRoutes = BenchmarkFixtures.syntheticNetwork(gridSize, tripsPerLine, 15, FIRST_DEPARTURE);
+        planner = new JourneyPlanner(ConnectionNetwork.of(turnRoutes));
+    }
+
+    @Benchmark
+    public Optional<Itinerary> plan() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long stations = (long) gridSize * gridSize;
+        long origin = random.nextLong(0, stations);
+        long destination = (origin + random.nextLong(1, stations)) % stations;
+        OffsetDateTime departure = FIRST_DEPARTURE.plusMinutes(random.nextInt(0, 600));
+
+        return planner.plan(origin + 1, destination + 1, departure);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ConnectionNetwork buildNetwork() {
+        return ConnectionNetwork.of(turnRoutes);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.benchmark;
+
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 단일 순회 검증으로 바꾸기 전의 TurnStations 검증 로직. 비교 기준(baseline)으로만 사용한다.
+ */
+final class LegacyTurnStationsValidation {
+
+    private LegacyTurnStationsValidation() {
+    }
+
+    static void validate(List<TurnStation> turnStations) {
+        checkNotNull(turnStations, "정류장 목록은 null일 수 없습니다.");
+        checkArgument(turnStations.size() >= 2, "정류장 목록은 두 개 이상이어야 합니다.");
+        validateStationOrdering(turnStations);
+        validateBeginAndEndStationExistOnlyOne(turnStations);
+        validateBeginAndEndStationIsOnAndOffStation(turnStations);
+    }
+
+    private static void validateStationOrdering(List<TurnStation> turnStations) {
+        List<Integer> ordering = turnStations.stream().map(TurnStation::getOrder).toList();
+        List<Integer> sortedOrdering = ordering.stream().distinct().sorted().toList();
+
+        if (sortedOrdering.getFirst() <= 0) {
+            throw new IllegalArgumentException("정류장 순서는 0보다 커야 합니다.");
+        }
+
+        if (ordering.size() != sortedOrdering.size()) {
+            throw new IllegalArgumentException("정류장 순서가 중복되었습니다.");
+        }
+
+        if (!ordering.equals(sortedOrdering)) {
+            throw new IllegalArgumentException("정류장 순서가 올바르지 않습니다.");
+        }
+    }
+
+    private static void validateBeginAndEndStationExistOnlyOne(List<TurnStation> turnStations) {
+        long beginCount = turnStations.stream()
+                .filter(turnStation -> turnStation.getPointType() == TurnStationType.BEGIN)
+                .count();
+
+        long endCount = turnStations.stream()
+                .filter(turnStation -> turnStation.getPointType() == TurnStationType.END)
+                .count();
+
+        if (beginCount != 1) {
+            throw new IllegalArgumentException("정류장 목록에 시작 정류장이 하나만 존재해야 합니다.");
+        }
+
+        if (endCount != 1) {
+            throw new IllegalArgumentException("정류장 목록에 종료 정류장이 하나만 존재해야 합니다.");
+        }
+
+        TurnStation beginStation = turnStations.getFirst();
+        TurnStation endStation = turnStations.getLast();
+
+        if (beginStation.getPointType() != TurnStationType.BEGIN) {
+            throw new IllegalArgumentException("정류장 목록의 첫 번째 정류장은 시작 정류장이어야 합니다.");
+        }
+
+        if (endStation.getPointType() != TurnStationType.END) {
+            throw new IllegalArgumentException("정류장 목록의 마지막 정류장은 종료 정류장이어야 합니다.");
+        }
+    }
+
+    private static void validateBeginAndEndStationIsOnAndOffStation(List<TurnStation> turnStations) {
+        if (turnStations.getFirst().getOnOffType() != TurnStationOnOffType.ON) {
+            throw new IllegalArgumentException("정류장 목록의 첫 번째 정류장은 시작 정류장이어야 합니다.");
+        }
+
+        if (turnStations.getLast().getOnOffType() != TurnStationOnOffType.OFF) {
+            throw new IllegalArgumentException("정류장 목록의 마지막 정류장은 종료 정류장이어야 합니다.");
+        }
+    }
+}
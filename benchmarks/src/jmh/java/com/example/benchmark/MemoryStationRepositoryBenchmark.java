@@ -0,0 +1,71 @@
+package com.example.benchmark;
+
+import com.example.common.Location;
+import com.example.memory.MemoryStationRepository;
+import com.example.station.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemoryStationRepository 의 저장/조회를 여러 쓰레드가 동시에 호출할 때의 처리량을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoryStationRepositoryBenchmark {
+
+    @Param({"100000"})
+    int preloaded;
+
+    MemoryStationRepository repository;
+    Station template;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = new MemoryStationRepository();
+        template = Station.of("station", Location.of(37.4979, 127.0276));
+        for (int i = 0; i < preloaded; i++) {
+            repository.save(template);
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Station> findById() {
+        return repository.findById(ThreadLocalRandom.current().nextLong(1, preloaded + 1));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Station save() {
+        return repository.save(template);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Optional<Station> readWriteFind() {
+        return repository.findById(ThreadLocalRandom.current().nextLong(1, preloaded + 1));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Station readWriteSave() {
+        return repository.save(template);
+    }
+}
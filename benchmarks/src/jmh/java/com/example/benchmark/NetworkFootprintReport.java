@@ -0,0 +1,52 @@
+package com.example.benchmark;
+
+import com.example.network.CompactNetwork;
+import com.example.turn.route.TurnRoute;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 같은 합성 네트워크를 도메인 객체 그래프와 CompactNetwork 로 들고 있을 때의 힙 사용량을 비교한다.
+ * 실행: gradle :benchmarks:footprintReport [--args="gridSize tripsPerLine"]
+ */
+public final class NetworkFootprintReport {
+
+    private static final OffsetDateTime FIRST_DEPARTURE = OffsetDateTime.of(2025, 5, 1, 5, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private NetworkFootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        int gridSize = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        int tripsPerLine = args.length > 1 ? Integer.parseInt(args[1]) : 120;
+
+        long baseline = usedHeap();
+        List<TurnRoute> turnRoutes = BenchmarkFixtures.syntheticNetwork(gridSize, tripsPerLine, 10, FIRST_DEPARTURE);
+        long objectModel = usedHeap() - baseline;
+
+        CompactNetwork network = CompactNetwork.of(turnRoutes, FIRST_DEPARTURE.getOffset());
+        int trips = network.tripCount();
+        int stops = network.totalStopCount();
+        long withCompact = usedHeap() - baseline;
+        long compact = withCompact - objectModel;
+
+        System.out.printf("trips=%d, stops=%d, stations=%d%n", trips, stops, network.stationCount());
+        System.out.printf("object model : %,d bytes (%.1f bytes/stop)%n", objectModel, (double) objectModel / stops);
+        System.out.printf("compact      : %,d bytes measured, %,d bytes estimated (%.1f bytes/stop)%n",
+                compact, network.estimatedHeapBytes(), (double) compact / stops);
+        System.out.printf("ratio        : %.1fx%n", (double) objectModel / compact);
+
+        // 측정이 끝날 때까지 두 모델 모두 도달 가능하도록 유지한다.
+        System.out.println(turnRoutes.size() + network.tripCount() > 0 ? "" : "empty");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
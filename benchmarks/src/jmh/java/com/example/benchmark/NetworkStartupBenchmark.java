@@ -0,0 +1,83 @@
+package com.example.benchmark;
+
+import com.example.network.CompactNetwork;
+import com.example.network.MappedNetwork;
+import com.example.network.NetworkFileWriter;
+import com.example.turn.route.TurnRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 회차 노선을 준비하는 비용을 비교한다.
+ * rebuildFromSource 는 원천 데이터(컬럼)에서 TurnStation.of + TurnStations.of 검증으로 모든 회차를 다시 만들고,
+ * openLazy 는 네트워크 파일을 열기만 하며, openAndMaterialize 는 파일을 연 뒤 모든 회차를 검증 없이 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NetworkStartupBenchmark {
+
+    private static final OffsetDateTime FIRST_DEPARTURE = OffsetDateTime.of(2025, 5, 1, 5, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    @Param({"40"})
+    int gridSize;
+
+    @Param({"60"})
+    int tripsPerLine;
+
+    CompactNetwork source;
+    Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<TurnRoute> turnRoutes = BenchmarkFixtures.syntheticNetwork(gridSize, tripsPerLine, 15, FIRST_DEPARTURE);
+        source = CompactNetwork.of(turnRoutes, FIRST_DEPARTURE.getOffset());
+        file = Files.createTempFile("network-", ".bin");
+        NetworkFileWriter.write(source, file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<TurnRoute> rebuildFromSource() {
+        List<TurnRoute> turnRoutes = new ArrayList<>(source.tripCount());
+        for (int trip = 0; trip < source.tripCount(); trip++) {
+            turnRoutes.add(source.turnRoute(trip));
+        }
+        return turnRoutes;
+    }
+
+    @Benchmark
+    public MappedNetwork openLazy() {
+        return MappedNetwork.open(file);
+    }
+
+    @Benchmark
+    public List<TurnRoute> openAndMaterialize() {
+        MappedNetwork network = MappedNetwork.open(file);
+        List<TurnRoute> turnRoutes = new ArrayList<>(network.tripCount());
+        for (int trip = 0; trip < network.tripCount(); trip++) {
+            turnRoutes.add(network.turnRoute(trip));
+        }
+        return turnRoutes;
+    }
+}
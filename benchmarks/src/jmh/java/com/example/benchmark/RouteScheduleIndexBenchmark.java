@@ -0,0 +1,81 @@
+package com.example.benchmark;
+
+import com.example.memory.MemoryRouteScheduleIndex;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "07:00~08:00 에 출발하는 출근 회차" 조회를 전체 순회와 MemoryRouteScheduleIndex 로 비교한다.
+ * 회차는 하루 24시간에 고르게 퍼져 있으므로 한 시간 구간에는 전체의 약 1/48 이 걸린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteScheduleIndexBenchmark {
+
+    private static final OffsetDateTime MIDNIGHT = OffsetDateTime.of(2025, 5, 1, 0, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    @Param({"10000", "100000"})
+    int turnRoutes;
+
+    List<TurnRoute> all;
+    MemoryRouteScheduleIndex index;
+    OffsetDateTime from;
+    OffsetDateTime to;
+
+    @Setup
+    public void setUp() {
+        Route go = Route.of("GO", RouteType.GO);
+        Route back = Route.of("BACK", RouteType.BACK);
+        SplittableRandom random = new SplittableRandom(42);
+        all = new ArrayList<>(turnRoutes);
+        for (int i = 0; i < turnRoutes; i++) {
+            OffsetDateTime departure = MIDNIGHT.plusMinutes(random.nextInt(24 * 60));
+            all.add(TurnRoute.builder()
+                    .id((long) i + 1)
+                    .route(i % 2 == 0 ? go : back)
+                    .turnStations(TurnStations.of(BenchmarkFixtures.validTurnStations(2, departure)))
+                    .createdAt(MIDNIGHT)
+                    .updatedAt(MIDNIGHT)
+                    .build());
+        }
+        index = new MemoryRouteScheduleIndex();
+        index.addAll(all);
+        from = MIDNIGHT.plusHours(7);
+        to = MIDNIGHT.plusHours(8);
+    }
+
+    @Benchmark
+    public List<TurnRoute> linearScan() {
+        List<TurnRoute> found = new ArrayList<>();
+        for (TurnRoute turnRoute : all) {
+            OffsetDateTime departure = turnRoute.getTurnStations().getBeginStationExpectedArrivalTime();
+            if (turnRoute.getRoute().getType() == RouteType.GO && !departure.isBefore(from) && departure.isBefore(to)) {
+                found.add(turnRoute);
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public List<TurnRoute> index() {
+        return index.findDepartingBetween(RouteType.GO, from, to);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.benchmark;
+
+import com.example.reservation.SeatReservation;
+import com.example.reservation.SeatReservationEngine;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import com.example.turn.station.TurnStations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출근 시간 인기 회차 하나에 예약/취소가 몰리는 상황의 처리량.
+ * SeatReservationEngine(구간별 CAS) 과 회차 단위 synchronized 로 구간 배열을 보호하는 방식을 비교한다.
+ * 10개 정류장 중 앞 5개는 승차, 뒤 5개는 하차 정류장이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class SeatReservationBenchmark {
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2025, 5, 1, 7, 0, 0, 0, ZoneOffset.ofHours(9));
+    private static final int STOPS = 10;
+    private static final int BOARDING_STOPS = 5;
+    private static final int CAPACITY = 45;
+
+    SeatReservationEngine engine;
+    LockedSeats locked;
+
+    @Setup
+    public void setUp() {
+        List<TurnStation> turnStations = new ArrayList<>();
+        for (int i = 0; i < STOPS; i++) {
+            turnStations.add(TurnStation.of(
+                    null,
+                    BenchmarkFixtures.station(i + 1),
+                    i < BOARDING_STOPS ? TurnStationOnOffType.ON : TurnStationOnOffType.OFF,
+                    i == 0 ? TurnStationType.BEGIN : i == STOPS - 1 ? TurnStationType.END : TurnStationType.MIDDLE,
+                    i + 1,
+                    BASE.plusMinutes(i * 5L)));
+        }
+        TurnRoute turnRoute = TurnRoute.builder()
+                .id(1L)
+                .route(Route.of("출근", RouteType.GO))
+                .turnStations(TurnStations.of(turnStations))
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+
+        engine = new SeatReservationEngine();
+        engine.register(turnRoute, CAPACITY);
+        locked = new LockedSeats(STOPS - 1, CAPACITY);
+    }
+
+    @Benchmark
+    public boolean segmentCas() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int boarding = 1 + random.nextInt(BOARDING_STOPS);
+        int alighting = BOARDING_STOPS + 1 + random.nextInt(STOPS - BOARDING_STOPS);
+        SeatReservation reservation = engine.reserve(1L, boarding, alighting, 1).orElse(null);
+        return reservation != null && engine.cancel(reservation);
+    }
+
+    @Benchmark
+    public boolean synchronizedRoute() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int boarding = 1 + random.nextInt(BOARDING_STOPS);
+        int alighting = BOARDING_STOPS + 1 + random.nextInt(STOPS - BOARDING_STOPS);
+        SeatReservation reservation = locked.reserve(boarding, alighting);
+        return reservation != null && locked.cancel(reservation);
+    }
+
+    /**
+     * 비교 대상: 엔진과 같은 예약 기록을 남기되 회차 하나를 통째로 잠근다.
+     */
+    static final class LockedSeats {
+
+        private final int[] occupied;
+        private final int capacity;
+        private final Map<Long, SeatReservation> reservations = new HashMap<>();
+        private long sequence;
+
+        LockedSeats(int segments, int capacity) {
+            this.occupied = new int[segments];
+            this.capacity = capacity;
+        }
+
+        synchronized SeatReservation reserve(int boardingOrder, int alightingOrder) {
+            for (int segment = boardingOrder - 1; segment < alightingOrder - 1; segment++) {
+                if (occupied[segment] >= capacity) {
+                    return null;
+                }
+            }
+            for (int segment = boardingOrder - 1; segment < alightingOrder - 1; segment++) {
+                occupied[segment]++;
+            }
+            SeatReservation reservation = new SeatReservation(++sequence, 1L, boardingOrder, alightingOrder, 1);
+            reservations.put(reservation.id(), reservation);
+            return reservation;
+        }
+
+        synchronized boolean cancel(SeatReservation reservation) {
+            if (reservations.remove(reservation.id()) == null) {
+                return false;
+            }
+            for (int segment = reservation.boardingOrder() - 1; segment < reservation.alightingOrder() - 1; segment++) {
+                occupied[segment]--;
+            }
+            return true;
+        }
+    }
+}
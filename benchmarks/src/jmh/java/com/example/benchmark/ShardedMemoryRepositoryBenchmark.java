@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import com.example.memory.ShardedMemoryRepository;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShardedMemoryRepository 의 쓰기 처리량이 쓰레드 수에 따라 늘어나는지 측정한다.
+ * shards=1, idBlockSize=1 은 기존 MemoryStationRepository 와 같은 구조(맵 하나 + 공유 AtomicLong)다.
+ * save1 과 saveMax(코어 수만큼 쓰레드)의 ops/us 비율이 코어 수에 가까울수록 선형 확장에 가깝다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShardedMemoryRepositoryBenchmark {
+
+    @Param({"1", "64"})
+    int shards;
+
+    @Param({"1", "1024"})
+    int idBlockSize;
+
+    RouteRepository repository;
+    Route template;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = new RouteRepository(shards, idBlockSize);
+        template = Route.of("route", RouteType.GO);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Route save1() {
+        return repository.save(template);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Route saveMax() {
+        return repository.save(template);
+    }
+
+    static final class RouteRepository extends ShardedMemoryRepository<Route> {
+
+        RouteRepository(int shards, int idBlockSize) {
+            super(shards, idBlockSize);
+        }
+
+        @Override
+        protected Route withId(Route route, Long id, OffsetDateTime now) {
+            return Route.builder()
+                    .id(id)
+                    .name(route.getName())
+                    .type(route.getType())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.benchmark;
+
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TurnStations 생성(검증 포함) 비용을 노선 길이별로 측정한다.
+ * legacyCreate 는 스트림 기반의 이전 검증 로직으로, create 와 비교해 시간/할당 감소량을 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnStationsBenchmark {
+
+    @Param({"2", "10", "50", "100", "500"})
+    int size;
+
+    List<TurnStation> turnStations;
+
+    @Setup
+    public void setUp() {
+        turnStations = BenchmarkFixtures.validTurnStations(size, OffsetDateTime.now());
+    }
+
+    @Benchmark
+    public TurnStations create() {
+        return TurnStations.of(turnStations);
+    }
+
+    @Benchmark
+    public List<TurnStation> legacyCreate() {
+        LegacyTurnStationsValidation.validate(turnStations);
+        return List.copyOf(turnStations);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.benchmark;
+
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStations;
+import com.example.turn.station.TurnStationsBulkValidator;
+import com.example.turn.station.TurnStationsValidationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회차 5만 개(정류장 10개씩)를 검증하는 비용. invalidPercent 만큼은 마지막 정류장이 승차(ON)라 규칙을 어긴다.
+ * constructorLoop 는 생성자를 하나씩 호출하고 예외를 잡아 첫 오류만 모으는 기존 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TurnStationsBulkValidationBenchmark {
+
+    private static final int CANDIDATES = 50_000;
+    private static final int STOPS = 10;
+
+    @Param({"0", "10"})
+    int invalidPercent;
+
+    List<List<TurnStation>> candidates;
+
+    private final TurnStationsBulkValidator parallel = TurnStationsBulkValidator.create();
+    private final TurnStationsBulkValidator sequential = TurnStationsBulkValidator.create().sequential();
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime departure = OffsetDateTime.now();
+        List<TurnStation> valid = BenchmarkFixtures.validTurnStations(STOPS, departure);
+        List<TurnStation> invalid = new ArrayList<>(valid);
+        TurnStation last = valid.getLast();
+        invalid.set(STOPS - 1, TurnStation.of(null, last.getStation(), TurnStationOnOffType.ON, last.getPointType(),
+                last.getOrder(), last.getExpectedArrivalTime()));
+
+        candidates = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(i % 100 < invalidPercent ? invalid : valid);
+        }
+    }
+
+    @Benchmark
+    public TurnStationsValidationReport bulkParallel() {
+        return parallel.validate(candidates);
+    }
+
+    @Benchmark
+    public TurnStationsValidationReport bulkSequential() {
+        return sequential.validate(candidates);
+    }
+
+    @Benchmark
+    public List<String> constructorLoop() {
+        List<String> errors = new ArrayList<>();
+        for (List<TurnStation> candidate : candidates) {
+            try {
+                TurnStations.of(candidate);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        return errors;
+    }
+}
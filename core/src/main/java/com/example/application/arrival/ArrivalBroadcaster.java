@@ -0,0 +1,183 @@
+package com.example.application.arrival;
+
+import com.example.application.arrival.dto.ArrivalBoard;
+import com.example.application.arrival.dto.ArrivalResponse;
+import com.example.timetable.StationTimetable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 정류장별 도착 안내판을 구독자들에게 밀어준다.
+ * 갱신 요청(publish)은 구독자가 있는 정류장만 표시해 두고, 안내판은 정류장당 한 번만 만들어 모든 구독자에게 같은 객체를 넘긴다.
+ * 짧은 시간에 여러 번 갱신돼도 정류장 단위로 한 번, 구독자 단위로 최신 하나만 전달된다.
+ * 전송은 구독자별 가상 스레드에서 실행되므로 느린 구독자가 다른 구독자나 갱신 스레드를 막지 않는다.
+ */
+@Service
+@Profile("memory")
+public class ArrivalBroadcaster implements AutoCloseable {
+
+    private final StationTimetable stationTimetable;
+    private final int limit;
+    private final ExecutorService executor;
+    private final Clock clock;
+
+    private final ConcurrentMap<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Autowired
+    public ArrivalBroadcaster(StationTimetable stationTimetable,
+                              @Value("${arrival.stream.limit:10}") int limit) {
+        this(stationTimetable, limit, Executors.newVirtualThreadPerTaskExecutor(), Clock.systemDefaultZone());
+    }
+
+    ArrivalBroadcaster(StationTimetable stationTimetable, int limit, ExecutorService executor, Clock clock) {
+        checkArgument(limit > 0, "Limit must be positive, but was %s", limit);
+        this.stationTimetable = checkNotNull(stationTimetable, "StationTimetable cannot be null");
+        this.limit = limit;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * 정류장을 구독한다. 가장 최근 안내판(없으면 새로 만든 안내판)을 먼저 전달한다.
+     */
+    public ArrivalSubscription subscribe(Long stationId, ArrivalSink sink) {
+        checkNotNull(stationId, "Station id cannot be null");
+        checkNotNull(sink, "Sink cannot be null");
+
+        ArrivalSubscription subscription = new ArrivalSubscription(stationId, sink, this);
+        Topic topic = topics.compute(stationId, (id, current) -> {
+            Topic target = current == null ? new Topic(id) : current;
+            target.subscriptions.add(subscription);
+            return target;
+        });
+
+        ArrivalBoard latest = topic.latest.get();
+        if (latest != null) {
+            subscription.offer(latest);
+        } else {
+            topic.requestRefresh();
+        }
+        return subscription;
+    }
+
+    /**
+     * 도착 정보가 바뀐 정류장들을 알린다. 구독자가 없는 정류장은 무시한다.
+     */
+    public void publish(Collection<Long> stationIds) {
+        for (Long stationId : stationIds) {
+            Topic topic = topics.get(stationId);
+            if (topic != null) {
+                topic.requestRefresh();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        int count = 0;
+        for (Topic topic : topics.values()) {
+            count += topic.subscriptions.size();
+        }
+        return count;
+    }
+
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * 구독자가 받기 전에 더 최신 안내판으로 대체된 횟수.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    void unsubscribe(ArrivalSubscription subscription) {
+        topics.computeIfPresent(subscription.stationId(), (id, topic) -> {
+            topic.subscriptions.remove(subscription);
+            return topic.subscriptions.isEmpty() ? null : topic;
+        });
+    }
+
+    void recordDelivered() {
+        delivered.increment();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 전달하지 않는다.
+        }
+    }
+
+    private ArrivalBoard board(Long stationId, long sequence) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<ArrivalResponse> arrivals = stationTimetable.findNextArrivals(stationId, now, limit).stream()
+                .map(ArrivalResponse::from)
+                .toList();
+        return new ArrivalBoard(stationId, sequence, now, arrivals);
+    }
+
+    private final class Topic {
+
+        private final Long stationId;
+        private final Set<ArrivalSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<ArrivalBoard> latest = new AtomicReference<>();
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private Topic(Long stationId) {
+            this.stationId = stationId;
+        }
+
+        void requestRefresh() {
+            if (dirty.compareAndSet(false, true)) {
+                execute(this::refresh);
+            }
+        }
+
+        /**
+         * 표시를 지운 뒤 시간표를 읽으므로, 읽는 도중 들어온 갱신은 다음 refresh 에서 반영된다.
+         */
+        private void refresh() {
+            dirty.set(false);
+            ArrivalBoard board = board(stationId, sequence.incrementAndGet());
+            latest.accumulateAndGet(board, (current, next) ->
+                    current == null || current.sequence() < next.sequence() ? next : current);
+            for (ArrivalSubscription subscription : subscriptions) {
+                subscription.offer(board);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.application.arrival;
+
+import com.example.application.arrival.dto.ArrivalBoard;
+
+/**
+ * 구독자에게 안내판을 전달하는 출구 (SSE 연결 등).
+ * 한 구독자에 대해 동시에 호출되지 않으며, 느리게 반환하는 동안 쌓인 갱신은 최신 하나로 합쳐진다.
+ * 예외를 던지면 구독이 해지된다.
+ */
+@FunctionalInterface
+public interface ArrivalSink {
+
+    void send(ArrivalBoard board) throws Exception;
+}
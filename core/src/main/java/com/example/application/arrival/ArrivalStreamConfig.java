@@ -0,0 +1,30 @@
+package com.example.application.arrival;
+
+import com.example.timetable.StationTimetable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 컨텍스트의 StationTimetable 을 PublishingStationTimetable 로 감싸 변경이 도착 안내판 구독자에게 전달되도록 한다.
+ * 지연 재생(DelayEventReplayer) 등 시간표를 바꾸는 모든 경로가 같은 갱신 원천이 된다.
+ */
+@Configuration
+@Profile("memory")
+public class ArrivalStreamConfig {
+
+    @Bean
+    static BeanPostProcessor arrivalPublishingPostProcessor(ObjectProvider<ArrivalBroadcaster> broadcaster) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof StationTimetable timetable) || bean instanceof PublishingStationTimetable) {
+                    return bean;
+                }
+                return new PublishingStationTimetable(timetable, broadcaster::getIfAvailable);
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.application.arrival;
+
+import com.example.application.arrival.dto.ArrivalBoard;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 한 구독자의 전달 상태. 아직 보내지 못한 안내판은 최신 하나(pending)만 보관하므로
+ * 느린 구독자가 있어도 구독자당 메모리는 안내판 두 개(전송 중 + 대기)를 넘지 않는다.
+ * 전송은 구독자마다 한 번에 하나씩만 실행되며 이전 sequence 의 안내판은 버린다.
+ */
+public final class ArrivalSubscription implements AutoCloseable {
+
+    private final Long stationId;
+    private final ArrivalSink sink;
+    private final ArrivalBroadcaster broadcaster;
+
+    private final AtomicReference<ArrivalBoard> pending = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    // draining 을 잡은 스레드만 읽고 쓴다.
+    private long lastSequence;
+
+    ArrivalSubscription(Long stationId, ArrivalSink sink, ArrivalBroadcaster broadcaster) {
+        this.stationId = stationId;
+        this.sink = sink;
+        this.broadcaster = broadcaster;
+    }
+
+    public Long stationId() {
+        return stationId;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.set(null);
+        broadcaster.unsubscribe(this);
+    }
+
+    void offer(ArrivalBoard board) {
+        if (closed) {
+            return;
+        }
+        ArrivalBoard replaced = pending.getAndUpdate(current ->
+                current == null || current.sequence() < board.sequence() ? board : current);
+        if (replaced != null) {
+            broadcaster.recordCoalesced();
+        }
+        if (draining.compareAndSet(false, true)) {
+            broadcaster.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            ArrivalBoard board;
+            while (!closed && (board = pending.getAndSet(null)) != null) {
+                if (board.sequence() <= lastSequence) {
+                    continue;
+                }
+                lastSequence = board.sequence();
+                try {
+                    sink.send(board);
+                    broadcaster.recordDelivered();
+                } catch (Exception e) {
+                    close();
+                }
+            }
+            draining.set(false);
+        } while (!closed && pending.get() != null && draining.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.application.arrival;
+
+import com.example.timetable.DelayEvent;
+import com.example.timetable.StationArrival;
+import com.example.timetable.StationTimetable;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * StationTimetable 변경을 위임한 뒤 도착 정보가 바뀐 정류장을 ArrivalBroadcaster 에 알리는 데코레이터.
+ * 브로드캐스터가 시간표를 조회하므로 순환 참조를 피하기 위해 브로드캐스터는 알릴 때 찾는다.
+ */
+public class PublishingStationTimetable implements StationTimetable {
+
+    private final StationTimetable delegate;
+    private final Supplier<ArrivalBroadcaster> broadcaster;
+
+    public PublishingStationTimetable(StationTimetable delegate, Supplier<ArrivalBroadcaster> broadcaster) {
+        this.delegate = checkNotNull(delegate, "Delegate cannot be null");
+        this.broadcaster = checkNotNull(broadcaster, "Broadcaster cannot be null");
+    }
+
+    @Override
+    public void add(TurnRoute turnRoute) {
+        addAll(List.of(turnRoute));
+    }
+
+    @Override
+    public void addAll(Collection<TurnRoute> turnRoutes) {
+        checkNotNull(turnRoutes, "TurnRoutes cannot be null");
+
+        Set<Long> stationIds = new LinkedHashSet<>();
+        for (TurnRoute turnRoute : turnRoutes) {
+            if (turnRoute != null && turnRoute.getId() != null) {
+                delegate.findTurnRoute(turnRoute.getId()).ifPresent(previous -> collectStationIds(previous, 1, stationIds));
+                collectStationIds(turnRoute, 1, stationIds);
+            }
+        }
+        delegate.addAll(turnRoutes);
+        publish(stationIds);
+    }
+
+    @Override
+    public void remove(Long turnRouteId) {
+        Optional<TurnRoute> removed = turnRouteId == null ? Optional.empty() : delegate.findTurnRoute(turnRouteId);
+        delegate.remove(turnRouteId);
+
+        Set<Long> stationIds = new LinkedHashSet<>();
+        removed.ifPresent(turnRoute -> collectStationIds(turnRoute, 1, stationIds));
+        publish(stationIds);
+    }
+
+    @Override
+    public List<StationArrival> findNextArrivals(Long stationId, OffsetDateTime from, int limit) {
+        return delegate.findNextArrivals(stationId, from, limit);
+    }
+
+    @Override
+    public void applyDelay(DelayEvent event) {
+        delegate.applyDelay(event);
+
+        Set<Long> stationIds = new LinkedHashSet<>();
+        delegate.findTurnRoute(event.turnRouteId()).ifPresent(turnRoute -> collectStationIds(turnRoute, event.order(), stationIds));
+        publish(stationIds);
+    }
+
+    @Override
+    public Optional<TurnRoute> findTurnRoute(Long turnRouteId) {
+        return delegate.findTurnRoute(turnRouteId);
+    }
+
+    private void publish(Set<Long> stationIds) {
+        if (stationIds.isEmpty()) {
+            return;
+        }
+        ArrivalBroadcaster target = broadcaster.get();
+        if (target != null) {
+            target.publish(stationIds);
+        }
+    }
+
+    private static void collectStationIds(TurnRoute turnRoute, int fromOrder, Set<Long> stationIds) {
+        for (TurnStation turnStation : turnRoute.getTurnStations().turnStations()) {
+            if (turnStation.getOrder() >= fromOrder && turnStation.getStation() != null) {
+                stationIds.add(turnStation.getStation().getId());
+            }
+        }
+    }
+}
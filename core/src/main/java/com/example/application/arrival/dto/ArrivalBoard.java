@@ -0,0 +1,16 @@
+package com.example.application.arrival.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 한 정류장의 도착 안내판. sequence 는 정류장마다 1 부터 증가하며, 구독자는 건너뛴 번호가 있어도 최신 안내판만 받으면 된다.
+ * 같은 갱신의 안내판 객체 하나를 모든 구독자가 공유한다.
+ */
+public record ArrivalBoard(
+        Long stationId,
+        long sequence,
+        OffsetDateTime publishedAt,
+        List<ArrivalResponse> arrivals
+) {
+}
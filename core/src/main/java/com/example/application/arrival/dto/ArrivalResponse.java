@@ -0,0 +1,27 @@
+package com.example.application.arrival.dto;
+
+import com.example.route.RouteType;
+import com.example.timetable.StationArrival;
+import com.example.turn.station.TurnStationOnOffType;
+
+import java.time.OffsetDateTime;
+
+public record ArrivalResponse(
+        Long turnRouteId,
+        String routeName,
+        RouteType routeType,
+        int order,
+        TurnStationOnOffType onOffType,
+        OffsetDateTime expectedArrivalTime
+) {
+
+    public static ArrivalResponse from(StationArrival arrival) {
+        return new ArrivalResponse(
+                arrival.turnRoute().getId(),
+                arrival.route().getName(),
+                arrival.route().getType(),
+                arrival.turnStation().getOrder(),
+                arrival.onOffType(),
+                arrival.expectedArrivalTime());
+    }
+}
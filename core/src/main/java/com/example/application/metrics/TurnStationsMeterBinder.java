@@ -0,0 +1,35 @@
+package com.example.application.metrics;
+
+import com.example.turn.station.TurnStationsMetrics;
+import com.example.turn.station.TurnStationsRule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인이 누적한 TurnStations 검증 횟수를 지표로 내보낸다.
+ * turn.stations.validations{result=passed|violated, rule=...} 와 검증을 통과한 정류장 수 turn.stations.validated.stations 를 등록한다.
+ */
+@Component
+public class TurnStationsMeterBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("turn.stations.validations", TurnStationsMetrics.class, ignored -> TurnStationsMetrics.passedCount())
+                .description("TurnStations validations")
+                .tag("result", "passed")
+                .tag("rule", "none")
+                .register(registry);
+        for (TurnStationsRule rule : TurnStationsRule.values()) {
+            FunctionCounter.builder("turn.stations.validations", rule, TurnStationsMetrics::violationCount)
+                    .description("TurnStations validations")
+                    .tag("result", "violated")
+                    .tag("rule", rule.name())
+                    .register(registry);
+        }
+        FunctionCounter.builder("turn.stations.validated.stations", TurnStationsMetrics.class, ignored -> TurnStationsMetrics.passedStationCount())
+                .description("Stations contained in TurnStations that passed validation")
+                .register(registry);
+    }
+}
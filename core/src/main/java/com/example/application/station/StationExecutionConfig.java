@@ -0,0 +1,23 @@
+package com.example.application.station;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * station.execution.mode=virtual 이면 Tomcat 의 요청 처리 스레드도 가상 스레드로 바꿔,
+ * 요청 수신부터 저장소 호출까지 전부 가상 스레드에서 실행되게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "station.execution", name = "mode", havingValue = "virtual")
+public class StationExecutionConfig {
+
+    @Bean
+    TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tomcat-handler-", 0).factory()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.application.station;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 정류장 API 요청과 저장소 호출을 실행할 스레드 종류.
+ * PLATFORM 은 고정 크기 플랫폼 스레드 풀로, 저장소가 느려지면 풀 크기가 곧 동시 처리 한도가 된다.
+ * VIRTUAL 은 요청마다 가상 스레드를 쓰므로 저장소 대기 중에는 캐리어 스레드를 점유하지 않는다.
+ */
+public enum StationExecutionMode {
+
+    PLATFORM {
+        @Override
+        ExecutorService newExecutor(int platformThreads) {
+            checkArgument(platformThreads > 0, "Platform threads must be positive, but was %s", platformThreads);
+            return Executors.newFixedThreadPool(platformThreads, Thread.ofPlatform().name("station-", 0).factory());
+        }
+    },
+    VIRTUAL {
+        @Override
+        ExecutorService newExecutor(int platformThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("station-", 0).factory());
+        }
+    };
+
+    abstract ExecutorService newExecutor(int platformThreads);
+}
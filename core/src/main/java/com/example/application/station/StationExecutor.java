@@ -0,0 +1,45 @@
+package com.example.application.station;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * station.execution.mode 에 따라 만든 실행기에서 정류장 작업을 비동기로 실행한다.
+ * 요청 스레드는 작업을 넘기고 바로 반환되며, 응답은 작업이 끝난 스레드에서 이어서 쓴다.
+ * Executor 빈으로 등록하지 않는 이유는 Spring 의 기본 applicationTaskExecutor 를 대체하지 않기 위해서다.
+ */
+@Component
+public class StationExecutor implements AutoCloseable {
+
+    private final StationExecutionMode mode;
+    private final ExecutorService executor;
+
+    @Autowired
+    public StationExecutor(@Value("${station.execution.mode:platform}") StationExecutionMode mode,
+                           @Value("${station.execution.platform-threads:200}") int platformThreads) {
+        this(mode, mode.newExecutor(platformThreads));
+    }
+
+    StationExecutor(StationExecutionMode mode, ExecutorService executor) {
+        this.mode = mode;
+        this.executor = executor;
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public StationExecutionMode mode() {
+        return mode;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
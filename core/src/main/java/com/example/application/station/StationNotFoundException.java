@@ -0,0 +1,11 @@
+package com.example.application.station;
+
+/**
+ * 요청한 id 의 정류장이 없을 때 발생한다. API 에서는 404 로 응답한다.
+ */
+public class StationNotFoundException extends RuntimeException {
+
+    public StationNotFoundException(Long stationId) {
+        super("Station not found with id: " + stationId);
+    }
+}
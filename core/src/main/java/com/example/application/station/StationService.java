@@ -4,20 +4,104 @@ import com.example.application.station.dto.StationWriteRequest;
 import com.example.common.Location;
 import com.example.station.Station;
 import com.example.station.StationRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 정류장 등록/조회. 메서드별 호출 수는 station.service.calls 로 모두 세고, 지연 시간은 sampleInterval 번에 한 번꼴로 골라
+ * station.service 타이머(method 태그)에 기록한다. 표본 간격은 저장소 계측과 같은 station.metrics.sample-interval 을 쓴다.
+ * 일괄 조회 크기는 station.service.batch.size 로 기록한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class StationService {
 
     private final StationRepository stationRepository;
+    private final SampledTimer findByIdTimer;
+    private final SampledTimer findAllByIdTimer;
+    private final SampledTimer createTimer;
+    private final DistributionSummary batchSize;
+
+    public StationService(StationRepository stationRepository) {
+        this(stationRepository, Metrics.globalRegistry, 1);
+    }
+
+    @Autowired
+    public StationService(StationRepository stationRepository, MeterRegistry meterRegistry,
+                          @Value("${station.metrics.sample-interval:1}") int sampleInterval) {
+        checkArgument(sampleInterval > 0, "Sample interval must be positive, but was %s", sampleInterval);
+        this.stationRepository = stationRepository;
+        this.findByIdTimer = new SampledTimer(meterRegistry, "findById", sampleInterval);
+        this.findAllByIdTimer = new SampledTimer(meterRegistry, "findAllById", sampleInterval);
+        this.createTimer = new SampledTimer(meterRegistry, "create", sampleInterval);
+        this.batchSize = DistributionSummary.builder("station.service.batch.size")
+                .description("Number of ids requested by findAllById")
+                .register(meterRegistry);
+    }
 
     public Station findById(Long stationId) {
-        return stationRepository.findById(stationId).orElseThrow(() -> new IllegalArgumentException("Station not found with id: " + stationId));
+        return findByIdTimer.record(() -> stationRepository.findById(stationId)
+                .orElseThrow(() -> new StationNotFoundException(stationId)));
     }
 
-    public void create(StationWriteRequest request) {
-        stationRepository.save(Station.of(request.name(), Location.of(request.latitude(), request.longitude())));
+    /**
+     * 존재하지 않는 id 는 결과에서 제외된다. 결과 순서는 요청한 id 순서를 따른다.
+     */
+    public List<Station> findAllById(Collection<Long> stationIds) {
+        batchSize.record(stationIds.size());
+        return findAllByIdTimer.record(() -> stationRepository.findAllById(stationIds));
+    }
+
+    /**
+     * 이름이 없거나 좌표가 범위를 벗어나면 IllegalArgumentException 이 발생한다.
+     */
+    public Station create(StationWriteRequest request) {
+        checkArgument(request.name() != null, "Station name cannot be null");
+        return createTimer.record(() ->
+                stationRepository.save(Station.of(request.name(), Location.of(request.latitude(), request.longitude()))));
+    }
+
+    /**
+     * 호출은 모두 세고 지연 시간은 sampleInterval 번에 한 번꼴로만 잰다. InstrumentedStationRepository 와 같은 방식이다.
+     */
+    private static final class SampledTimer {
+
+        private final Timer timer;
+        private final LongAdder calls = new LongAdder();
+        private final int sampleInterval;
+
+        private SampledTimer(MeterRegistry meterRegistry, String method, int sampleInterval) {
+            this.timer = Timer.builder("station.service")
+                    .description("Sampled StationService call latency")
+                    .tag("method", method)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            FunctionCounter.builder("station.service.calls", calls, LongAdder::sum)
+                    .description("StationService calls")
+                    .tag("method", method)
+                    .register(meterRegistry);
+            this.sampleInterval = sampleInterval;
+        }
+
+        private <T> T record(Supplier<T> call) {
+            calls.increment();
+            if (sampleInterval > 1 && ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+                return call.get();
+            }
+            return timer.record(call);
+        }
     }
 }
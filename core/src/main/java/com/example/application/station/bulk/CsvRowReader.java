@@ -0,0 +1,98 @@
+package com.example.application.station.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV 를 한 행씩 읽는다. 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" 이스케이프를 지원한다.
+ * 입력 전체를 메모리에 올리지 않으며 현재 행만 보관한다.
+ */
+class CsvRowReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = Integer.MIN_VALUE;
+    private long lineNumber;
+
+    CsvRowReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행의 필드 목록을 반환한다. 더 이상 행이 없으면 null 을 반환한다.
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다. (line " + lineNumber + ")");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 행이 끝난 줄 번호 (1부터 시작)
+     */
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != Integer.MIN_VALUE) {
+            int c = pushedBack;
+            pushedBack = Integer.MIN_VALUE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
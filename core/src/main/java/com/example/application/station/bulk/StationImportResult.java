@@ -0,0 +1,19 @@
+package com.example.application.station.bulk;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과. rejections 는 메모리 사용량을 제한하기 위해 앞에서부터 최대 N 건만 담는다.
+ */
+public record StationImportResult(
+        long accepted,
+        long rejected,
+        List<RejectedRow> rejections
+) {
+
+    public record RejectedRow(
+            long line,
+            String reason
+    ) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.application.station.bulk;
+
+import com.example.application.station.dto.StationWriteRequest;
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * CSV(name,latitude,longitude) 또는 GTFS stops.txt(stop_name,stop_lat,stop_lon) 를 스트리밍으로 읽어 정류장을 일괄 등록한다.
+ * 한 번에 batchSize 개씩만 메모리에 두고 StationRepository.saveAll 로 저장하므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * 잘못된 행은 건너뛰고 결과에 사유를 남긴다.
+ */
+@Service
+public class StationImportService {
+
+    static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final StationRepository stationRepository;
+    private final int batchSize;
+
+    public StationImportService(StationRepository stationRepository,
+                                @Value("${station.import.batch-size:1000}") int batchSize) {
+        checkArgument(batchSize > 0, "Batch size must be positive, but was %s", batchSize);
+        this.stationRepository = stationRepository;
+        this.batchSize = batchSize;
+    }
+
+    public StationImportResult importStations(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return importStations(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public StationImportResult importStations(InputStream in) {
+        checkNotNull(in, "Input cannot be null");
+        return importStations(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public StationImportResult importStations(Reader reader) {
+        checkNotNull(reader, "Reader cannot be null");
+
+        try {
+            CsvRowReader rows = new CsvRowReader(reader instanceof BufferedReader ? reader : new BufferedReader(reader));
+            Columns columns = Columns.from(rows.next());
+
+            Progress progress = new Progress();
+            List<Station> batch = new ArrayList<>(batchSize);
+            List<String> row;
+            while ((row = rows.next()) != null) {
+                if (row.size() == 1 && row.getFirst().isBlank()) {
+                    continue;
+                }
+
+                try {
+                    batch.add(toStation(columns.toRequest(row)));
+                } catch (IllegalArgumentException e) {
+                    progress.reject(rows.lineNumber(), e.getMessage());
+                    continue;
+                }
+
+                if (batch.size() == batchSize) {
+                    flush(batch, progress);
+                }
+            }
+            flush(batch, progress);
+
+            return progress.toResult();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 값 검증은 모두 checkArgument 로 하므로 잘못된 행은 IllegalArgumentException 으로만 거절된다.
+     */
+    private Station toStation(StationWriteRequest request) {
+        checkArgument(request.name() != null, "정류장 이름이 없습니다.");
+        return Station.of(request.name(), Location.of(request.latitude(), request.longitude()));
+    }
+
+    private void flush(List<Station> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        stationRepository.saveAll(batch);
+        progress.accepted += batch.size();
+        batch.clear();
+    }
+
+    private static final class Progress {
+
+        private long accepted;
+        private long rejected;
+        private final List<StationImportResult.RejectedRow> rejections = new ArrayList<>();
+
+        private void reject(long line, String reason) {
+            rejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(new StationImportResult.RejectedRow(line, reason));
+            }
+        }
+
+        private StationImportResult toResult() {
+            return new StationImportResult(accepted, rejected, List.copyOf(rejections));
+        }
+    }
+
+    /**
+     * 헤더에서 이름/위도/경도 컬럼의 위치를 찾는다.
+     */
+    private record Columns(int name, int latitude, int longitude) {
+
+        private static Columns from(List<String> header) {
+            checkArgument(header != null, "헤더가 없습니다.");
+
+            int name = -1;
+            int latitude = -1;
+            int longitude = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                switch (column) {
+                    case "name", "stop_name" -> name = i;
+                    case "latitude", "lat", "stop_lat" -> latitude = i;
+                    case "longitude", "lng", "lon", "stop_lon" -> longitude = i;
+                    default -> {
+                    }
+                }
+            }
+
+            checkArgument(name >= 0 && latitude >= 0 && longitude >= 0, "헤더에 이름/위도/경도 컬럼이 모두 있어야 합니다: %s", header);
+            return new Columns(name, latitude, longitude);
+        }
+
+        private StationWriteRequest toRequest(List<String> row) {
+            int required = Math.max(name, Math.max(latitude, longitude));
+            checkArgument(row.size() > required, "컬럼 수가 부족합니다. (%s개)", row.size());
+
+            checkArgument(row.get(name) != null, "정류장 이름이 비어 있습니다.");
+            String stationName = row.get(name).trim();
+            checkArgument(!stationName.isEmpty(), "정류장 이름이 비어 있습니다.");
+
+            return new StationWriteRequest(stationName, parse(row.get(latitude), "위도"), parse(row.get(longitude), "경도"));
+        }
+
+        private static double parse(String value, String column) {
+            checkArgument(value != null && !value.isBlank(), "%s 값이 비어 있습니다.", column);
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+    }
+}
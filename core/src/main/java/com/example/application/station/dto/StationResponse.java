@@ -0,0 +1,19 @@
+package com.example.application.station.dto;
+
+import com.example.station.Station;
+
+public record StationResponse(
+        Long id,
+        String name,
+        double latitude,
+        double longitude
+) {
+
+    public static StationResponse from(Station station) {
+        return new StationResponse(
+                station.getId(),
+                station.getName(),
+                station.getLocation().lat(),
+                station.getLocation().lng());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.presentation.arrival;
+
+import com.example.application.arrival.ArrivalBroadcaster;
+import com.example.application.arrival.ArrivalSubscription;
+import com.example.application.arrival.dto.ArrivalBoard;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * 정류장 도착 안내판을 SSE 로 내려준다. 연결 직후 현재 안내판을 보내고 이후 바뀔 때마다 event: arrivals 로 보낸다.
+ * 같은 갱신은 모든 구독자가 같은 ArrivalBoard 객체를 받으므로 JSON 직렬화는 안내판마다 한 번만 한다.
+ */
+@RestController
+@Profile("memory")
+@RequestMapping("/stations")
+public class ArrivalStreamController {
+
+    private final ArrivalBroadcaster arrivalBroadcaster;
+    private final Duration timeout;
+    // 키는 동일성(==)으로 비교하고, 안내판이 더 이상 쓰이지 않으면 함께 사라진다.
+    private final LoadingCache<ArrivalBoard, String> encoded;
+
+    public ArrivalStreamController(ArrivalBroadcaster arrivalBroadcaster,
+                                   ObjectMapper objectMapper,
+                                   @Value("${arrival.stream.timeout:30m}") Duration timeout) {
+        this.arrivalBroadcaster = arrivalBroadcaster;
+        this.timeout = timeout;
+        this.encoded = CacheBuilder.newBuilder()
+                .weakKeys()
+                .build(CacheLoader.from(board -> {
+                    try {
+                        return objectMapper.writeValueAsString(board);
+                    } catch (JsonProcessingException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+    @GetMapping(value = "/{stationId}/arrivals/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamArrivals(@PathVariable Long stationId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        ArrivalSubscription subscription = arrivalBroadcaster.subscribe(stationId, board -> emitter.send(SseEmitter.event()
+                .id(Long.toString(board.sequence()))
+                .name("arrivals")
+                .data(encoded.getUnchecked(board), MediaType.APPLICATION_JSON)));
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+}
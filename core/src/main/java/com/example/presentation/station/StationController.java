@@ -0,0 +1,67 @@
+package com.example.presentation.station;
+
+import com.example.application.station.StationExecutor;
+import com.example.application.station.StationNotFoundException;
+import com.example.application.station.StationService;
+import com.example.application.station.dto.StationResponse;
+import com.example.application.station.dto.StationWriteRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 정류장 등록/조회 API. 저장소 호출은 StationExecutor 에서 실행하고 요청 스레드는 CompletableFuture 만 반환한다.
+ */
+@RestController
+@RequestMapping("/stations")
+@RequiredArgsConstructor
+public class StationController {
+
+    static final int MAX_BATCH_SIZE = 1_000;
+
+    private final StationService stationService;
+    private final StationExecutor stationExecutor;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<StationResponse>> create(@RequestBody StationWriteRequest request) {
+        return stationExecutor.supply(() -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(StationResponse.from(stationService.create(request))));
+    }
+
+    @GetMapping("/{stationId}")
+    public CompletableFuture<StationResponse> findById(@PathVariable Long stationId) {
+        return stationExecutor.supply(() -> StationResponse.from(stationService.findById(stationId)));
+    }
+
+    @GetMapping(params = "ids")
+    public CompletableFuture<List<StationResponse>> findAllById(@RequestParam List<Long> ids) {
+        checkArgument(ids.size() <= MAX_BATCH_SIZE, "한 번에 조회할 수 있는 정류장은 %s 개까지입니다.", MAX_BATCH_SIZE);
+        return stationExecutor.supply(() -> stationService.findAllById(ids).stream()
+                .map(StationResponse::from)
+                .toList());
+    }
+
+    // 요청 값 검증(Preconditions.checkArgument) 실패만 400 으로 응답한다. 그 밖의 예외는 서버 오류로 남긴다.
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(StationNotFoundException.class)
+    public ResponseEntity<String> handleNotFound(StationNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+}
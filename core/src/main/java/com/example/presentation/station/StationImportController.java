@@ -0,0 +1,27 @@
+package com.example.presentation.station;
+
+import com.example.application.station.bulk.StationImportResult;
+import com.example.application.station.bulk.StationImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 요청 본문(CSV / GTFS stops.txt)을 버퍼링하지 않고 그대로 스트리밍해서 일괄 등록한다.
+ */
+@RestController
+@RequestMapping("/stations")
+@RequiredArgsConstructor
+public class StationImportController {
+
+    private final StationImportService stationImportService;
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public StationImportResult importStations(InputStream body) {
+        return stationImportService.importStations(body);
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.application.arrival;
+
+import com.example.application.arrival.dto.ArrivalBoard;
+import com.example.application.arrival.dto.ArrivalResponse;
+import com.example.fixture.TransitFixtures;
+import com.example.memory.MemoryStationTimetable;
+import com.example.station.Station;
+import com.example.timetable.DelayEvent;
+import com.example.turn.route.TurnRoute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.route;
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArrivalBroadcasterTest {
+
+    private final MemoryStationTimetable memoryTimetable = new MemoryStationTimetable();
+    private final ArrivalBroadcaster broadcaster = new ArrivalBroadcaster(
+            memoryTimetable, 10, Executors.newVirtualThreadPerTaskExecutor(), Clock.fixed(BASE.toInstant(), BASE.getOffset()));
+    private final PublishingStationTimetable timetable = new PublishingStationTimetable(memoryTimetable, () -> broadcaster);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 도착 안내판을 먼저 받는다")
+    void receiveCurrentBoardOnSubscribe() {
+        // given
+        List<Station> stations = stations(3);
+        timetable.add(turnRoute(10L, stations, 0));
+        RecordingSink sink = new RecordingSink();
+
+        // when
+        broadcaster.subscribe(2L, sink);
+
+        // then
+        await(() -> sink.boards.size() == 1);
+        ArrivalBoard board = sink.boards.getFirst();
+        assertThat(board.stationId()).isEqualTo(2L);
+        assertThat(board.arrivals()).extracting(ArrivalResponse::expectedArrivalTime).containsExactly(BASE.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("지연이 반영되면 영향을 받은 정류장의 구독자에게만 새 안내판을 보낸다")
+    void publishOnlyToAffectedStations() {
+        // given
+        List<Station> stations = stations(3);
+        timetable.add(turnRoute(10L, stations, 0));
+        RecordingSink first = new RecordingSink();
+        RecordingSink last = new RecordingSink();
+        broadcaster.subscribe(1L, first);
+        broadcaster.subscribe(3L, last);
+        await(() -> first.boards.size() == 1 && last.boards.size() == 1);
+
+        // when
+        timetable.applyDelay(new DelayEvent(10L, 2, Duration.ofMinutes(5)));
+
+        // then
+        await(() -> last.boards.size() == 2);
+        assertThat(last.boards.getLast().arrivals())
+                .extracting(ArrivalResponse::expectedArrivalTime)
+                .containsExactly(BASE.plusMinutes(25));
+        assertThat(first.boards).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("느린 구독자에게는 밀린 갱신을 최신 안내판 하나로 합쳐 보낸다")
+    void coalesceUpdatesForSlowSubscriber() throws InterruptedException {
+        // given
+        List<Station> stations = stations(2);
+        timetable.add(turnRoute(10L, stations, 0));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink(release);
+        RecordingSink fast = new RecordingSink();
+        broadcaster.subscribe(2L, slow);
+        broadcaster.subscribe(2L, fast);
+        await(() -> slow.boards.size() == 1 && fast.boards.size() == 1);
+
+        // when
+        // 갱신 하나가 빠른 구독자에게 도착한 뒤 다음 갱신을 보내, 정류장 단위 합치기와 무관하게 안내판이 여러 번 발행되게 한다
+        for (int minutes = 1; minutes <= 5; minutes++) {
+            timetable.applyDelay(new DelayEvent(10L, 2, Duration.ofMinutes(minutes)));
+            OffsetDateTime expected = BASE.plusMinutes(10 + minutes);
+            await(() -> arrivalTimeOf(fast).equals(expected));
+        }
+        release.countDown();
+
+        // then
+        await(() -> arrivalTimeOf(slow).equals(BASE.plusMinutes(15)));
+        assertThat(slow.boards).hasSize(2);
+        assertThat(slow.boards.getLast().sequence()).isGreaterThan(slow.boards.getFirst().sequence());
+        assertThat(broadcaster.coalescedCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("구독을 해지하거나 전송에 실패하면 더 이상 안내판을 받지 않는다")
+    void stopDeliveringAfterClose() {
+        // given
+        timetable.add(turnRoute(10L, stations(2), 0));
+        RecordingSink sink = new RecordingSink();
+        ArrivalSubscription subscription = broadcaster.subscribe(2L, sink);
+        ArrivalSubscription failing = broadcaster.subscribe(2L, board -> {
+            throw new IllegalStateException("연결이 끊어졌습니다.");
+        });
+        await(() -> sink.boards.size() == 1 && failing.isClosed());
+
+        // when
+        subscription.close();
+        timetable.applyDelay(new DelayEvent(10L, 2, Duration.ofMinutes(3)));
+
+        // then
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(sink.boards).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("수만 명의 구독자에게 갱신을 나눠 보내고 모든 구독자가 최신 안내판에 도달한다")
+    void fanOutToTensOfThousandsOfSubscribers() {
+        // given
+        int stationCount = 200;
+        int subscriberCount = 20_000;
+        List<Station> stations = stations(stationCount);
+        List<TurnRoute> turnRoutes = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            List<Station> path = new ArrayList<>();
+            for (int j = 0; j < 20; j++) {
+                path.add(stations.get((i * 3 + j) % stationCount));
+            }
+            turnRoutes.add(turnRoute((long) i, path, i % 60));
+        }
+        timetable.addAll(turnRoutes);
+
+        List<LatestSink> sinks = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            LatestSink sink = new LatestSink((long) (i % stationCount) + 1);
+            sinks.add(sink);
+            broadcaster.subscribe(sink.stationId, sink);
+        }
+        await(() -> sinks.stream().allMatch(sink -> sink.latest != null));
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            timetable.applyDelay(new DelayEvent((long) (i % 400), 1 + i % 20, Duration.ofSeconds(i % 600)));
+        }
+
+        // then
+        await(() -> sinks.stream().allMatch(sink -> sink.latest.arrivals().equals(expectedArrivals(sink.stationId))));
+        assertThat(broadcaster.subscriberCount()).isEqualTo(subscriberCount);
+        assertThat(broadcaster.deliveredCount()).isGreaterThanOrEqualTo(subscriberCount);
+    }
+
+    private List<ArrivalResponse> expectedArrivals(Long stationId) {
+        return memoryTimetable.findNextArrivals(stationId, BASE, 10).stream().map(ArrivalResponse::from).toList();
+    }
+
+    private OffsetDateTime arrivalTimeOf(RecordingSink sink) {
+        return sink.boards.getLast().arrivals().getFirst().expectedArrivalTime();
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 만족하지 못했습니다.").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class RecordingSink implements ArrivalSink {
+
+        private final List<ArrivalBoard> boards = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        private RecordingSink() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(ArrivalBoard board) throws InterruptedException {
+            boards.add(board);
+            release.await();
+        }
+    }
+
+    private static final class LatestSink implements ArrivalSink {
+
+        private final Long stationId;
+        private volatile ArrivalBoard latest;
+
+        private LatestSink(Long stationId) {
+            this.stationId = stationId;
+        }
+
+        @Override
+        public void send(ArrivalBoard board) {
+            latest = board;
+        }
+    }
+
+    private TurnRoute turnRoute(Long id, List<Station> stations, int departureOffsetMinutes) {
+        return TransitFixtures.turnRoute(id, route(id), stations, BASE.plusMinutes(departureOffsetMinutes), 10);
+    }
+
+    private List<Station> stations(int count) {
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            stations.add(station(id));
+        }
+        return stations;
+    }
+}
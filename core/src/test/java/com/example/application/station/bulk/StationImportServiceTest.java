@@ -0,0 +1,129 @@
+package com.example.application.station.bulk;
+
+import com.example.memory.MemoryStationRepository;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StationImportServiceTest {
+
+    private final RecordingStationRepository repository = new RecordingStationRepository();
+
+    @Test
+    @DisplayName("CSV 파일의 정류장을 배치 단위로 저장한다")
+    void importCsvInBatches() {
+        // given
+        StationImportService service = new StationImportService(repository, 2);
+        String csv = """
+                name,latitude,longitude
+                강남역,37.4979,127.0276
+                역삼역,37.5006,127.0364
+                "서울역, 1번 출구",37.5547,126.9707
+                """;
+
+        // when
+        StationImportResult result = service.importStations(new StringReader(csv));
+
+        // then
+        assertThat(result.accepted()).isEqualTo(3);
+        assertThat(result.rejected()).isZero();
+        assertThat(repository.batchSizes).containsExactly(2, 1);
+        assertThat(repository.findById(3L)).hasValueSatisfying(station ->
+                assertThat(station.getName()).isEqualTo("서울역, 1번 출구"));
+    }
+
+    @Test
+    @DisplayName("GTFS stops.txt 형식을 읽을 수 있다")
+    void importGtfsStops() {
+        // given
+        StationImportService service = new StationImportService(repository, 100);
+        String stops = "﻿stop_id,stop_code,stop_name,stop_lat,stop_lon,location_type\r\n"
+                + "S1,100,\"Gangnam \"\"Central\"\"\",37.4979,127.0276,0\r\n"
+                + "S2,101,Yeoksam,37.5006,127.0364,0\r\n";
+
+        // when
+        StationImportResult result = service.importStations(new StringReader(stops));
+
+        // then
+        assertThat(result.accepted()).isEqualTo(2);
+        assertThat(repository.findById(1L)).hasValueSatisfying(station ->
+                assertThat(station.getName()).isEqualTo("Gangnam \"Central\""));
+    }
+
+    @Test
+    @DisplayName("잘못된 행은 건너뛰고 사유를 결과에 남긴다")
+    void rejectInvalidRows() {
+        // given
+        StationImportService service = new StationImportService(repository, 10);
+        String csv = """
+                name,latitude,longitude
+                강남역,37.4979,127.0276
+                ,37.5,127.0
+                위도오류,91,127.0
+                숫자아님,abc,127.0
+                위도없음,,127.0
+                컬럼부족,37.5
+
+                역삼역,37.5006,127.0364
+                """;
+
+        // when
+        StationImportResult result = service.importStations(new StringReader(csv));
+
+        // then
+        assertThat(result.accepted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(5);
+        assertThat(result.rejections()).extracting(StationImportResult.RejectedRow::line).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(result.rejections().get(1).reason()).contains("Latitude");
+        assertThat(result.rejections().get(3).reason()).isEqualTo("위도 값이 비어 있습니다.");
+    }
+
+    @Test
+    @DisplayName("거절된 행 사유는 최대 개수까지만 보관한다")
+    void limitReportedRejections() {
+        // given
+        StationImportService service = new StationImportService(repository, 10);
+        StringBuilder csv = new StringBuilder("name,latitude,longitude\n");
+        for (int i = 0; i < StationImportService.MAX_REPORTED_REJECTIONS * 3; i++) {
+            csv.append("bad,x,y\n");
+        }
+
+        // when
+        StationImportResult result = service.importStations(new StringReader(csv.toString()));
+
+        // then
+        assertThat(result.rejected()).isEqualTo(StationImportService.MAX_REPORTED_REJECTIONS * 3L);
+        assertThat(result.rejections()).hasSize(StationImportService.MAX_REPORTED_REJECTIONS);
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없는 헤더면 예외가 발생한다")
+    void throwExceptionWhenHeaderIsInvalid() {
+        StationImportService service = new StationImportService(repository, 10);
+        Reader reader = new StringReader("id,name\n1,강남역\n");
+
+        assertThatThrownBy(() -> service.importStations(reader))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("헤더에 이름/위도/경도 컬럼이 모두 있어야 합니다");
+    }
+
+    private static class RecordingStationRepository extends MemoryStationRepository {
+
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public List<Station> saveAll(Collection<Station> stations) {
+            batchSizes.add(stations.size());
+            return super.saveAll(stations);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.presentation.station;
+
+import com.example.Main;
+import com.example.application.station.StationExecutionMode;
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 호출마다 지연을 넣고 두 실행 방식의 처리량과 p99 지연을 비교한다.
+ * 실제 Tomcat 을 띄워 HTTP 로 호출하며, 기본 test 에서는 제외되고 ./gradlew :core:loadTest 로 실행한다.
+ */
+@Tag("load")
+class StationApiLoadTest {
+
+    private static final Duration BACKEND_LATENCY = Duration.ofMillis(20);
+    private static final int PLATFORM_THREADS = 32;
+    private static final int CONCURRENCY = 400;
+    private static final int REQUESTS = 8_000;
+    private static final int STATIONS = 1_000;
+
+    @Test
+    @DisplayName("저장소가 느릴 때 가상 스레드 방식이 고정 풀보다 처리량이 높고 p99 지연이 낮다")
+    void compareExecutionModes() throws Exception {
+        LoadResult platform = run(StationExecutionMode.PLATFORM);
+        LoadResult virtual = run(StationExecutionMode.VIRTUAL);
+
+        System.out.printf("backend latency %d ms, concurrency %d, %d requests%n",
+                BACKEND_LATENCY.toMillis(), CONCURRENCY, REQUESTS);
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.requestsPerSecond()).isGreaterThan(platform.requestsPerSecond());
+        assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+    }
+
+    private LoadResult run(StationExecutionMode mode) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Main.class, LatencyConfig.class)
+                .properties(
+                        // application.yml 의 db.yml import 를 건너뛰고 memory 프로파일 설정만 사용한다.
+                        "spring.config.location=optional:classpath:/none.yml",
+                        "spring.profiles.active=memory",
+                        "spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration",
+                        "server.port=0",
+                        "logging.level.root=warn",
+                        "station.execution.mode=" + mode.name().toLowerCase(),
+                        "station.execution.platform-threads=" + PLATFORM_THREADS)
+                .run()) {
+            StationRepository repository = context.getBean(StationRepository.class);
+            List<Station> stations = new ArrayList<>();
+            for (int i = 0; i < STATIONS; i++) {
+                stations.add(Station.of("station-" + i, Location.of(37.5, 127.0)));
+            }
+            repository.saveAll(stations);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return load(mode, URI.create("http://localhost:" + port + "/stations/"));
+        }
+    }
+
+    private LoadResult load(StationExecutionMode mode, URI base) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // 연결과 JIT 를 데운다.
+        for (int i = 1; i <= 200; i++) {
+            client.send(HttpRequest.newBuilder(base.resolve(Integer.toString(i))).build(), HttpResponse.BodyHandlers.discarding());
+        }
+
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures.add(clients.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpRequest request = HttpRequest.newBuilder(base.resolve(Integer.toString(1 + index % STATIONS))).build();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new LoadResult(mode, REQUESTS * 1e9 / elapsed,
+                latencies[REQUESTS / 2] / 1e6, latencies[(int) (REQUESTS * 0.99)] / 1e6, failures.get());
+    }
+
+    private record LoadResult(StationExecutionMode mode, double requestsPerSecond, double p50Millis, double p99Millis, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("%-8s %8.0f req/s  p50 %7.1f ms  p99 %7.1f ms  failures %d",
+                    mode, requestsPerSecond, p50Millis, p99Millis, failures);
+        }
+    }
+
+    /**
+     * 모든 StationRepository 조회에 BACKEND_LATENCY 만큼 블로킹 지연을 넣는다.
+     */
+    @Configuration
+    static class LatencyConfig {
+
+        @Bean
+        static BeanPostProcessor latencyInjectingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof StationRepository repository)) {
+                        return bean;
+                    }
+                    return new SlowStationRepository(repository);
+                }
+            };
+        }
+    }
+
+    private record SlowStationRepository(StationRepository delegate) implements StationRepository {
+
+        @Override
+        public Station save(Station station) {
+            return delegate.save(station);
+        }
+
+        @Override
+        public List<Station> saveAll(Collection<Station> stations) {
+            return delegate.saveAll(stations);
+        }
+
+        @Override
+        public Optional<Station> findById(Long id) {
+            sleep();
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Station> findAllById(Collection<Long> ids) {
+            sleep();
+            return delegate.findAllById(ids);
+        }
+
+        @Override
+        public List<Station> findWithinRadius(Location center, double meters) {
+            sleep();
+            return delegate.findWithinRadius(center, meters);
+        }
+
+        @Override
+        public List<Station> findNearest(Location center, int k) {
+            sleep();
+            return delegate.findNearest(center, k);
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(BACKEND_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.presentation.station;
+
+import com.example.application.station.StationExecutionMode;
+import com.example.application.station.StationExecutor;
+import com.example.application.station.StationService;
+import com.example.memory.MemoryStationRepository;
+import com.example.station.Station;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StationControllerTest {
+
+    private final StationExecutor executor = new StationExecutor(StationExecutionMode.VIRTUAL, 1);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new StationController(new StationService(new MemoryStationRepository()), executor))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("정류장을 등록하고 단건/여러 건으로 조회한다")
+    void createAndFind() throws Exception {
+        // given
+        perform(post("/stations").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"강남역\",\"latitude\":37.4979,\"longitude\":127.0276}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+        perform(post("/stations").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"역삼역\",\"latitude\":37.5006,\"longitude\":127.0364}"))
+                .andExpect(status().isCreated());
+
+        // when & then
+        perform(get("/stations/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("강남역"))
+                .andExpect(jsonPath("$.latitude").value(37.4979));
+        perform(get("/stations").param("ids", "2,99,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("역삼역"))
+                .andExpect(jsonPath("$[1].name").value("강남역"));
+    }
+
+    @Test
+    @DisplayName("없는 정류장을 조회하면 404, 이름 없이 등록하거나 좌표가 범위를 벗어나면 400 을 반환한다")
+    void notFoundAndBadRequest() throws Exception {
+        perform(get("/stations/42"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Station not found with id: 42"));
+        perform(post("/stations").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"latitude\":37.4979,\"longitude\":127.0276}"))
+                .andExpect(status().isBadRequest());
+        perform(post("/stations").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"강남역\",\"latitude\":137.0,\"longitude\":127.0276}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("저장소에서 발생한 NullPointerException 은 400 으로 바꾸지 않는다")
+    void doNotMapServerErrorsToBadRequest() throws Exception {
+        // given
+        MockMvc broken = MockMvcBuilders
+                .standaloneSetup(new StationController(new StationService(new MemoryStationRepository() {
+                    @Override
+                    public Optional<Station> findById(Long id) {
+                        throw new NullPointerException("bug");
+                    }
+                }), executor))
+                .build();
+        MvcResult result = broken.perform(get("/stations/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when & then
+        assertThatThrownBy(() -> broken.perform(asyncDispatch(result)))
+                .hasRootCauseInstanceOf(NullPointerException.class);
+    }
+
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
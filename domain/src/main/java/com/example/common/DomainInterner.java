@@ -0,0 +1,75 @@
+package com.example.common;
+
+import com.example.station.Station;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 도메인 팩터리(Station.of 의 좌표, TurnStation.of, TurnRoute.of)가 값이 같은 객체를 하나만 쓰도록 정규화한다.
+ * 네트워크 전체에서 같은 정류장/좌표/시각이 정류장 방문마다 따로 만들어지면 수백만 개의 중복 객체가 생기기 때문이다.
+ * 모두 약한 참조로만 보관하므로, 더 이상 쓰지 않는 값은 GC 가 회수한다.
+ */
+public final class DomainInterner {
+
+    private static final Interner<Location> LOCATIONS = Interners.newWeakInterner();
+    private static final Interner<ZoneOffset> ZONE_OFFSETS = Interners.newWeakInterner();
+    private static final Interner<OffsetDateTime> TIMESTAMPS = Interners.newWeakInterner();
+    // Station 의 equals 는 id 만 비교하므로 모든 값을 담은 키로 찾고, 값(Station)만 약하게 참조한다.
+    private static final Cache<StationKey, Station> STATIONS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+
+    private DomainInterner() {
+    }
+
+    public static Location location(Location location) {
+        return location == null ? null : LOCATIONS.intern(location);
+    }
+
+    public static ZoneOffset zoneOffset(ZoneOffset zoneOffset) {
+        return zoneOffset == null ? null : ZONE_OFFSETS.intern(zoneOffset);
+    }
+
+    /**
+     * 같은 순간, 같은 오프셋의 시각을 하나로 합친다. 오프셋이 다르면 같은 순간이라도 다른 값으로 본다.
+     */
+    public static OffsetDateTime timestamp(OffsetDateTime timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        ZoneOffset offset = zoneOffset(timestamp.getOffset());
+        if (offset != timestamp.getOffset()) {
+            timestamp = OffsetDateTime.of(timestamp.toLocalDateTime(), offset);
+        }
+        return TIMESTAMPS.intern(timestamp);
+    }
+
+    /**
+     * 현재 시각을 분 단위로 자른 공유 객체. 같은 분에 만들어진 도메인 객체는 createdAt/updatedAt 을 함께 쓴다.
+     */
+    public static OffsetDateTime now() {
+        return timestamp(OffsetDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    /**
+     * id, 이름, 좌표, 생성/수정 시각이 모두 같은 정류장을 하나로 합친다.
+     */
+    public static Station station(Station station) {
+        if (station == null) {
+            return null;
+        }
+        StationKey key = new StationKey(station.getId(), station.getName(), location(station.getLocation()),
+                station.getCreatedAt(), station.getUpdatedAt());
+        Station canonical = STATIONS.asMap().putIfAbsent(key, station);
+        return canonical == null ? station : canonical;
+    }
+
+    private record StationKey(Long id, String name, Location location, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+    }
+}
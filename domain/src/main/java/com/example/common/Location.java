@@ -8,10 +8,26 @@ public record Location(
         double lng
 ) {
 
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
     public static Location of(double lat, double lng) {
-        checkArgument(lat >= 90 && lat <= 90, "Latitude must be between -90 and 90, but was %s", lat);
-        checkArgument(lng >= -180 && lng <= 180, "Latitude must be between -90 and 90, but was %s", lat);
+        checkArgument(lat >= -90 && lat <= 90, "Latitude must be between -90 and 90, but was %s", lat);
+        checkArgument(lng >= -180 && lng <= 180, "Longitude must be between -180 and 180, but was %s", lng);
 
         return new Location(lat, lng);
     }
+
+    /**
+     * 두 좌표 사이의 대권 거리(haversine)를 미터 단위로 반환한다.
+     */
+    public double distanceTo(Location other) {
+        double dLat = Math.toRadians(other.lat - this.lat);
+        double dLng = Math.toRadians(other.lng - this.lng);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(this.lat)) * Math.cos(Math.toRadians(other.lat)) * sinLng * sinLng;
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
 }
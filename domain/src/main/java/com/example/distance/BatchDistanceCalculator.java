@@ -0,0 +1,221 @@
+package com.example.distance;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 정류장 집합 사이의 도보 거리(대권 거리)를 한꺼번에 계산한다.
+ * 행(출발 정류장)을 LEAF_ROWS 개씩 나눠 ForkJoinPool 에서 병렬로 처리하고,
+ * 각 타일 안에서는 열(도착 정류장)을 COLUMN_BLOCK 개씩 잘라 좌표 배열이 캐시에 머무는 동안 여러 행을 계산한다.
+ * 내부 루프는 DistanceKernel 이 담당하며 가능하면 SIMD 구현을 사용한다.
+ */
+public final class BatchDistanceCalculator {
+
+    private static final int LEAF_ROWS = 16;
+    private static final int COLUMN_BLOCK = 1024;
+
+    private final DistanceKernel kernel;
+    private final ForkJoinPool pool;
+
+    private BatchDistanceCalculator(DistanceKernel kernel, ForkJoinPool pool) {
+        this.kernel = kernel;
+        this.pool = pool;
+    }
+
+    /**
+     * 사용 가능한 가장 빠른 구현(SIMD, 없으면 스칼라)으로 공용 ForkJoinPool 에서 계산한다.
+     */
+    public static BatchDistanceCalculator create() {
+        return new BatchDistanceCalculator(DistanceKernel.best(), ForkJoinPool.commonPool());
+    }
+
+    public static BatchDistanceCalculator scalar() {
+        return new BatchDistanceCalculator(ScalarDistanceKernel.INSTANCE, ForkJoinPool.commonPool());
+    }
+
+    public BatchDistanceCalculator withPool(ForkJoinPool pool) {
+        return new BatchDistanceCalculator(kernel, checkNotNull(pool, "Pool cannot be null"));
+    }
+
+    /**
+     * 호출한 스레드에서만 계산한다.
+     */
+    public BatchDistanceCalculator sequential() {
+        return new BatchDistanceCalculator(kernel, null);
+    }
+
+    public boolean isVectorized() {
+        return kernel != ScalarDistanceKernel.INSTANCE;
+    }
+
+    public DistanceMatrix matrix(StationCoordinates stations) {
+        return matrix(stations, stations);
+    }
+
+    public DistanceMatrix matrix(StationCoordinates from, StationCoordinates to) {
+        checkNotNull(from, "From coordinates cannot be null");
+        checkNotNull(to, "To coordinates cannot be null");
+
+        int rows = from.size();
+        int columns = to.size();
+        double[] meters = new double[Math.multiplyExact(rows, columns)];
+        run(rows, (rowStart, rowEnd) -> {
+            for (int columnStart = 0; columnStart < columns; columnStart += COLUMN_BLOCK) {
+                int columnEnd = Math.min(columns, columnStart + COLUMN_BLOCK);
+                for (int row = rowStart; row < rowEnd; row++) {
+                    kernel.meters(from.xs()[row], from.ys()[row], from.zs()[row], to.xs(), to.ys(), to.zs(),
+                            columnStart, columnEnd, meters, row * columns + columnStart);
+                }
+            }
+        });
+        return new DistanceMatrix(rows, columns, meters);
+    }
+
+    /**
+     * 같은 집합 안에서 서로 maxMeters 이내인 정류장 쌍을 찾는다. 전체 행렬을 만들지 않으므로 정류장 수의 제곱만큼 메모리를 쓰지 않는다.
+     * 거리 비교는 현 길이의 제곱으로 하고, 기준 안에 든 쌍만 미터로 변환한다.
+     */
+    public NeighborList neighbors(StationCoordinates stations, double maxMeters) {
+        checkNotNull(stations, "Coordinates cannot be null");
+        checkArgument(maxMeters >= 0, "Max meters must not be negative, but was %s", maxMeters);
+
+        int size = stations.size();
+        double bound = DistanceKernel.toChordSquared(maxMeters);
+        int[][] rowNeighbors = new int[size][];
+        double[][] rowMeters = new double[size][];
+        // 작업마다 size 크기 배열을 새로 만들지 않도록, 동시에 도는 작업 수(워커 수)만큼만 만들어 돌려 쓴다.
+        Queue<Scratch> scratches = new ConcurrentLinkedQueue<>();
+        run(size, (rowStart, rowEnd) -> {
+            Scratch scratch = scratches.poll();
+            if (scratch == null) {
+                scratch = new Scratch(size);
+            }
+            double[] chordSquared = scratch.chordSquared;
+            int[] hits = scratch.hits;
+            double[] hitChordSquared = scratch.hitChordSquared;
+            for (int row = rowStart; row < rowEnd; row++) {
+                kernel.chordSquared(stations.xs()[row], stations.ys()[row], stations.zs()[row],
+                        stations.xs(), stations.ys(), stations.zs(), 0, size, chordSquared, 0);
+
+                int count = 0;
+                for (int column = 0; column < size; column++) {
+                    if (chordSquared[column] <= bound && column != row) {
+                        if (count == hits.length) {
+                            hits = Arrays.copyOf(hits, count * 2);
+                            hitChordSquared = Arrays.copyOf(hitChordSquared, count * 2);
+                        }
+                        hits[count] = column;
+                        hitChordSquared[count++] = chordSquared[column];
+                    }
+                }
+
+                sortByDistance(hits, hitChordSquared, count);
+                rowNeighbors[row] = Arrays.copyOf(hits, count);
+                double[] meters = new double[count];
+                for (int k = 0; k < count; k++) {
+                    meters[k] = DistanceKernel.toMeters(hitChordSquared[k]);
+                }
+                rowMeters[row] = meters;
+            }
+            scratch.hits = hits;
+            scratch.hitChordSquared = hitChordSquared;
+            scratches.offer(scratch);
+        });
+
+        int[] offsets = new int[size + 1];
+        for (int row = 0; row < size; row++) {
+            offsets[row + 1] = offsets[row] + rowNeighbors[row].length;
+        }
+        int[] neighbors = new int[offsets[size]];
+        double[] meters = new double[offsets[size]];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(rowNeighbors[row], 0, neighbors, offsets[row], rowNeighbors[row].length);
+            System.arraycopy(rowMeters[row], 0, meters, offsets[row], rowMeters[row].length);
+        }
+        return new NeighborList(offsets, neighbors, meters);
+    }
+
+    private void run(int rows, RowTask task) {
+        if (pool == null || rows <= LEAF_ROWS) {
+            task.run(0, rows);
+        } else {
+            pool.invoke(new RowsAction(task, 0, rows));
+        }
+    }
+
+    /**
+     * 이웃 수가 보통 작으므로 보조 배열 없이 두 배열을 함께 옮기는 셸 정렬을 쓴다.
+     */
+    private static void sortByDistance(int[] indexes, double[] keys, int count) {
+        for (int gap = count / 2; gap > 0; gap /= 2) {
+            for (int i = gap; i < count; i++) {
+                int index = indexes[i];
+                double key = keys[i];
+                int j = i;
+                while (j >= gap && (keys[j - gap] > key || (keys[j - gap] == key && indexes[j - gap] > index))) {
+                    indexes[j] = indexes[j - gap];
+                    keys[j] = keys[j - gap];
+                    j -= gap;
+                }
+                indexes[j] = index;
+                keys[j] = key;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowTask {
+
+        void run(int rowStart, int rowEnd);
+    }
+
+    /**
+     * neighbors 에서 한 워커가 행을 처리하는 동안 쓰는 작업 배열. 이웃 배열은 모자라면 늘린 것을 그대로 돌려놓는다.
+     */
+    private static final class Scratch {
+
+        private final double[] chordSquared;
+        private int[] hits = new int[16];
+        private double[] hitChordSquared = new double[16];
+
+        private Scratch(int size) {
+            this.chordSquared = new double[size];
+        }
+    }
+
+    /**
+     * 직렬화하지 않는 ForkJoin 작업이다. RecursiveAction 이 Serializable 이라 serialVersionUID 를 두고 task 는 transient 로 둔다.
+     */
+    private static final class RowsAction extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient RowTask task;
+        private final int rowStart;
+        private final int rowEnd;
+
+        private RowsAction(RowTask task, int rowStart, int rowEnd) {
+            this.task = task;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowEnd - rowStart <= LEAF_ROWS) {
+                task.run(rowStart, rowEnd);
+                return;
+            }
+            int middle = (rowStart + rowEnd) >>> 1;
+            invokeAll(new RowsAction(task, rowStart, middle), new RowsAction(task, middle, rowEnd));
+        }
+    }
+}
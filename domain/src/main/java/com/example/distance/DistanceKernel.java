@@ -0,0 +1,50 @@
+package com.example.distance;
+
+/**
+ * 한 출발 지점에서 여러 도착 지점까지의 거리를 한 번에 계산하는 내부 루프.
+ * 도착 지점은 단위 구 좌표 배열의 [from, end) 구간이며 결과는 out[outOffset] 부터 차례로 쓴다.
+ */
+interface DistanceKernel {
+
+    // Location 과 같은 지구 반지름
+    double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    /**
+     * 대권 거리(미터)를 쓴다.
+     */
+    void meters(double x, double y, double z, double[] xs, double[] ys, double[] zs, int from, int end, double[] out, int outOffset);
+
+    /**
+     * 현 길이의 제곱(단위 구 기준)을 쓴다. 거리와 단조 관계이므로 기준 거리 비교에는 이 값으로 충분하다.
+     */
+    void chordSquared(double x, double y, double z, double[] xs, double[] ys, double[] zs, int from, int end, double[] out, int outOffset);
+
+    static double toMeters(double chordSquared) {
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(chordSquared) * 0.5));
+    }
+
+    static double toChordSquared(double meters) {
+        double angle = Math.min(Math.PI, meters / EARTH_RADIUS_METERS);
+        double chord = 2 * Math.sin(angle / 2);
+        return chord * chord;
+    }
+
+    /**
+     * jdk.incubator.vector 모듈이 로드돼 있으면(--add-modules jdk.incubator.vector) SIMD 구현을, 아니면 스칼라 구현을 쓴다.
+     * -Ddistance.vector.disabled=true 로 스칼라 구현을 강제할 수 있다.
+     */
+    static DistanceKernel best() {
+        if (Boolean.getBoolean("distance.vector.disabled")
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarDistanceKernel.INSTANCE;
+        }
+        try {
+            // 모듈이 없을 때 링크되지 않도록 이름으로 로드한다.
+            return (DistanceKernel) Class.forName("com.example.distance.VectorDistanceKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarDistanceKernel.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.distance;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * 출발 정류장(행) x 도착 정류장(열) 거리(미터)를 행 우선 배열 하나에 담는다.
+ * 원소 n*m 개를 모두 보관하므로 수천 개를 넘는 집합은 NeighborList 를 사용한다.
+ */
+public final class DistanceMatrix {
+
+    private final int rows;
+    private final int columns;
+    private final double[] meters;
+
+    DistanceMatrix(int rows, int columns, double[] meters) {
+        this.rows = rows;
+        this.columns = columns;
+        this.meters = meters;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public double meters(int row, int column) {
+        checkElementIndex(row, rows);
+        checkElementIndex(column, columns);
+        return meters[row * columns + column];
+    }
+}
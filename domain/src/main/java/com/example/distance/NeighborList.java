@@ -0,0 +1,49 @@
+package com.example.distance;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * 정류장별로 기준 거리 이내의 이웃을 압축 행(CSR) 형태로 담는다.
+ * i 번째 정류장의 이웃은 [offsets[i], offsets[i + 1]) 구간이며 가까운 순으로 정렬돼 있다. 자기 자신은 포함하지 않는다.
+ */
+public final class NeighborList {
+
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final double[] meters;
+
+    NeighborList(int[] offsets, int[] neighbors, double[] meters) {
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.meters = meters;
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    public int neighborCount(int index) {
+        checkElementIndex(index, size());
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * index 번째 정류장의 k 번째(가까운 순) 이웃의 위치.
+     */
+    public int neighbor(int index, int k) {
+        return neighbors[position(index, k)];
+    }
+
+    public double meters(int index, int k) {
+        return meters[position(index, k)];
+    }
+
+    public long totalNeighborCount() {
+        return neighbors.length;
+    }
+
+    private int position(int index, int k) {
+        checkElementIndex(k, neighborCount(index));
+        return offsets[index] + k;
+    }
+}
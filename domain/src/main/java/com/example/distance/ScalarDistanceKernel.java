@@ -0,0 +1,30 @@
+package com.example.distance;
+
+final class ScalarDistanceKernel implements DistanceKernel {
+
+    static final ScalarDistanceKernel INSTANCE = new ScalarDistanceKernel();
+
+    private ScalarDistanceKernel() {
+    }
+
+    @Override
+    public void meters(double x, double y, double z, double[] xs, double[] ys, double[] zs, int from, int end, double[] out, int outOffset) {
+        for (int j = from; j < end; j++) {
+            out[outOffset + j - from] = DistanceKernel.toMeters(chordSquared(x, y, z, xs[j], ys[j], zs[j]));
+        }
+    }
+
+    @Override
+    public void chordSquared(double x, double y, double z, double[] xs, double[] ys, double[] zs, int from, int end, double[] out, int outOffset) {
+        for (int j = from; j < end; j++) {
+            out[outOffset + j - from] = chordSquared(x, y, z, xs[j], ys[j], zs[j]);
+        }
+    }
+
+    private static double chordSquared(double x, double y, double z, double otherX, double otherY, double otherZ) {
+        double dx = otherX - x;
+        double dy = otherY - y;
+        double dz = otherZ - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
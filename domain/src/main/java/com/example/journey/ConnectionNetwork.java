@@ -0,0 +1,194 @@
+package com.example.journey;
+
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Connection Scan 경로 탐색을 위해 회차 노선들을 연결(connection) 배열로 펼친 불변 구조.
+ * 연결 하나는 한 회차가 연속한 두 정류장 사이를 이동하는 것이며, 출발 시각 순으로 정렬되어 있다.
+ * 조회 시에는 객체 그래프를 따라가지 않고 이 배열들만 순회한다.
+ */
+public final class ConnectionNetwork {
+
+    private final Map<Long, Integer> stationIndexes;
+    private final TurnRoute[] trips;
+
+    // 연결별 컬럼 (출발 시각 순)
+    private final int[] departureStops;
+    private final int[] arrivalStops;
+    private final long[] departureTimes;
+    private final long[] arrivalTimes;
+    private final int[] tripIndexes;
+    private final int[] departurePositions;
+    private final boolean[] boardable;
+    private final boolean[] alightable;
+
+    private ConnectionNetwork(Map<Long, Integer> stationIndexes, TurnRoute[] trips, int connectionCount) {
+        this.stationIndexes = stationIndexes;
+        this.trips = trips;
+        this.departureStops = new int[connectionCount];
+        this.arrivalStops = new int[connectionCount];
+        this.departureTimes = new long[connectionCount];
+        this.arrivalTimes = new long[connectionCount];
+        this.tripIndexes = new int[connectionCount];
+        this.departurePositions = new int[connectionCount];
+        this.boardable = new boolean[connectionCount];
+        this.alightable = new boolean[connectionCount];
+    }
+
+    /**
+     * 회차 노선 목록으로 연결 배열을 만든다. 정류장은 저장되어 id 가 있어야 하고, 도착 예정 시각은 순서대로 증가해야 한다.
+     */
+    public static ConnectionNetwork of(Collection<TurnRoute> turnRoutes) {
+        checkNotNull(turnRoutes, "TurnRoutes cannot be null");
+
+        TurnRoute[] trips = turnRoutes.toArray(new TurnRoute[0]);
+        Map<Long, Integer> stationIndexes = new HashMap<>();
+        int connectionCount = 0;
+        for (TurnRoute trip : trips) {
+            List<TurnStation> stops = trip.getTurnStations().turnStations();
+            for (TurnStation stop : stops) {
+                Long stationId = checkNotNull(stop.getStation().getId(), "Station id cannot be null");
+                stationIndexes.putIfAbsent(stationId, stationIndexes.size());
+            }
+            connectionCount += stops.size() - 1;
+        }
+
+        // 회차/정류장 순서대로 임시 배열을 채운 뒤 출발 시각 순으로 재배열한다.
+        ConnectionNetwork unsorted = new ConnectionNetwork(stationIndexes, trips, connectionCount);
+        int c = 0;
+        for (int t = 0; t < trips.length; t++) {
+            List<TurnStation> stops = trips[t].getTurnStations().turnStations();
+            for (int i = 0; i + 1 < stops.size(); i++) {
+                TurnStation from = stops.get(i);
+                TurnStation to = stops.get(i + 1);
+                long departure = from.getExpectedArrivalTime().toEpochSecond();
+                long arrival = to.getExpectedArrivalTime().toEpochSecond();
+                checkArgument(arrival >= departure, "정류장 도착 예정 시각은 순서대로 증가해야 합니다. (회차 노선 id: %s)", trips[t].getId());
+
+                unsorted.departureStops[c] = stationIndexes.get(from.getStation().getId());
+                unsorted.arrivalStops[c] = stationIndexes.get(to.getStation().getId());
+                unsorted.departureTimes[c] = departure;
+                unsorted.arrivalTimes[c] = arrival;
+                unsorted.tripIndexes[c] = t;
+                unsorted.departurePositions[c] = i;
+                unsorted.boardable[c] = from.getOnOffType() == TurnStationOnOffType.ON;
+                unsorted.alightable[c] = to.getOnOffType() == TurnStationOnOffType.OFF;
+                c++;
+            }
+        }
+
+        Integer[] order = new Integer[connectionCount];
+        Arrays.setAll(order, i -> i);
+        // 출발 시각이 같으면 먼저 도착하는 연결, 그 다음은 회차 내 순서(원래 인덱스)를 따른다.
+        Arrays.sort(order, (a, b) -> {
+            int compare = Long.compare(unsorted.departureTimes[a], unsorted.departureTimes[b]);
+            if (compare != 0) {
+                return compare;
+            }
+            compare = Long.compare(unsorted.arrivalTimes[a], unsorted.arrivalTimes[b]);
+            return compare != 0 ? compare : Integer.compare(a, b);
+        });
+
+        ConnectionNetwork network = new ConnectionNetwork(stationIndexes, trips, connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            int source = order[i];
+            network.departureStops[i] = unsorted.departureStops[source];
+            network.arrivalStops[i] = unsorted.arrivalStops[source];
+            network.departureTimes[i] = unsorted.departureTimes[source];
+            network.arrivalTimes[i] = unsorted.arrivalTimes[source];
+            network.tripIndexes[i] = unsorted.tripIndexes[source];
+            network.departurePositions[i] = unsorted.departurePositions[source];
+            network.boardable[i] = unsorted.boardable[source];
+            network.alightable[i] = unsorted.alightable[source];
+        }
+        return network;
+    }
+
+    public int stationCount() {
+        return stationIndexes.size();
+    }
+
+    public int tripCount() {
+        return trips.length;
+    }
+
+    public int connectionCount() {
+        return departureTimes.length;
+    }
+
+    /**
+     * 정류장 id 에 해당하는 내부 인덱스. 네트워크에 없는 정류장이면 -1 을 반환한다.
+     */
+    int stationIndex(Long stationId) {
+        Integer index = stationIndexes.get(stationId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * departureTime 이상에 출발하는 첫 연결의 인덱스
+     */
+    int firstConnectionFrom(long departureTime) {
+        int low = 0;
+        int high = departureTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (departureTimes[mid] < departureTime) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int departureStop(int connection) {
+        return departureStops[connection];
+    }
+
+    int arrivalStop(int connection) {
+        return arrivalStops[connection];
+    }
+
+    long departureTime(int connection) {
+        return departureTimes[connection];
+    }
+
+    long arrivalTime(int connection) {
+        return arrivalTimes[connection];
+    }
+
+    int trip(int connection) {
+        return tripIndexes[connection];
+    }
+
+    boolean boardable(int connection) {
+        return boardable[connection];
+    }
+
+    boolean alightable(int connection) {
+        return alightable[connection];
+    }
+
+    TurnRoute turnRoute(int trip) {
+        return trips[trip];
+    }
+
+    TurnStation departureTurnStation(int connection) {
+        return trips[tripIndexes[connection]].getTurnStations().turnStations().get(departurePositions[connection]);
+    }
+
+    TurnStation arrivalTurnStation(int connection) {
+        return trips[tripIndexes[connection]].getTurnStations().turnStations().get(departurePositions[connection] + 1);
+    }
+}
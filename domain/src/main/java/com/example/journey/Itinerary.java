@@ -0,0 +1,29 @@
+package com.example.journey;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 출발 정류장에서 도착 정류장까지의 경로. 구간(leg) 사이가 환승이다.
+ */
+public record Itinerary(List<JourneyLeg> legs) {
+
+    public Itinerary {
+        checkArgument(legs != null && !legs.isEmpty(), "경로는 하나 이상의 구간으로 이루어져야 합니다.");
+        legs = List.copyOf(legs);
+    }
+
+    public OffsetDateTime departureTime() {
+        return legs.getFirst().departureTime();
+    }
+
+    public OffsetDateTime arrivalTime() {
+        return legs.getLast().arrivalTime();
+    }
+
+    public int transfers() {
+        return legs.size() - 1;
+    }
+}
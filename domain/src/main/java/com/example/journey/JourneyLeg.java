@@ -0,0 +1,24 @@
+package com.example.journey;
+
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 하나의 회차 노선을 타고 이동하는 구간 (승차 정류장 -> 하차 정류장)
+ */
+public record JourneyLeg(
+        TurnRoute turnRoute,
+        TurnStation boarding,
+        TurnStation alighting
+) {
+
+    public OffsetDateTime departureTime() {
+        return boarding.getExpectedArrivalTime();
+    }
+
+    public OffsetDateTime arrivalTime() {
+        return alighting.getExpectedArrivalTime();
+    }
+}
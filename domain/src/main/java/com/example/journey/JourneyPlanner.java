@@ -0,0 +1,111 @@
+package com.example.journey;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Connection Scan Algorithm 으로 가장 빨리 도착하는 경로를 찾는다.
+ * 승차(ON) 정류장에서만 탈 수 있고 하차(OFF) 정류장에서만 내릴 수 있다.
+ */
+public class JourneyPlanner {
+
+    private static final int NONE = -1;
+
+    private final ConnectionNetwork network;
+    private final long minimumTransferSeconds;
+
+    public JourneyPlanner(ConnectionNetwork network) {
+        this(network, Duration.ZERO);
+    }
+
+    public JourneyPlanner(ConnectionNetwork network, Duration minimumTransferTime) {
+        checkNotNull(network, "Network cannot be null");
+        checkNotNull(minimumTransferTime, "Minimum transfer time cannot be null");
+        checkArgument(!minimumTransferTime.isNegative(), "Minimum transfer time must not be negative");
+
+        this.network = network;
+        this.minimumTransferSeconds = minimumTransferTime.toSeconds();
+    }
+
+    /**
+     * departureTime 이후 origin 에서 출발해 destination 에 가장 일찍 도착하는 경로를 반환한다.
+     */
+    public Optional<Itinerary> plan(Long originStationId, Long destinationStationId, OffsetDateTime departureTime) {
+        checkNotNull(originStationId, "Origin station id cannot be null");
+        checkNotNull(destinationStationId, "Destination station id cannot be null");
+        checkNotNull(departureTime, "Departure time cannot be null");
+        checkArgument(!originStationId.equals(destinationStationId), "출발 정류장과 도착 정류장이 같습니다.");
+
+        int origin = network.stationIndex(originStationId);
+        int destination = network.stationIndex(destinationStationId);
+        if (origin == NONE || destination == NONE) {
+            return Optional.empty();
+        }
+
+        long[] earliestArrival = new long[network.stationCount()];
+        Arrays.fill(earliestArrival, Long.MAX_VALUE);
+        int[] boardedAt = new int[network.tripCount()];
+        Arrays.fill(boardedAt, NONE);
+        int[] legBoarding = new int[network.stationCount()];
+        int[] legAlighting = new int[network.stationCount()];
+
+        long start = departureTime.toEpochSecond();
+        earliestArrival[origin] = start;
+
+        for (int c = network.firstConnectionFrom(start); c < network.connectionCount(); c++) {
+            long departure = network.departureTime(c);
+            if (departure >= earliestArrival[destination]) {
+                break;
+            }
+
+            int trip = network.trip(c);
+            if (boardedAt[trip] == NONE) {
+                int stop = network.departureStop(c);
+                long readyAt = earliestArrival[stop] == Long.MAX_VALUE
+                        ? Long.MAX_VALUE
+                        : earliestArrival[stop] + (stop == origin ? 0 : minimumTransferSeconds);
+                if (!network.boardable(c) || readyAt > departure) {
+                    continue;
+                }
+                boardedAt[trip] = c;
+            }
+
+            int arrivalStop = network.arrivalStop(c);
+            if (network.alightable(c) && network.arrivalTime(c) < earliestArrival[arrivalStop]) {
+                earliestArrival[arrivalStop] = network.arrivalTime(c);
+                legBoarding[arrivalStop] = boardedAt[trip];
+                legAlighting[arrivalStop] = c;
+            }
+        }
+
+        if (earliestArrival[destination] == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(reconstruct(origin, destination, legBoarding, legAlighting));
+    }
+
+    private Itinerary reconstruct(int origin, int destination, int[] legBoarding, int[] legAlighting) {
+        List<JourneyLeg> legs = new ArrayList<>();
+        int stop = destination;
+        while (stop != origin) {
+            int boarding = legBoarding[stop];
+            int alighting = legAlighting[stop];
+            legs.add(new JourneyLeg(
+                    network.turnRoute(network.trip(boarding)),
+                    network.departureTurnStation(boarding),
+                    network.arrivalTurnStation(alighting)));
+            stop = network.departureStop(boarding);
+        }
+        Collections.reverse(legs);
+
+        return new Itinerary(legs);
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.network;
+
+import com.example.route.Route;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import com.example.turn.station.TurnStations;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 회차 노선 전체를 컬럼형 원시 배열로 보관하는 읽기 전용 네트워크.
+ * 정류장 방문(stop) 하나는 정류장 인덱스(int), 도착 예정 시각(epoch 분, int), 승하차/정류장 유형(byte) 로 표현된다.
+ * 도착 시각은 분 단위로 저장하며 시간대는 네트워크 전체에 하나(zoneOffset)만 사용한다.
+ * 도메인 객체가 필요한 경우 turnRoute(trip) 로 그때그때 만들어 사용한다.
+ */
+public final class CompactNetwork {
+
+    private static final int OFF_FLAG = 0b1;
+    private static final int POINT_TYPE_SHIFT = 1;
+    private static final TurnStationType[] POINT_TYPES = TurnStationType.values();
+
+    private final ZoneOffset zoneOffset;
+
+    // 정류장 컬럼
+    private final Station[] stations;
+
+    // 회차 컬럼
+    private final long[] turnRouteIds;
+    private final Route[] routes;
+    private final int[] stopOffsets;
+
+    // 정류장 방문 컬럼
+    private final int[] stationIndexes;
+    private final int[] orders;
+    private final int[] arrivalEpochMinutes;
+    private final byte[] flags;
+
+    private CompactNetwork(ZoneOffset zoneOffset, Station[] stations, long[] turnRouteIds, Route[] routes, int[] stopOffsets,
+                           int[] stationIndexes, int[] orders, int[] arrivalEpochMinutes, byte[] flags) {
+        this.zoneOffset = zoneOffset;
+        this.stations = stations;
+        this.turnRouteIds = turnRouteIds;
+        this.routes = routes;
+        this.stopOffsets = stopOffsets;
+        this.stationIndexes = stationIndexes;
+        this.orders = orders;
+        this.arrivalEpochMinutes = arrivalEpochMinutes;
+        this.flags = flags;
+    }
+
+    public static CompactNetwork of(Collection<TurnRoute> turnRoutes) {
+        return of(turnRoutes, ZoneOffset.UTC);
+    }
+
+    /**
+     * 회차 노선 목록을 컬럼형 배열로 변환한다. 도착 시각은 zoneOffset 기준으로 다시 만들어진다.
+     */
+    public static CompactNetwork of(Collection<TurnRoute> turnRoutes, ZoneOffset zoneOffset) {
+        checkNotNull(turnRoutes, "TurnRoutes cannot be null");
+        checkNotNull(zoneOffset, "ZoneOffset cannot be null");
+
+        int tripCount = turnRoutes.size();
+        int stopCount = 0;
+        for (TurnRoute turnRoute : turnRoutes) {
+            stopCount += turnRoute.getTurnStations().turnStations().size();
+        }
+
+        Map<Station, Integer> stationIndexByStation = new HashMap<>();
+        List<Station> stations = new ArrayList<>();
+        long[] turnRouteIds = new long[tripCount];
+        Route[] routes = new Route[tripCount];
+        int[] stopOffsets = new int[tripCount + 1];
+        int[] stationIndexes = new int[stopCount];
+        int[] orders = new int[stopCount];
+        int[] arrivalEpochMinutes = new int[stopCount];
+        byte[] flags = new byte[stopCount];
+
+        int trip = 0;
+        int stop = 0;
+        for (TurnRoute turnRoute : turnRoutes) {
+            turnRouteIds[trip] = checkNotNull(turnRoute.getId(), "TurnRoute id cannot be null");
+            routes[trip] = turnRoute.getRoute();
+            stopOffsets[trip] = stop;
+
+            for (TurnStation turnStation : turnRoute.getTurnStations().turnStations()) {
+                Station station = checkNotNull(turnStation.getStation(), "Station cannot be null");
+                checkNotNull(station.getId(), "Station id cannot be null");
+                Integer stationIndex = stationIndexByStation.get(station);
+                if (stationIndex == null) {
+                    stationIndex = stations.size();
+                    stationIndexByStation.put(station, stationIndex);
+                    stations.add(station);
+                }
+
+                stationIndexes[stop] = stationIndex;
+                orders[stop] = turnStation.getOrder();
+                arrivalEpochMinutes[stop] = Math.toIntExact(turnStation.getExpectedArrivalTime().toEpochSecond() / 60);
+                flags[stop] = flags(turnStation.getOnOffType(), turnStation.getPointType());
+                stop++;
+            }
+            trip++;
+        }
+        stopOffsets[tripCount] = stop;
+
+        return new CompactNetwork(zoneOffset, stations.toArray(new Station[0]), turnRouteIds, routes, stopOffsets,
+                stationIndexes, orders, arrivalEpochMinutes, flags);
+    }
+
+    public int tripCount() {
+        return turnRouteIds.length;
+    }
+
+    public int stationCount() {
+        return stations.length;
+    }
+
+    public int totalStopCount() {
+        return stationIndexes.length;
+    }
+
+    public ZoneOffset zoneOffset() {
+        return zoneOffset;
+    }
+
+    public long turnRouteId(int trip) {
+        return turnRouteIds[checkElementIndex(trip, tripCount())];
+    }
+
+    public Route route(int trip) {
+        return routes[checkElementIndex(trip, tripCount())];
+    }
+
+    public int stopCount(int trip) {
+        checkElementIndex(trip, tripCount());
+        return stopOffsets[trip + 1] - stopOffsets[trip];
+    }
+
+    public long stationId(int trip, int position) {
+        return stations[stationIndexes[stop(trip, position)]].getId();
+    }
+
+    public int arrivalEpochMinute(int trip, int position) {
+        return arrivalEpochMinutes[stop(trip, position)];
+    }
+
+    public TurnStationOnOffType onOffType(int trip, int position) {
+        return onOffType(flags[stop(trip, position)]);
+    }
+
+    public TurnStationType pointType(int trip, int position) {
+        return pointType(flags[stop(trip, position)]);
+    }
+
+    /**
+     * trip 번째 회차 노선을 도메인 객체로 만든다. 호출할 때마다 새 객체가 생성된다.
+     */
+    public TurnRoute turnRoute(int trip) {
+        int from = stopOffsets[checkElementIndex(trip, tripCount())];
+        int to = stopOffsets[trip + 1];
+
+        List<TurnStation> turnStations = new ArrayList<>(to - from);
+        for (int stop = from; stop < to; stop++) {
+            turnStations.add(TurnStation.of(
+                    null,
+                    stations[stationIndexes[stop]],
+                    onOffType(flags[stop]),
+                    pointType(flags[stop]),
+                    orders[stop],
+                    arrivalTime(arrivalEpochMinutes[stop])));
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        return TurnRoute.builder()
+                .id(turnRouteIds[trip])
+                .route(routes[trip])
+                .turnStations(TurnStations.of(turnStations))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 이 네트워크가 소유한 배열들의 대략적인 힙 크기(바이트). 공유하는 Station/Route 객체는 포함하지 않는다.
+     */
+    public long estimatedHeapBytes() {
+        return arrayBytes(stations.length, 4)
+                + arrayBytes(turnRouteIds.length, 8)
+                + arrayBytes(routes.length, 4)
+                + arrayBytes(stopOffsets.length, 4)
+                + arrayBytes(stationIndexes.length, 4)
+                + arrayBytes(orders.length, 4)
+                + arrayBytes(arrivalEpochMinutes.length, 4)
+                + arrayBytes(flags.length, 1);
+    }
+
+    // NetworkFileWriter 가 복사 없이 컬럼을 쓰기 위한 접근자. 반환한 배열은 수정하지 않는다.
+
+    Station[] stations() {
+        return stations;
+    }
+
+    long[] turnRouteIds() {
+        return turnRouteIds;
+    }
+
+    Route[] routes() {
+        return routes;
+    }
+
+    int[] stopOffsets() {
+        return stopOffsets;
+    }
+
+    int[] stationIndexes() {
+        return stationIndexes;
+    }
+
+    int[] orders() {
+        return orders;
+    }
+
+    int[] arrivalEpochMinutes() {
+        return arrivalEpochMinutes;
+    }
+
+    byte[] flags() {
+        return flags;
+    }
+
+    private OffsetDateTime arrivalTime(int epochMinute) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60L), zoneOffset);
+    }
+
+    private int stop(int trip, int position) {
+        checkElementIndex(trip, tripCount());
+        int stop = stopOffsets[trip] + position;
+        checkArgument(position >= 0 && stop < stopOffsets[trip + 1], "Position out of range: %s", position);
+        return stop;
+    }
+
+    private static byte flags(TurnStationOnOffType onOffType, TurnStationType pointType) {
+        int off = onOffType == TurnStationOnOffType.OFF ? OFF_FLAG : 0;
+        return (byte) (off | pointType.ordinal() << POINT_TYPE_SHIFT);
+    }
+
+    static boolean isValidFlag(byte flag) {
+        return flag >= 0 && flag >>> POINT_TYPE_SHIFT < POINT_TYPES.length;
+    }
+
+    static TurnStationOnOffType onOffType(byte flag) {
+        return (flag & OFF_FLAG) != 0 ? TurnStationOnOffType.OFF : TurnStationOnOffType.ON;
+    }
+
+    static TurnStationType pointType(byte flag) {
+        return POINT_TYPES[flag >>> POINT_TYPE_SHIFT];
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        // 배열 헤더 16바이트 + 원소, 8바이트 정렬 (압축 oops 기준)
+        return (16L + (long) length * elementBytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.network;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * id -> 값 불변 맵. id 를 섞은 64비트 해시를 6비트씩 잘라 내려가는 해시 트라이(HAMT)로 보관한다.
+ * 노드는 비트맵과 실제로 있는 칸만 담은 배열이며, 새 버전을 만들 때는 바뀐 항목까지의 경로에 있는 노드만 복사하고
+ * 나머지 노드는 이전 버전과 그대로 공유한다. 트라이 깊이가 log64(n) 이므로 한 항목을 바꾸는 비용은 O(log n) 이다.
+ * 해시는 id 에 홀수를 곱한 값이라 id 마다 모두 달라 충돌 노드가 필요 없다.
+ */
+final class HashTrieMap<V> {
+
+    private static final int BITS = 6;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final HashTrieMap<?> EMPTY = new HashTrieMap<>(new Node(null, 0L, new Object[0]), 0);
+
+    private final Node root;
+    private final int size;
+
+    private HashTrieMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> HashTrieMap<V> empty() {
+        return (HashTrieMap<V>) EMPTY;
+    }
+
+    V get(Long id) {
+        return id == null ? null : find(root, id);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 모든 값을 트라이 순서대로 보여주는 읽기 전용 뷰. 이 맵이 불변이므로 뷰도 바뀌지 않는다.
+     */
+    Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new ValueIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * 이 맵을 기준으로 다음 버전을 만드는 편집기.
+     */
+    Editor<V> edit() {
+        return new Editor<>(this);
+    }
+
+    /**
+     * 바뀐 항목까지의 경로만 복사해 편집한다. 이 편집기가 복사해 만든 노드는 build 전까지 제자리에서 고치므로,
+     * 같은 노드 아래를 여러 번 바꿔도 한 번만 복사한다. 한 쓰레드에서만 사용한다.
+     */
+    static final class Editor<V> {
+
+        private final HashTrieMap<V> base;
+        private Object owner = new Object();
+        private Node root;
+        private int size;
+        private boolean changed;
+
+        private Editor(HashTrieMap<V> base) {
+            this.base = base;
+            this.root = base.root;
+            this.size = base.size;
+        }
+
+        void put(Long id, V value) {
+            checkNotNull(id, "Id cannot be null");
+            checkNotNull(value, "Value cannot be null");
+            root = put(root, 0, new Entry(hash(id), value));
+        }
+
+        void remove(Long id) {
+            if (id == null) {
+                return;
+            }
+            root = remove(root, 0, hash(id));
+        }
+
+        V get(Long id) {
+            return id == null ? null : find(root, id);
+        }
+
+        boolean changed() {
+            return changed;
+        }
+
+        /**
+         * 편집한 결과로 새 맵을 만든다. 이후 편집은 만든 맵과 노드를 공유하지 않도록 다시 복사한다.
+         */
+        HashTrieMap<V> build() {
+            if (!changed) {
+                return base;
+            }
+            owner = new Object();
+            return new HashTrieMap<>(root, size);
+        }
+
+        private Node put(Node node, int shift, Entry entry) {
+            long bit = bit(entry.hash, shift);
+            int index = index(node.bitmap, bit);
+            if ((node.bitmap & bit) == 0) {
+                size++;
+                changed = true;
+                return insert(node, bit, index, entry);
+            }
+
+            Object slot = node.slots[index];
+            Object replacement;
+            if (slot instanceof Node child) {
+                replacement = put(child, shift + BITS, entry);
+            } else {
+                Entry existing = (Entry) slot;
+                if (existing.hash == entry.hash) {
+                    if (existing.value == entry.value) {
+                        return node;
+                    }
+                    replacement = entry;
+                } else {
+                    size++;
+                    replacement = split(existing, entry, shift + BITS);
+                }
+            }
+            if (replacement == slot) {
+                return node;
+            }
+            changed = true;
+            return set(node, index, replacement);
+        }
+
+        private Node remove(Node node, int shift, long hash) {
+            long bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return node;
+            }
+            int index = index(node.bitmap, bit);
+            Object slot = node.slots[index];
+            if (slot instanceof Node child) {
+                Node removed = remove(child, shift + BITS, hash);
+                if (removed == child) {
+                    return node;
+                }
+                // 항목이 하나만 남은 자식 노드는 그 항목으로 바꿔 트라이를 얕게 유지한다.
+                Object replacement = removed.slots.length == 1 && removed.slots[0] instanceof Entry only ? only : removed;
+                return set(node, index, replacement);
+            }
+            if (((Entry) slot).hash != hash) {
+                return node;
+            }
+            size--;
+            changed = true;
+            return delete(node, bit, index);
+        }
+
+        /**
+         * 해시가 다른 두 항목을 shift 부터 갈라지는 위치까지 내려가는 노드로 묶는다.
+         */
+        private Node split(Entry first, Entry second, int shift) {
+            long firstBit = bit(first.hash, shift);
+            long secondBit = bit(second.hash, shift);
+            if (firstBit == secondBit) {
+                return new Node(owner, firstBit, new Object[]{split(first, second, shift + BITS)});
+            }
+            Object[] slots = Long.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[]{first, second}
+                    : new Object[]{second, first};
+            return new Node(owner, firstBit | secondBit, slots);
+        }
+
+        private Node set(Node node, int index, Object slot) {
+            if (node.owner == owner) {
+                node.slots[index] = slot;
+                return node;
+            }
+            Object[] slots = node.slots.clone();
+            slots[index] = slot;
+            return new Node(owner, node.bitmap, slots);
+        }
+
+        private Node insert(Node node, long bit, int index, Object slot) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = slot;
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            return replace(node, node.bitmap | bit, slots);
+        }
+
+        private Node delete(Node node, long bit, int index) {
+            Object[] slots = new Object[node.slots.length - 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+            return replace(node, node.bitmap & ~bit, slots);
+        }
+
+        private Node replace(Node node, long bitmap, Object[] slots) {
+            if (node.owner == owner) {
+                node.bitmap = bitmap;
+                node.slots = slots;
+                return node;
+            }
+            return new Node(owner, bitmap, slots);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V find(Node root, long id) {
+        long hash = hash(id);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            long bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[index(node.bitmap, bit)];
+            if (slot instanceof Node child) {
+                node = child;
+            } else {
+                Entry entry = (Entry) slot;
+                return entry.hash == hash ? (V) entry.value : null;
+            }
+        }
+    }
+
+    private static long hash(long id) {
+        // 홀수를 곱하는 것은 64비트 위에서 일대일이므로 서로 다른 id 는 서로 다른 해시를 가진다.
+        return id * 0x9E3779B97F4A7C15L;
+    }
+
+    private static long bit(long hash, int shift) {
+        return 1L << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(long bitmap, long bit) {
+        return Long.bitCount(bitmap & (bit - 1));
+    }
+
+    /**
+     * 트라이 노드. owner 가 편집 중인 Editor 의 것과 같을 때만 제자리에서 고치며, 맵에 담긴 뒤에는 바뀌지 않는다.
+     */
+    private static final class Node {
+
+        private final Object owner;
+        private long bitmap;
+        private Object[] slots;
+
+        private Node(Object owner, long bitmap, Object[] slots) {
+            this.owner = owner;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    private record Entry(long hash, Object value) {
+    }
+
+    /**
+     * 깊이 우선으로 트라이를 따라가며 값을 돌려준다. 트라이 깊이는 64 / BITS 를 넘지 않는다.
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+
+        private final Node[] nodes = new Node[Long.SIZE / BITS + 1];
+        private final int[] positions = new int[nodes.length];
+        private int depth;
+        private Entry next;
+
+        private ValueIterator(Node root) {
+            nodes[0] = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry current = next;
+            advance();
+            return (V) current.value;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (positions[depth] == node.slots.length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = node.slots[positions[depth]++];
+                if (slot instanceof Node child) {
+                    nodes[++depth] = child;
+                    positions[depth] = 0;
+                } else {
+                    next = (Entry) slot;
+                    return;
+                }
+            }
+        }
+    }
+}
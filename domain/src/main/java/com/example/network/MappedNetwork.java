@@ -0,0 +1,315 @@
+package com.example.network;
+
+import com.example.common.Location;
+import com.example.network.NetworkFileFormat.Section;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * NetworkFileWriter 가 쓴 네트워크 파일을 메모리 매핑해 읽는다.
+ * 여는 시점에 checksum 과 구역 사이의 구조(회차별 정류장 구간, 인덱스 범위, 플래그, 문자열 위치)를 한 번 훑어 확인하고,
+ * 정류장/노선/회차 노선 객체는 처음 요청될 때 만들어 캐시한다.
+ * 파일에 담긴 회차는 쓰기 전에 이미 검증되었고 파일이 손상되지 않았음을 확인했으므로 TurnStations 검증을 다시 수행하지 않는다.
+ * 생성/수정 시각은 모두 파일을 쓴 시각이다.
+ */
+public final class MappedNetwork {
+
+    private static final Verified VERIFIED = new Verified();
+
+    private final ZoneOffset zoneOffset;
+    private final OffsetDateTime writtenAt;
+
+    private final LongBuffer stationIds;
+    private final DoubleBuffer stationLats;
+    private final DoubleBuffer stationLngs;
+    private final IntBuffer stationNameOffsets;
+    private final LongBuffer routeIds;
+    private final ByteBuffer routeTypes;
+    private final IntBuffer routeNameOffsets;
+    private final LongBuffer turnRouteIds;
+    private final IntBuffer tripRoutes;
+    private final IntBuffer stopOffsets;
+    private final IntBuffer stationIndexes;
+    private final IntBuffer orders;
+    private final IntBuffer arrivalEpochMinutes;
+    private final ByteBuffer flags;
+    private final ByteBuffer strings;
+
+    private final AtomicReferenceArray<Station> stations;
+    private final AtomicReferenceArray<Route> routes;
+    private final AtomicReferenceArray<TurnRoute> turnRoutes;
+
+    private MappedNetwork(MappedByteBuffer buffer) {
+        checkArgument(buffer.limit() >= NetworkFileFormat.HEADER_BYTES, "네트워크 파일 헤더가 올바르지 않습니다.");
+        checkArgument(buffer.getInt(0) == NetworkFileFormat.MAGIC, "네트워크 파일이 아닙니다.");
+        int version = buffer.getInt(4);
+        checkArgument(version == NetworkFileFormat.VERSION, "지원하지 않는 네트워크 파일 버전입니다: %s", version);
+
+        this.zoneOffset = ZoneOffset.ofTotalSeconds(buffer.getInt(8));
+        this.writtenAt = OffsetDateTime.ofInstant(Instant.ofEpochSecond(buffer.getLong(16)), zoneOffset);
+        int stationCount = buffer.getInt(24);
+        int routeCount = buffer.getInt(28);
+        int tripCount = buffer.getInt(32);
+        int stopCount = buffer.getInt(36);
+        int stringBytes = buffer.getInt(40);
+
+        NetworkFileFormat format = new NetworkFileFormat(stationCount, routeCount, tripCount, stopCount, stringBytes);
+        checkArgument(buffer.limit() == format.totalBytes(), "네트워크 파일 크기가 올바르지 않습니다. (기대 %s, 실제 %s)",
+                format.totalBytes(), buffer.limit());
+        checkArgument(buffer.getInt(NetworkFileFormat.CHECKSUM_OFFSET) == NetworkFileFormat.checksum(buffer),
+                "네트워크 파일이 손상되었습니다. (checksum 불일치)");
+
+        this.stationIds = section(buffer, format, Section.STATION_IDS, stationCount * 8).asLongBuffer();
+        this.stationLats = section(buffer, format, Section.STATION_LATS, stationCount * 8).asDoubleBuffer();
+        this.stationLngs = section(buffer, format, Section.STATION_LNGS, stationCount * 8).asDoubleBuffer();
+        this.stationNameOffsets = section(buffer, format, Section.STATION_NAME_OFFSETS, (stationCount + 1) * 4).asIntBuffer();
+        this.routeIds = section(buffer, format, Section.ROUTE_IDS, routeCount * 8).asLongBuffer();
+        this.routeTypes = section(buffer, format, Section.ROUTE_TYPES, routeCount);
+        this.routeNameOffsets = section(buffer, format, Section.ROUTE_NAME_OFFSETS, (routeCount + 1) * 4).asIntBuffer();
+        this.turnRouteIds = section(buffer, format, Section.TURN_ROUTE_IDS, tripCount * 8).asLongBuffer();
+        this.tripRoutes = section(buffer, format, Section.TRIP_ROUTES, tripCount * 4).asIntBuffer();
+        this.stopOffsets = section(buffer, format, Section.STOP_OFFSETS, (tripCount + 1) * 4).asIntBuffer();
+        this.stationIndexes = section(buffer, format, Section.STATION_INDEXES, stopCount * 4).asIntBuffer();
+        this.orders = section(buffer, format, Section.ORDERS, stopCount * 4).asIntBuffer();
+        this.arrivalEpochMinutes = section(buffer, format, Section.ARRIVAL_EPOCH_MINUTES, stopCount * 4).asIntBuffer();
+        this.flags = section(buffer, format, Section.FLAGS, stopCount);
+        this.strings = section(buffer, format, Section.STRINGS, stringBytes);
+
+        checkStructure(stationCount, routeCount, tripCount, stopCount, stringBytes);
+
+        this.stations = new AtomicReferenceArray<>(stationCount);
+        this.routes = new AtomicReferenceArray<>(routeCount);
+        this.turnRoutes = new AtomicReferenceArray<>(tripCount);
+    }
+
+    public static MappedNetwork open(Path file) {
+        checkNotNull(file, "File cannot be null");
+
+        // 매핑은 채널을 닫아도 유지된다.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedNetwork(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int tripCount() {
+        return turnRouteIds.limit();
+    }
+
+    public int stationCount() {
+        return stationIds.limit();
+    }
+
+    public int totalStopCount() {
+        return stationIndexes.limit();
+    }
+
+    public ZoneOffset zoneOffset() {
+        return zoneOffset;
+    }
+
+    public long turnRouteId(int trip) {
+        return turnRouteIds.get(checkElementIndex(trip, tripCount()));
+    }
+
+    public int stopCount(int trip) {
+        checkElementIndex(trip, tripCount());
+        return stopOffsets.get(trip + 1) - stopOffsets.get(trip);
+    }
+
+    public long stationId(int trip, int position) {
+        return stationIds.get(stationIndexes.get(stop(trip, position)));
+    }
+
+    public int arrivalEpochMinute(int trip, int position) {
+        return arrivalEpochMinutes.get(stop(trip, position));
+    }
+
+    /**
+     * stationIndex 번째 정류장. 같은 인덱스에는 항상 같은 객체를 반환한다.
+     */
+    public Station station(int stationIndex) {
+        Station station = stations.get(checkElementIndex(stationIndex, stationCount()));
+        if (station != null) {
+            return station;
+        }
+
+        Station created = Station.builder()
+                .id(stationIds.get(stationIndex))
+                .name(string(stationNameOffsets, stationIndex))
+                .location(new Location(stationLats.get(stationIndex), stationLngs.get(stationIndex)))
+                .createdAt(writtenAt)
+                .updatedAt(writtenAt)
+                .build();
+        return stations.compareAndSet(stationIndex, null, created) ? created : stations.get(stationIndex);
+    }
+
+    public Route route(int trip) {
+        int routeIndex = tripRoutes.get(checkElementIndex(trip, tripCount()));
+        if (routeIndex < 0) {
+            return null;
+        }
+        Route route = routes.get(routeIndex);
+        if (route != null) {
+            return route;
+        }
+
+        long id = routeIds.get(routeIndex);
+        byte type = routeTypes.get(routeIndex);
+        Route created = Route.builder()
+                .id(id == NetworkFileFormat.NULL_ID ? null : id)
+                .name(string(routeNameOffsets, routeIndex))
+                .type(type < 0 ? null : RouteType.values()[type])
+                .createdAt(writtenAt)
+                .updatedAt(writtenAt)
+                .build();
+        return routes.compareAndSet(routeIndex, null, created) ? created : routes.get(routeIndex);
+    }
+
+    /**
+     * trip 번째 회차 노선. 처음 요청될 때 검증 없이 만들어 캐시하며, 이후에는 같은 객체를 반환한다.
+     */
+    public TurnRoute turnRoute(int trip) {
+        TurnRoute turnRoute = turnRoutes.get(checkElementIndex(trip, tripCount()));
+        if (turnRoute != null) {
+            return turnRoute;
+        }
+
+        int from = stopOffsets.get(trip);
+        int to = stopOffsets.get(trip + 1);
+        TurnStation[] turnStations = new TurnStation[to - from];
+        for (int stop = from; stop < to; stop++) {
+            byte flag = flags.get(stop);
+            turnStations[stop - from] = TurnStation.builder()
+                    .station(station(stationIndexes.get(stop)))
+                    .onOffType(CompactNetwork.onOffType(flag))
+                    .pointType(CompactNetwork.pointType(flag))
+                    .order(orders.get(stop))
+                    .expectedArrivalTime(OffsetDateTime.ofInstant(Instant.ofEpochSecond(arrivalEpochMinutes.get(stop) * 60L), zoneOffset))
+                    .createdAt(writtenAt)
+                    .updatedAt(writtenAt)
+                    .build();
+        }
+
+        TurnRoute created = TurnRoute.builder()
+                .id(turnRouteIds.get(trip))
+                .route(route(trip))
+                .turnStations(TurnStations.fromNetworkFile(VERIFIED, List.of(turnStations)))
+                .createdAt(writtenAt)
+                .updatedAt(writtenAt)
+                .build();
+        return turnRoutes.compareAndSet(trip, null, created) ? created : turnRoutes.get(trip);
+    }
+
+    /**
+     * 모든 회차 노선을 담은 읽기 전용 목록. 원소는 get 할 때 turnRoute(trip) 으로 만들어진다.
+     */
+    public List<TurnRoute> turnRoutes() {
+        return new TurnRouteList();
+    }
+
+    /**
+     * 객체를 만들 때 범위를 벗어나거나 잘못된 TurnStations 가 만들어지지 않도록 구역 사이의 관계를 확인한다.
+     * 회차마다 정류장이 두 개 이상이고, 인덱스와 플래그가 범위 안이며, 문자열 위치가 문자열 구역 안에 있어야 한다.
+     */
+    private void checkStructure(int stationCount, int routeCount, int tripCount, int stopCount, int stringBytes) {
+        checkArgument(stopOffsets.get(0) == 0 && stopOffsets.get(tripCount) == stopCount, "네트워크 파일 구조가 올바르지 않습니다: 정류장 구간");
+        for (int trip = 0; trip < tripCount; trip++) {
+            checkArgument(stopOffsets.get(trip + 1) - stopOffsets.get(trip) >= 2,
+                    "네트워크 파일 구조가 올바르지 않습니다: %s 번째 회차의 정류장 구간", trip);
+            int routeIndex = tripRoutes.get(trip);
+            checkArgument(routeIndex >= -1 && routeIndex < routeCount, "네트워크 파일 구조가 올바르지 않습니다: %s 번째 회차의 노선", trip);
+        }
+        for (int stop = 0; stop < stopCount; stop++) {
+            int stationIndex = stationIndexes.get(stop);
+            checkArgument(stationIndex >= 0 && stationIndex < stationCount && CompactNetwork.isValidFlag(flags.get(stop)),
+                    "네트워크 파일 구조가 올바르지 않습니다: %s 번째 정류장 방문", stop);
+        }
+        for (int route = 0; route < routeCount; route++) {
+            byte type = routeTypes.get(route);
+            checkArgument(type >= -1 && type < RouteType.values().length, "네트워크 파일 구조가 올바르지 않습니다: %s 번째 노선 유형", route);
+        }
+        checkArgument(stationNameOffsets.get(0) == 0 && routeNameOffsets.get(0) == stationNameOffsets.get(stationCount)
+                        && isAscending(stationNameOffsets) && isAscending(routeNameOffsets)
+                        && routeNameOffsets.get(routeCount) <= stringBytes,
+                "네트워크 파일 구조가 올바르지 않습니다: 문자열 위치");
+    }
+
+    private static boolean isAscending(IntBuffer offsets) {
+        for (int i = 1; i < offsets.limit(); i++) {
+            if (offsets.get(i) < offsets.get(i - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int stop(int trip, int position) {
+        checkElementIndex(trip, tripCount());
+        int stop = stopOffsets.get(trip) + position;
+        checkArgument(position >= 0 && stop < stopOffsets.get(trip + 1), "Position out of range: %s", position);
+        return stop;
+    }
+
+    private String string(IntBuffer offsets, int index) {
+        int from = offsets.get(index);
+        byte[] bytes = new byte[offsets.get(index + 1) - from];
+        strings.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer section(MappedByteBuffer buffer, NetworkFileFormat format, Section section, int length) {
+        return buffer.slice((int) format.offset(section), length);
+    }
+
+    /**
+     * checksum 과 구조를 확인한 네트워크 파일에서 읽었다는 표식. 생성자가 private 이므로 MappedNetwork 만 가질 수 있고,
+     * TurnStations.fromNetworkFile 은 이 표식 없이는 호출할 수 없다.
+     */
+    public static final class Verified {
+
+        private Verified() {
+        }
+    }
+
+    private final class TurnRouteList extends AbstractList<TurnRoute> implements RandomAccess {
+
+        @Override
+        public TurnRoute get(int index) {
+            return turnRoute(index);
+        }
+
+        @Override
+        public int size() {
+            return tripCount();
+        }
+    }
+}
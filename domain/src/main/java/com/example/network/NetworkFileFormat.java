@@ -0,0 +1,97 @@
+package com.example.network;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * 네트워크 파일(버전 2) 배치.
+ *
+ * <pre>
+ * 헤더 48바이트: magic(4) version(4) zoneOffsetSeconds(4) checksum(4) writtenAtEpochSecond(8)
+ *              stationCount(4) routeCount(4) tripCount(4) stopCount(4) stringBytes(4) reserved(4)
+ * 이후 Section 순서대로 원시 배열이 이어지며 각 구역은 8바이트 경계에서 시작한다. 모든 값은 big-endian 이다.
+ * </pre>
+ *
+ * 구역 위치는 헤더의 개수만으로 계산되므로 별도의 목차는 없다. 배치가 바뀌면 VERSION 을 올린다.
+ * checksum 은 checksum 칸을 뺀 파일 전체의 CRC32C 다.
+ */
+final class NetworkFileFormat {
+
+    static final int MAGIC = 0x54524E57;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 48;
+    static final int CHECKSUM_OFFSET = 12;
+    static final long NULL_ID = Long.MIN_VALUE;
+
+    enum Section {
+        STATION_IDS(8),
+        STATION_LATS(8),
+        STATION_LNGS(8),
+        STATION_NAME_OFFSETS(4),
+        ROUTE_IDS(8),
+        ROUTE_TYPES(1),
+        ROUTE_NAME_OFFSETS(4),
+        TURN_ROUTE_IDS(8),
+        TRIP_ROUTES(4),
+        STOP_OFFSETS(4),
+        STATION_INDEXES(4),
+        ORDERS(4),
+        ARRIVAL_EPOCH_MINUTES(4),
+        FLAGS(1),
+        STRINGS(1);
+
+        private final int elementBytes;
+
+        Section(int elementBytes) {
+            this.elementBytes = elementBytes;
+        }
+    }
+
+    private final long[] offsets = new long[Section.values().length];
+    private final long totalBytes;
+
+    NetworkFileFormat(int stationCount, int routeCount, int tripCount, int stopCount, int stringBytes) {
+        long offset = HEADER_BYTES;
+        for (Section section : Section.values()) {
+            offsets[section.ordinal()] = offset;
+            long length = (long) section.elementBytes * length(section, stationCount, routeCount, tripCount, stopCount, stringBytes);
+            offset = align(offset + length);
+        }
+        this.totalBytes = offset;
+    }
+
+    /**
+     * checksum 칸(CHECKSUM_OFFSET 부터 4바이트)을 뺀 file 전체의 CRC32C. file 의 position 은 바꾸지 않는다.
+     */
+    static int checksum(ByteBuffer file) {
+        CRC32C crc = new CRC32C();
+        crc.update(file.slice(0, CHECKSUM_OFFSET));
+        crc.update(file.slice(CHECKSUM_OFFSET + 4, file.limit() - CHECKSUM_OFFSET - 4));
+        return (int) crc.getValue();
+    }
+
+    long offset(Section section) {
+        return offsets[section.ordinal()];
+    }
+
+    long totalBytes() {
+        return totalBytes;
+    }
+
+    private static int length(Section section, int stationCount, int routeCount, int tripCount, int stopCount, int stringBytes) {
+        return switch (section) {
+            case STATION_IDS, STATION_LATS, STATION_LNGS -> stationCount;
+            case STATION_NAME_OFFSETS -> stationCount + 1;
+            case ROUTE_IDS, ROUTE_TYPES -> routeCount;
+            case ROUTE_NAME_OFFSETS -> routeCount + 1;
+            case TURN_ROUTE_IDS, TRIP_ROUTES -> tripCount;
+            case STOP_OFFSETS -> tripCount + 1;
+            case STATION_INDEXES, ORDERS, ARRIVAL_EPOCH_MINUTES, FLAGS -> stopCount;
+            case STRINGS -> stringBytes;
+        };
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+}
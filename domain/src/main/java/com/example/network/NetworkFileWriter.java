@@ -0,0 +1,149 @@
+package com.example.network;
+
+import com.example.network.NetworkFileFormat.Section;
+import com.example.route.Route;
+import com.example.station.Station;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * CompactNetwork 를 네트워크 파일(NetworkFileFormat)로 쓴다.
+ * 임시 파일에 전부 쓴 뒤 이름을 바꾸므로 읽는 쪽은 완성된 파일만 보게 된다.
+ */
+public final class NetworkFileWriter {
+
+    private NetworkFileWriter() {
+    }
+
+    public static void write(CompactNetwork network, Path file) {
+        checkNotNull(network, "Network cannot be null");
+        checkNotNull(file, "File cannot be null");
+
+        Station[] stations = network.stations();
+        Route[] tripRoutes = network.routes();
+
+        // 회차마다 같은 Route 객체를 가리키므로 노선 표는 객체 단위로 한 번씩만 쓴다.
+        Map<Route, Integer> routeIndexes = new IdentityHashMap<>();
+        List<Route> routes = new ArrayList<>();
+        int[] tripRouteIndexes = new int[tripRoutes.length];
+        for (int trip = 0; trip < tripRoutes.length; trip++) {
+            Route route = tripRoutes[trip];
+            tripRouteIndexes[trip] = route == null ? -1 : routeIndexes.computeIfAbsent(route, r -> {
+                routes.add(r);
+                return routes.size() - 1;
+            });
+        }
+
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        int[] stationNameOffsets = new int[stations.length + 1];
+        for (int i = 0; i < stations.length; i++) {
+            strings.writeBytes(utf8(stations[i].getName()));
+            stationNameOffsets[i + 1] = strings.size();
+        }
+        // 노선 이름 위치도 문자열 구역 처음부터 센다.
+        int[] routeNameOffsets = new int[routes.size() + 1];
+        routeNameOffsets[0] = strings.size();
+        for (int i = 0; i < routes.size(); i++) {
+            strings.writeBytes(utf8(routes.get(i).getName()));
+            routeNameOffsets[i + 1] = strings.size();
+        }
+
+        NetworkFileFormat format = new NetworkFileFormat(stations.length, routes.size(), tripRoutes.length,
+                network.totalStopCount(), strings.size());
+        checkArgument(format.totalBytes() <= Integer.MAX_VALUE, "네트워크 파일은 2GB 를 넘을 수 없습니다: %s bytes", format.totalBytes());
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, format.totalBytes());
+
+            buffer.putInt(NetworkFileFormat.MAGIC)
+                    .putInt(NetworkFileFormat.VERSION)
+                    .putInt(network.zoneOffset().getTotalSeconds())
+                    .putInt(0)
+                    .putLong(Instant.now().getEpochSecond())
+                    .putInt(stations.length)
+                    .putInt(routes.size())
+                    .putInt(tripRoutes.length)
+                    .putInt(network.totalStopCount())
+                    .putInt(strings.size())
+                    .putInt(0);
+
+            buffer.position((int) format.offset(Section.STATION_IDS));
+            for (Station station : stations) {
+                buffer.putLong(station.getId());
+            }
+            buffer.position((int) format.offset(Section.STATION_LATS));
+            for (Station station : stations) {
+                buffer.putDouble(station.getLocation().lat());
+            }
+            buffer.position((int) format.offset(Section.STATION_LNGS));
+            for (Station station : stations) {
+                buffer.putDouble(station.getLocation().lng());
+            }
+            buffer.position((int) format.offset(Section.STATION_NAME_OFFSETS));
+            buffer.asIntBuffer().put(stationNameOffsets);
+
+            buffer.position((int) format.offset(Section.ROUTE_IDS));
+            for (Route route : routes) {
+                buffer.putLong(route.getId() == null ? NetworkFileFormat.NULL_ID : route.getId());
+            }
+            buffer.position((int) format.offset(Section.ROUTE_TYPES));
+            for (Route route : routes) {
+                buffer.put(route.getType() == null ? -1 : (byte) route.getType().ordinal());
+            }
+            buffer.position((int) format.offset(Section.ROUTE_NAME_OFFSETS));
+            buffer.asIntBuffer().put(routeNameOffsets);
+
+            buffer.position((int) format.offset(Section.TURN_ROUTE_IDS));
+            buffer.asLongBuffer().put(network.turnRouteIds());
+            buffer.position((int) format.offset(Section.TRIP_ROUTES));
+            buffer.asIntBuffer().put(tripRouteIndexes);
+            buffer.position((int) format.offset(Section.STOP_OFFSETS));
+            buffer.asIntBuffer().put(network.stopOffsets());
+            buffer.position((int) format.offset(Section.STATION_INDEXES));
+            buffer.asIntBuffer().put(network.stationIndexes());
+            buffer.position((int) format.offset(Section.ORDERS));
+            buffer.asIntBuffer().put(network.orders());
+            buffer.position((int) format.offset(Section.ARRIVAL_EPOCH_MINUTES));
+            buffer.asIntBuffer().put(network.arrivalEpochMinutes());
+            buffer.position((int) format.offset(Section.FLAGS));
+            buffer.put(network.flags());
+            buffer.position((int) format.offset(Section.STRINGS));
+            buffer.put(strings.toByteArray());
+
+            // checksum 칸은 0 으로 비워 두었다가 모든 구역을 쓴 뒤 채운다.
+            buffer.putInt(NetworkFileFormat.CHECKSUM_OFFSET, NetworkFileFormat.checksum(buffer));
+            buffer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.network;
+
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 특정 버전의 정류장과 회차 노선 전체를 담은 불변 스냅샷.
+ * 한 번 얻은 스냅샷은 이후의 시간표 변경과 관계없이 같은 내용을 보여준다.
+ * 다음 버전은 edit() 로 만들며, 바뀌지 않은 부분은 이전 버전과 공유한다.
+ */
+public final class NetworkSnapshot {
+
+    private static final NetworkSnapshot EMPTY = new NetworkSnapshot(0, HashTrieMap.empty(), HashTrieMap.empty());
+
+    private final long version;
+    private final HashTrieMap<Station> stations;
+    private final HashTrieMap<TurnRoute> turnRoutes;
+
+    private NetworkSnapshot(long version, HashTrieMap<Station> stations, HashTrieMap<TurnRoute> turnRoutes) {
+        this.version = version;
+        this.stations = stations;
+        this.turnRoutes = turnRoutes;
+    }
+
+    public static NetworkSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Optional<Station> station(Long id) {
+        return Optional.ofNullable(stations.get(id));
+    }
+
+    public Optional<TurnRoute> turnRoute(Long id) {
+        return Optional.ofNullable(turnRoutes.get(id));
+    }
+
+    public int stationCount() {
+        return stations.size();
+    }
+
+    public int turnRouteCount() {
+        return turnRoutes.size();
+    }
+
+    public Collection<Station> stations() {
+        return stations.values();
+    }
+
+    public Collection<TurnRoute> turnRoutes() {
+        return turnRoutes.values();
+    }
+
+    public Editor edit() {
+        return new Editor(this);
+    }
+
+    /**
+     * 스냅샷을 기준으로 다음 버전을 만든다. 바뀐 항목까지의 트라이 경로만 복사하고 나머지는 이전 버전과 공유한다.
+     * 편집 비용은 바뀐 항목 수 x 트라이 깊이(log64 n) 에 비례한다.
+     * 예를 들어 회차 100만 개에서 한 회차만 바꾸면 64칸 이하의 노드 네 개 정도만 복사한다.
+     * 한 쓰레드에서만 사용한다.
+     */
+    public static final class Editor {
+
+        private final NetworkSnapshot base;
+        private final HashTrieMap.Editor<Station> stations;
+        private final HashTrieMap.Editor<TurnRoute> turnRoutes;
+
+        private Editor(NetworkSnapshot base) {
+            this.base = base;
+            this.stations = base.stations.edit();
+            this.turnRoutes = base.turnRoutes.edit();
+        }
+
+        public Editor putStation(Station station) {
+            checkNotNull(station, "Station cannot be null");
+            stations.put(station.getId(), station);
+            return this;
+        }
+
+        public Editor removeStation(Long id) {
+            stations.remove(id);
+            return this;
+        }
+
+        public Editor putTurnRoute(TurnRoute turnRoute) {
+            checkNotNull(turnRoute, "TurnRoute cannot be null");
+            turnRoutes.put(turnRoute.getId(), turnRoute);
+            return this;
+        }
+
+        public Editor removeTurnRoute(Long id) {
+            turnRoutes.remove(id);
+            return this;
+        }
+
+        public Optional<Station> station(Long id) {
+            return Optional.ofNullable(stations.get(id));
+        }
+
+        public Optional<TurnRoute> turnRoute(Long id) {
+            return Optional.ofNullable(turnRoutes.get(id));
+        }
+
+        /**
+         * 다음 버전 스냅샷을 만든다. 바뀐 것이 없으면 기준 스냅샷을 그대로 반환한다.
+         */
+        public NetworkSnapshot build() {
+            if (!stations.changed() && !turnRoutes.changed()) {
+                return base;
+            }
+            return new NetworkSnapshot(base.version + 1, stations.build(), turnRoutes.build());
+        }
+    }
+}
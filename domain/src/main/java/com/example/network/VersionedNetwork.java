@@ -0,0 +1,51 @@
+package com.example.network;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 현재 네트워크 스냅샷을 AtomicReference 로 공개한다.
+ * 읽는 쪽은 current() 로 얻은 스냅샷을 락 없이 사용하고, 쓰는 쪽은 다음 버전을 만든 뒤 CAS 로 교체한다.
+ */
+public class VersionedNetwork {
+
+    private final AtomicReference<NetworkSnapshot> current;
+
+    public VersionedNetwork() {
+        this(NetworkSnapshot.empty());
+    }
+
+    public VersionedNetwork(NetworkSnapshot initial) {
+        checkNotNull(initial, "Snapshot cannot be null");
+        this.current = new AtomicReference<>(initial);
+    }
+
+    public NetworkSnapshot current() {
+        return current.get();
+    }
+
+    public long version() {
+        return current.get().version();
+    }
+
+    /**
+     * 현재 스냅샷에 edits 를 적용한 다음 버전을 공개하고 반환한다.
+     * 다른 쓰기가 먼저 공개되면 새 스냅샷을 기준으로 edits 를 다시 적용하므로, edits 는 부수 효과 없이
+     * 편집기에만 변경을 기록해야 한다.
+     */
+    public NetworkSnapshot update(Consumer<NetworkSnapshot.Editor> edits) {
+        checkNotNull(edits, "Edits cannot be null");
+
+        while (true) {
+            NetworkSnapshot base = current.get();
+            NetworkSnapshot.Editor editor = base.edit();
+            edits.accept(editor);
+            NetworkSnapshot next = editor.build();
+            if (next == base || current.compareAndSet(base, next)) {
+                return next;
+            }
+        }
+    }
+}
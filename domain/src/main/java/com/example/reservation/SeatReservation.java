@@ -0,0 +1,8 @@
+package com.example.reservation;
+
+/**
+ * 회차 노선 한 편에서 승차(boardingOrder) 정류장부터 하차(alightingOrder) 정류장까지 잡아 둔 좌석.
+ * 좌석은 두 정류장 사이 구간에서만 점유된다.
+ */
+public record SeatReservation(long id, Long turnRouteId, int boardingOrder, int alightingOrder, int seats) {
+}
@@ -0,0 +1,81 @@
+package com.example.reservation;
+
+import com.example.turn.route.TurnRoute;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 회차 노선별 구간 좌석 예약.
+ * 승차(ON) 정류장에서 하차(OFF) 정류장까지의 구간에서만 좌석을 점유하므로, 구간이 겹치지 않는 승객은 같은 좌석을 나눠 쓴다.
+ * 예약은 구간 카운터에 대한 CAS 로만 처리되어 같은 회차에 예약이 몰려도 서로를 기다리지 않으며, 어느 구간도 정원을 넘지 않는다.
+ */
+public class SeatReservationEngine {
+
+    private final ConcurrentMap<Long, SegmentSeats> seatsByTurnRouteId = new ConcurrentHashMap<>();
+
+    /**
+     * 회차 노선을 정원 capacity 로 예약 대상에 등록한다.
+     */
+    public void register(TurnRoute turnRoute, int capacity) {
+        checkNotNull(turnRoute, "TurnRoute cannot be null");
+        checkNotNull(turnRoute.getId(), "TurnRoute id cannot be null");
+        checkArgument(capacity > 0, "Capacity must be positive, but was %s", capacity);
+
+        SegmentSeats previous = seatsByTurnRouteId.putIfAbsent(turnRoute.getId(), new SegmentSeats(turnRoute, capacity));
+        checkState(previous == null, "이미 예약 대상으로 등록된 회차 노선입니다. (id: %s)", turnRoute.getId());
+    }
+
+    /**
+     * 좌석을 예약한다. 구간 중 한 곳이라도 남은 좌석이 모자라면 빈 값을 반환한다.
+     * 정원보다 많은 좌석은 어떤 경우에도 예약할 수 없으므로 예외가 발생한다.
+     */
+    public Optional<SeatReservation> reserve(Long turnRouteId, int boardingOrder, int alightingOrder, int seats) {
+        checkArgument(seats > 0, "Seats must be positive, but was %s", seats);
+        SegmentSeats segmentSeats = seats(turnRouteId);
+        checkArgument(seats <= segmentSeats.capacity(), "Seats must not exceed capacity %s, but was %s", segmentSeats.capacity(), seats);
+        return Optional.ofNullable(segmentSeats.reserve(boardingOrder, alightingOrder, seats));
+    }
+
+    /**
+     * 예약을 취소한다. 이미 취소된 예약이면 false 를 반환한다.
+     */
+    public boolean cancel(SeatReservation reservation) {
+        checkNotNull(reservation, "Reservation cannot be null");
+        return seats(reservation.turnRouteId()).cancel(reservation);
+    }
+
+    /**
+     * 승차 정류장에서 하차 정류장까지 함께 예약할 수 있는 좌석 수.
+     */
+    public int remainingSeats(Long turnRouteId, int boardingOrder, int alightingOrder) {
+        return seats(turnRouteId).remainingSeats(boardingOrder, alightingOrder);
+    }
+
+    /**
+     * 구간별 점유 좌석 수. i 번째 값은 i 번째 정류장에서 다음 정류장까지의 구간이다.
+     */
+    public int[] occupiedSeats(Long turnRouteId) {
+        return seats(turnRouteId).occupiedSeats();
+    }
+
+    public int capacity(Long turnRouteId) {
+        return seats(turnRouteId).capacity();
+    }
+
+    public int reservationCount(Long turnRouteId) {
+        return seats(turnRouteId).reservationCount();
+    }
+
+    private SegmentSeats seats(Long turnRouteId) {
+        checkNotNull(turnRouteId, "TurnRoute id cannot be null");
+        SegmentSeats seats = seatsByTurnRouteId.get(turnRouteId);
+        checkArgument(seats != null, "예약 대상으로 등록되지 않은 회차 노선입니다. (id: %s)", turnRouteId);
+        return seats;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.reservation;
+
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 회차 노선 한 편의 구간별 점유 좌석 수.
+ * 구간 i 는 i 번째 정류장에서 i + 1 번째 정류장까지이며, 구간마다 CAS 로만 증감하므로 락이 없다.
+ * 구간 카운터는 서로 다른 캐시 라인에 두어, 다른 구간을 예약하는 스레드끼리 캐시 라인을 두고 다투지 않게 한다.
+ */
+final class SegmentSeats {
+
+    // 64바이트 캐시 라인 / int 4바이트
+    private static final int STRIDE = 16;
+
+    private final Long turnRouteId;
+    private final int capacity;
+    private final int[] orders;
+    private final TurnStationOnOffType[] onOffTypes;
+    private final AtomicIntegerArray occupied;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<Long, SeatReservation> reservations = new ConcurrentHashMap<>();
+
+    SegmentSeats(TurnRoute turnRoute, int capacity) {
+        List<TurnStation> turnStations = turnRoute.getTurnStations().turnStations();
+        this.turnRouteId = turnRoute.getId();
+        this.capacity = capacity;
+        this.orders = new int[turnStations.size()];
+        this.onOffTypes = new TurnStationOnOffType[turnStations.size()];
+        for (int i = 0; i < turnStations.size(); i++) {
+            orders[i] = turnStations.get(i).getOrder();
+            onOffTypes[i] = turnStations.get(i).getOnOffType();
+        }
+        this.occupied = new AtomicIntegerArray(Math.max(orders.length - 1, 0) * STRIDE);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * [승차 정류장, 하차 정류장) 의 모든 구간에 좌석을 더한다.
+     * 한 구간이라도 남은 좌석이 모자라면 앞서 더한 구간을 되돌리고 null 을 반환한다.
+     * 되돌리기 전까지 다른 예약이 잠시 더 적은 좌석을 볼 수는 있지만, 어느 구간도 capacity 를 넘지 않는다.
+     */
+    SeatReservation reserve(int boardingOrder, int alightingOrder, int seats) {
+        int from = boardingPosition(boardingOrder);
+        int to = alightingPosition(alightingOrder);
+        checkArgument(from < to, "승차 정류장이 하차 정류장보다 앞에 있어야 합니다. (%s -> %s)", boardingOrder, alightingOrder);
+
+        for (int segment = from; segment < to; segment++) {
+            if (!tryAcquire(segment, seats)) {
+                release(from, segment, seats);
+                return null;
+            }
+        }
+
+        SeatReservation reservation = new SeatReservation(sequence.incrementAndGet(), turnRouteId, boardingOrder, alightingOrder, seats);
+        reservations.put(reservation.id(), reservation);
+        return reservation;
+    }
+
+    /**
+     * 예약을 취소하고 좌석을 돌려준다. 이미 취소했거나 이 회차의 예약이 아니면 false 를 반환한다.
+     */
+    boolean cancel(SeatReservation reservation) {
+        if (!reservations.remove(reservation.id(), reservation)) {
+            return false;
+        }
+        release(position(reservation.boardingOrder()), position(reservation.alightingOrder()), reservation.seats());
+        return true;
+    }
+
+    int remainingSeats(int boardingOrder, int alightingOrder) {
+        int from = position(boardingOrder);
+        int to = position(alightingOrder);
+        checkArgument(from < to, "승차 정류장이 하차 정류장보다 앞에 있어야 합니다. (%s -> %s)", boardingOrder, alightingOrder);
+
+        int remaining = capacity;
+        for (int segment = from; segment < to; segment++) {
+            remaining = Math.min(remaining, capacity - occupied.get(segment * STRIDE));
+        }
+        return remaining;
+    }
+
+    int[] occupiedSeats() {
+        int[] snapshot = new int[orders.length - 1];
+        for (int segment = 0; segment < snapshot.length; segment++) {
+            snapshot[segment] = occupied.get(segment * STRIDE);
+        }
+        return snapshot;
+    }
+
+    int reservationCount() {
+        return reservations.size();
+    }
+
+    private boolean tryAcquire(int segment, int seats) {
+        int index = segment * STRIDE;
+        while (true) {
+            int current = occupied.get(index);
+            // current + seats 는 seats 가 크면 넘칠 수 있으므로 남은 좌석과 비교한다.
+            if (seats > capacity - current) {
+                return false;
+            }
+            if (occupied.compareAndSet(index, current, current + seats)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(int from, int to, int seats) {
+        for (int segment = from; segment < to; segment++) {
+            occupied.getAndAdd(segment * STRIDE, -seats);
+        }
+    }
+
+    private int boardingPosition(int order) {
+        int position = position(order);
+        checkArgument(onOffTypes[position] == TurnStationOnOffType.ON, "승차할 수 없는 정류장입니다. (order: %s)", order);
+        return position;
+    }
+
+    private int alightingPosition(int order) {
+        int position = position(order);
+        checkArgument(onOffTypes[position] == TurnStationOnOffType.OFF, "하차할 수 없는 정류장입니다. (order: %s)", order);
+        return position;
+    }
+
+    private int position(int order) {
+        for (int i = 0; i < orders.length; i++) {
+            if (orders[i] == order) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("회차 노선에 없는 정류장 순서입니다. (order: " + order + ")");
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.route;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RouteRepository {
+
+    /**
+     * 새 id 를 발급해 저장한 노선을 반환한다.
+     */
+    Route save(Route route);
+
+    List<Route> saveAll(Collection<Route> routes);
+
+    Optional<Route> findById(Long id);
+
+    /**
+     * 존재하지 않는 id 는 결과에서 제외된다. 결과 순서는 요청한 id 순서를 따른다.
+     */
+    List<Route> findAllById(Collection<Long> ids);
+
+    List<Route> findAllByType(RouteType type);
+}
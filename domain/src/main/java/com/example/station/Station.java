@@ -1,11 +1,13 @@
 package com.example.station;
 
 
+import com.example.common.DomainInterner;
 import com.example.common.Location;
 import com.example.common.PersistableDomain;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 
 import static com.google.common.base.Preconditions.*;
@@ -18,14 +20,24 @@ public class Station extends PersistableDomain<Long> {
     private Location location;
 
     public static Station of(String name, Location location) {
+        return of(name, location, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 생성/수정 시각은 clock 의 현재 시각을 자르지 않고 그대로 쓴다. 좌표만 DomainInterner 로 정규화한다.
+     * 새로 만드는 정류장은 id 가 없고 시각이 매번 달라 합칠 대상이 거의 없으므로 정류장 자체는 정규화하지 않는다.
+     */
+    public static Station of(String name, Location location, Clock clock) {
         checkNotNull(name, "Station name cannot be null");
         checkNotNull(location , "Location cannot be null");
+        checkNotNull(clock, "Clock cannot be null");
 
+        OffsetDateTime now = OffsetDateTime.now(clock);
         return Station.builder()
                 .name(name)
-                .location(location)
-                .createdAt(OffsetDateTime.now())
-                .updatedAt(OffsetDateTime.now())
+                .location(DomainInterner.location(location))
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
     }
 }
@@ -1,10 +1,31 @@
 package com.example.station;
 
+import com.example.common.Location;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StationRepository {
 
     Station save(Station station);
 
+    List<Station> saveAll(Collection<Station> stations);
+
     Optional<Station> findById(Long id);
+
+    /**
+     * 존재하지 않는 id 는 결과에서 제외된다. 결과 순서는 요청한 id 순서를 따른다.
+     */
+    List<Station> findAllById(Collection<Long> ids);
+
+    /**
+     * center 로부터 meters 이내의 정류장을 가까운 순으로 반환한다.
+     */
+    List<Station> findWithinRadius(Location center, double meters);
+
+    /**
+     * center 에서 가장 가까운 정류장 k 개를 가까운 순으로 반환한다.
+     */
+    List<Station> findNearest(Location center, int k);
 }
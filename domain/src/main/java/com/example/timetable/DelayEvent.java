@@ -0,0 +1,24 @@
+package com.example.timetable;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 운행 중인 회차의 지연 보고.
+ * order 번째 정류장부터 종점까지 예정 시각보다 delay 만큼 늦게(음수면 일찍) 도착한다는 뜻이며,
+ * 같은 회차에 새 보고가 오면 해당 구간의 지연을 덮어쓴다.
+ */
+public record DelayEvent(
+        Long turnRouteId,
+        int order,
+        Duration delay
+) {
+
+    public DelayEvent {
+        checkNotNull(turnRouteId, "TurnRoute id cannot be null");
+        checkNotNull(delay, "Delay cannot be null");
+        checkArgument(order > 0, "Order must be positive, but was %s", order);
+    }
+}
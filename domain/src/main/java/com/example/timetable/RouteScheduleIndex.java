@@ -0,0 +1,28 @@
+package com.example.timetable;
+
+import com.example.route.RouteType;
+import com.example.turn.route.TurnRoute;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 노선 유형(출근/퇴근)별 회차 노선의 출발(시작 정류장 도착) 시각, 종료(종점 도착) 시각 인덱스.
+ * 시각 구간 조회는 [from, to) 이며 결과는 해당 시각 순(같으면 회차 id 순)으로 정렬된다.
+ */
+public interface RouteScheduleIndex {
+
+    /**
+     * 같은 id 의 회차 노선이 이미 있으면 교체한다.
+     */
+    void add(TurnRoute turnRoute);
+
+    void addAll(Collection<TurnRoute> turnRoutes);
+
+    void remove(Long turnRouteId);
+
+    List<TurnRoute> findDepartingBetween(RouteType type, OffsetDateTime from, OffsetDateTime to);
+
+    List<TurnRoute> findEndingBetween(RouteType type, OffsetDateTime from, OffsetDateTime to);
+}
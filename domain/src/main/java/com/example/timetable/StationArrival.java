@@ -0,0 +1,29 @@
+package com.example.timetable;
+
+import com.example.route.Route;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 특정 정류장에 도착하는 회차 노선 정보 (도착 안내판의 한 줄)
+ */
+public record StationArrival(
+        TurnRoute turnRoute,
+        TurnStation turnStation
+) {
+
+    public Route route() {
+        return turnRoute.getRoute();
+    }
+
+    public OffsetDateTime expectedArrivalTime() {
+        return turnStation.getExpectedArrivalTime();
+    }
+
+    public TurnStationOnOffType onOffType() {
+        return turnStation.getOnOffType();
+    }
+}
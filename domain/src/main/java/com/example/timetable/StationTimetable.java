@@ -0,0 +1,37 @@
+package com.example.timetable;
+
+import com.example.turn.route.TurnRoute;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정류장별 도착 예정 시각 인덱스.
+ * 회차 노선과 정류장은 저장되어 id 가 부여된 상태여야 한다.
+ */
+public interface StationTimetable {
+
+    void add(TurnRoute turnRoute);
+
+    void addAll(Collection<TurnRoute> turnRoutes);
+
+    void remove(Long turnRouteId);
+
+    /**
+     * from 이후(포함) 해당 정류장에 도착하는 회차를 도착 시각 순으로 최대 limit 개 반환한다.
+     */
+    List<StationArrival> findNextArrivals(Long stationId, OffsetDateTime from, int limit);
+
+    /**
+     * 지연을 반영해 해당 회차의 order 이후 정류장 도착 시각과 그 정류장들의 도착 목록을 갱신한다.
+     * 회차 노선이 없거나 order 에 해당하는 정류장이 없으면 IllegalArgumentException 이 발생한다.
+     */
+    void applyDelay(DelayEvent event);
+
+    /**
+     * 지연이 반영된 현재 회차 노선. 종점 도착 예정 시각은 getTurnStations().getEndStationExpectedArrivalTime() 으로 얻는다.
+     */
+    Optional<TurnRoute> findTurnRoute(Long turnRouteId);
+}
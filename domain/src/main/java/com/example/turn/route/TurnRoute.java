@@ -1,5 +1,6 @@
 package com.example.turn.route;
 
+import com.example.common.DomainInterner;
 import com.example.common.PersistableDomain;
 import com.example.route.Route;
 import com.example.turn.station.TurnStation;
@@ -18,11 +19,12 @@ public class TurnRoute extends PersistableDomain<Long> {
     private TurnStations turnStations;
 
     public static TurnRoute of(Route route, List<TurnStation> turnStations) {
+        OffsetDateTime now = DomainInterner.now();
         return TurnRoute.builder()
                 .route(route)
                 .turnStations(TurnStations.of(turnStations))
-                .createdAt(OffsetDateTime.now())
-                .updatedAt(OffsetDateTime.now())
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
     }
 }
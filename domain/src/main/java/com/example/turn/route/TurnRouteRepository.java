@@ -0,0 +1,27 @@
+package com.example.turn.route;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TurnRouteRepository {
+
+    /**
+     * 새 id 를 발급해 저장한 회차 노선을 반환한다.
+     */
+    TurnRoute save(TurnRoute turnRoute);
+
+    List<TurnRoute> saveAll(Collection<TurnRoute> turnRoutes);
+
+    Optional<TurnRoute> findById(Long id);
+
+    /**
+     * 존재하지 않는 id 는 결과에서 제외된다. 결과 순서는 요청한 id 순서를 따른다.
+     */
+    List<TurnRoute> findAllById(Collection<Long> ids);
+
+    /**
+     * 해당 노선의 회차를 id 순으로 반환한다.
+     */
+    List<TurnRoute> findAllByRouteId(Long routeId);
+}
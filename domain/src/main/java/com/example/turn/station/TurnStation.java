@@ -1,5 +1,6 @@
 package com.example.turn.station;
 
+import com.example.common.DomainInterner;
 import com.example.common.PersistableDomain;
 import com.example.station.Station;
 import com.example.turn.route.TurnRoute;
@@ -7,7 +8,6 @@ import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 import java.time.OffsetDateTime;
-import java.time.temporal.ChronoUnit;
 
 @Getter
 @SuperBuilder
@@ -22,16 +22,15 @@ public class TurnStation extends PersistableDomain<Long> {
 
     public static TurnStation of(TurnRoute turnRoute, Station station, TurnStationOnOffType onOffType,
                                      TurnStationType pointType, int order, OffsetDateTime expectedArrivalTime) {
-        OffsetDateTime now = OffsetDateTime.now();
-        now.truncatedTo(ChronoUnit.MINUTES);
+        OffsetDateTime now = DomainInterner.now();
 
         return TurnStation.builder()
                 .turnRoute(turnRoute)
-                .station(station)
+                .station(DomainInterner.station(station))
                 .onOffType(onOffType)
                 .pointType(pointType)
                 .order(order)
-                .expectedArrivalTime(expectedArrivalTime)
+                .expectedArrivalTime(DomainInterner.timestamp(expectedArrivalTime))
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
@@ -1,8 +1,12 @@
 package com.example.turn.station;
 
 
+import com.example.network.MappedNetwork;
+
 import java.time.OffsetDateTime;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -17,10 +21,52 @@ public record TurnStations(List<TurnStation> turnStations) {
         return new TurnStations(turnStations);
     }
 
+    /**
+     * 정류장과 순서, 승하차/정류장 유형은 그대로 두고 도착 시각만 바꾼 목록으로 만든다(예: 실시간 지연 반영).
+     * 검증 규칙은 시각을 보지 않으므로, 이미 검증된 scheduled 와 구조가 같은지만 확인하고 규칙 검증은 다시 하지 않는다.
+     */
+    public static TurnStations retimed(TurnStations scheduled, List<TurnStation> turnStations) {
+        checkNotNull(scheduled, "scheduled cannot be null");
+        checkNotNull(turnStations, "turnStations cannot be null");
+        List<TurnStation> original = scheduled.turnStations;
+        checkArgument(turnStations.size() == original.size(),
+                "정류장 수가 바뀌었습니다. expected %s, but was %s", original.size(), turnStations.size());
+        for (int i = 0; i < original.size(); i++) {
+            TurnStation before = original.get(i);
+            TurnStation after = checkNotNull(turnStations.get(i), "turnStation cannot be null");
+            checkArgument(Objects.equals(before.getStation(), after.getStation())
+                            && before.getOrder() == after.getOrder()
+                            && before.getOnOffType() == after.getOnOffType()
+                            && before.getPointType() == after.getPointType(),
+                    "도착 시각 외의 정보가 바뀐 정류장입니다. index %s", i);
+        }
+        return ofValidated(turnStations);
+    }
+
+    /**
+     * MappedNetwork 가 checksum 과 구조를 확인한 네트워크 파일에서 읽은 정류장 목록으로 만든다. NetworkFileWriter 는 이미
+     * 검증된 TurnStations 만 기록하므로 다시 검증하지 않는다. MappedNetwork.Verified 는 MappedNetwork 밖에서 만들 수 없다.
+     */
+    public static TurnStations fromNetworkFile(MappedNetwork.Verified verified, List<TurnStation> turnStations) {
+        checkNotNull(verified, "verified cannot be null");
+        return ofValidated(turnStations);
+    }
+
+    /**
+     * 검증을 건너뛰는 유일한 경로. 위의 두 진입점만 사용한다.
+     */
+    static TurnStations ofValidated(List<TurnStation> turnStations) {
+        return new TurnStations(new Validated(List.copyOf(turnStations)));
+    }
+
     public TurnStations(List<TurnStation> turnStations) {
-        validate(turnStations);
-        // turnStations 의 내부 원소들은 같은 주소값임. 이 값들도 복사해서 다른 주소값을 가지도록 하는 방법 고민해볼만함.
-        this.turnStations = List.copyOf(turnStations);
+        if (turnStations instanceof Validated validated) {
+            this.turnStations = validated.turnStations;
+        } else {
+            validate(turnStations);
+            // 원소(TurnStation)는 복사하지 않고 공유한다. 원소가 참조하는 Station/시각은 팩터리에서 DomainInterner 로 정규화된다.
+            this.turnStations = List.copyOf(turnStations);
+        }
     }
 
 
@@ -42,67 +88,48 @@ public record TurnStations(List<TurnStation> turnStations) {
         return this.turnStations.getLast().getExpectedArrivalTime();
     }
 
+    /**
+     * 규칙 위반 시의 예외 메시지와 검사 우선순위는 TurnStationsRule 선언 순서를 따른다.
+     * 통과/위반 횟수는 TurnStationsMetrics 에 누적하고, 느린 검증은 JFR 이벤트로 남긴다.
+     */
     private void validate(List<TurnStation> turnStations) {
-        checkNotNull(turnStations, "정류장 목록은 null일 수 없습니다.");
-        checkArgument(turnStations.size() >= 2, "정류장 목록은 두 개 이상이어야 합니다.");
-        validateStationOrdering(turnStations);
-        validateBeginAndEndStationExistOnlyOne(turnStations);
-        validateBeginAndEndStationIsOnAndOffStation(turnStations);
-    }
-
-    private void validateStationOrdering(List<TurnStation> turnStations) {
-        List<Integer> ordering = turnStations.stream().map(TurnStation::getOrder).toList();
-        List<Integer> sortedOrdering = ordering.stream().distinct().sorted().toList();
-
-        if (sortedOrdering.getFirst() <= 0) {
-            throw new IllegalArgumentException("정류장 순서는 0보다 커야 합니다.");
-        }
-
-        if (ordering.size() != sortedOrdering.size()) {
-            throw new IllegalArgumentException("정류장 순서가 중복되었습니다.");
+        TurnStationsValidationEvent event = new TurnStationsValidationEvent();
+        event.begin();
+        TurnStationsRule violation = TurnStationsRule.firstViolation(turnStations);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.stations = turnStations == null ? 0 : turnStations.size();
+            event.rule = violation == null ? null : violation.name();
+            event.commit();
         }
 
-        if (!ordering.equals(sortedOrdering)) {
-            throw new IllegalArgumentException("정류장 순서가 올바르지 않습니다.");
+        if (violation != null) {
+            TurnStationsMetrics.recordViolation(violation);
+            throw violation.exception();
         }
+        TurnStationsMetrics.recordPassed(turnStations.size());
     }
 
-    private void validateBeginAndEndStationExistOnlyOne(List<TurnStation> turnStations) {
-        long beginCount = turnStations.stream()
-                .filter(turnStation -> turnStation.getPointType() == TurnStationType.BEGIN)
-                .count();
+    /**
+     * ofValidated 로만 만들 수 있는 표식 목록. 생성자는 이 타입일 때만 검증을 건너뛴다.
+     */
+    private static final class Validated extends AbstractList<TurnStation> {
 
-        long endCount = turnStations.stream()
-                .filter(turnStation -> turnStation.getPointType() == TurnStationType.END)
-                .count();
+        private final List<TurnStation> turnStations;
 
-        if (beginCount != 1) {
-            throw new IllegalArgumentException("정류장 목록에 시작 정류장이 하나만 존재해야 합니다.");
+        private Validated(List<TurnStation> turnStations) {
+            this.turnStations = turnStations;
         }
 
-        if (endCount != 1) {
-            throw new IllegalArgumentException("정류장 목록에 종료 정류장이 하나만 존재해야 합니다.");
-        }
-
-        TurnStation beginStation = turnStations.getFirst();
-        TurnStation endStation = turnStations.getLast();
-
-        if (beginStation.getPointType() != TurnStationType.BEGIN) {
-            throw new IllegalArgumentException("정류장 목록의 첫 번째 정류장은 시작 정류장이어야 합니다.");
-        }
-
-        if (endStation.getPointType() != TurnStationType.END) {
-            throw new IllegalArgumentException("정류장 목록의 마지막 정류장은 종료 정류장이어야 합니다.");
-        }
-    }
-
-    private void validateBeginAndEndStationIsOnAndOffStation(List<TurnStation> turnStations) {
-        if (turnStations.getFirst().getOnOffType() != TurnStationOnOffType.ON) {
-            throw new IllegalArgumentException("정류장 목록의 첫 번째 정류장은 시작 정류장이어야 합니다.");
+        @Override
+        public TurnStation get(int index) {
+            return turnStations.get(index);
         }
 
-        if (turnStations.getLast().getOnOffType() != TurnStationOnOffType.OFF) {
-            throw new IllegalArgumentException("정류장 목록의 마지막 정류장은 종료 정류장이어야 합니다.");
+        @Override
+        public int size() {
+            return turnStations.size();
         }
     }
 }
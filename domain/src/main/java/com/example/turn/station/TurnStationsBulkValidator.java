@@ -0,0 +1,69 @@
+package com.example.turn.station;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 많은 후보 정류장 목록(예: 적재 중인 회차 5만 개)을 한꺼번에 검증해 어긴 규칙을 모두 모은 보고서를 만든다.
+ * TurnStations 생성자와 같은 규칙(TurnStationsRule)을 쓰지만 예외를 던지지 않으므로, 한 번 실행으로 모든 오류를 확인할 수 있다.
+ * 후보가 PARALLEL_THRESHOLD 개를 넘으면 병렬 스트림으로 나눠 지정한 ForkJoinPool 에서 검사한다.
+ * 생성자 검증이 아니므로 TurnStationsMetrics 에는 누적하지 않는다.
+ */
+public final class TurnStationsBulkValidator {
+
+    // 이보다 적으면 작업을 나누는 비용이 검사 비용보다 크다.
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final ForkJoinPool pool;
+
+    private TurnStationsBulkValidator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 공용 ForkJoinPool 에서 검사한다.
+     */
+    public static TurnStationsBulkValidator create() {
+        return new TurnStationsBulkValidator(ForkJoinPool.commonPool());
+    }
+
+    public TurnStationsBulkValidator withPool(ForkJoinPool pool) {
+        return new TurnStationsBulkValidator(checkNotNull(pool, "Pool cannot be null"));
+    }
+
+    /**
+     * 호출한 스레드에서만 검사한다.
+     */
+    public TurnStationsBulkValidator sequential() {
+        return new TurnStationsBulkValidator(null);
+    }
+
+    /**
+     * 후보마다 어긴 규칙을 모두 찾는다. 규칙 판정은 TurnStationsRule.violations 와 같다.
+     */
+    public TurnStationsValidationReport validate(List<? extends List<TurnStation>> candidates) {
+        checkNotNull(candidates, "Candidates cannot be null");
+
+        List<TurnStationsValidationReport.Violation> violations = pool == null || candidates.size() <= PARALLEL_THRESHOLD
+                ? violations(candidates, false)
+                : pool.submit(() -> violations(candidates, true)).join();
+        return new TurnStationsValidationReport(candidates.size(), violations);
+    }
+
+    // 순서가 있는 스트림이므로 병렬로 검사해도 결과는 입력 순서를 따른다.
+    private static List<TurnStationsValidationReport.Violation> violations(List<? extends List<TurnStation>> candidates, boolean parallel) {
+        IntStream indexes = IntStream.range(0, candidates.size());
+        return (parallel ? indexes.parallel() : indexes)
+                .mapToObj(index -> {
+                    Set<TurnStationsRule> rules = TurnStationsRule.violations(candidates.get(index));
+                    return rules.isEmpty() ? null : new TurnStationsValidationReport.Violation(index, rules);
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
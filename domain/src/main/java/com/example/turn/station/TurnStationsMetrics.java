@@ -0,0 +1,52 @@
+package com.example.turn.station;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TurnStations 검증 횟수와 규칙별 위반 횟수. 도메인은 지표 라이브러리에 의존하지 않으므로 누적값만 보관하고,
+ * 애플리케이션이 이 값을 읽어 지표로 내보낸다. LongAdder 라 여러 스레드가 동시에 생성해도 서로 경합하지 않는다.
+ */
+public final class TurnStationsMetrics {
+
+    private static final TurnStationsRule[] RULES = TurnStationsRule.values();
+
+    private static final LongAdder passed = new LongAdder();
+    private static final LongAdder passedStations = new LongAdder();
+    private static final LongAdder[] violations = new LongAdder[RULES.length];
+
+    static {
+        for (int i = 0; i < violations.length; i++) {
+            violations[i] = new LongAdder();
+        }
+    }
+
+    private TurnStationsMetrics() {
+    }
+
+    /**
+     * 검증을 통과한 TurnStations 수.
+     */
+    public static long passedCount() {
+        return passed.sum();
+    }
+
+    /**
+     * 검증을 통과한 TurnStations 에 담긴 정류장 수의 합.
+     */
+    public static long passedStationCount() {
+        return passedStations.sum();
+    }
+
+    public static long violationCount(TurnStationsRule rule) {
+        return violations[rule.ordinal()].sum();
+    }
+
+    static void recordPassed(int stations) {
+        passed.increment();
+        passedStations.add(stations);
+    }
+
+    static void recordViolation(TurnStationsRule rule) {
+        violations[rule.ordinal()].increment();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.turn.station;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TurnStations 검증 규칙. 선언 순서가 검사 우선순위이며, 생성자는 여러 규칙을 어겨도 가장 앞선 규칙 하나만 보고한다.
+ * 어긴 규칙을 모두 알아야 하는 대량 검증은 violations 를 사용한다.
+ */
+public enum TurnStationsRule {
+
+    NOT_NULL("정류장 목록은 null일 수 없습니다."),
+    MIN_SIZE("정류장 목록은 두 개 이상이어야 합니다."),
+    POSITIVE_ORDER("정류장 순서는 0보다 커야 합니다."),
+    UNIQUE_ORDER("정류장 순서가 중복되었습니다."),
+    ASCENDING_ORDER("정류장 순서가 올바르지 않습니다."),
+    SINGLE_BEGIN("정류장 목록에 시작 정류장이 하나만 존재해야 합니다."),
+    SINGLE_END("정류장 목록에 종료 정류장이 하나만 존재해야 합니다."),
+    BEGIN_FIRST("정류장 목록의 첫 번째 정류장은 시작 정류장이어야 합니다."),
+    END_LAST("정류장 목록의 마지막 정류장은 종료 정류장이어야 합니다."),
+    BEGIN_ON("정류장 목록의 첫 번째 정류장은 시작 정류장이어야 합니다."),
+    END_OFF("정류장 목록의 마지막 정류장은 종료 정류장이어야 합니다.");
+
+    private static final TurnStationsRule[] RULES = values();
+
+    private final String message;
+
+    TurnStationsRule(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * 생성자가 던지는 것과 같은 예외. NOT_NULL 은 NullPointerException, 나머지는 IllegalArgumentException 이다.
+     */
+    public RuntimeException exception() {
+        return this == NOT_NULL ? new NullPointerException(message) : new IllegalArgumentException(message);
+    }
+
+    /**
+     * 가장 먼저 어긴 규칙을 반환하고, 모두 지키면 null 을 반환한다. 예외를 던지지 않으며 정상 경로에서는 할당이 없다.
+     */
+    public static TurnStationsRule firstViolation(List<TurnStation> turnStations) {
+        int bits = scan(turnStations);
+        return bits == 0 ? null : RULES[Integer.numberOfTrailingZeros(bits)];
+    }
+
+    /**
+     * 어긴 규칙을 모두 선언 순서대로 반환하고, 모두 지키면 빈 집합을 반환한다. 예외를 던지지 않으며 통과하면 할당이 없다.
+     * 첫 원소는 firstViolation 의 결과와 같다.
+     */
+    public static Set<TurnStationsRule> violations(List<TurnStation> turnStations) {
+        int bits = scan(turnStations);
+        if (bits == 0) {
+            return Set.of();
+        }
+        Set<TurnStationsRule> rules = EnumSet.noneOf(TurnStationsRule.class);
+        for (TurnStationsRule rule : RULES) {
+            if ((bits & rule.bit()) != 0) {
+                rules.add(rule);
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * 어긴 규칙을 비트(1 << ordinal)로 모은다. 한 번의 순회로 순서와 시작/종료 정류장 개수를 함께 확인한다.
+     * 목록이 null 이면 NOT_NULL, 정류장이 두 개 미만이면 MIN_SIZE, 두 개 이상인데 null 원소가 있으면 NOT_NULL 만 보고하고
+     * 나머지 규칙은 검사하지 않는다.
+     */
+    private static int scan(List<TurnStation> turnStations) {
+        if (turnStations == null) {
+            return NOT_NULL.bit();
+        }
+        if (turnStations.size() < 2) {
+            return MIN_SIZE.bit();
+        }
+
+        int minOrder = Integer.MAX_VALUE;
+        int previousOrder = Integer.MIN_VALUE;
+        boolean strictlyIncreasing = true;
+        boolean descending = false;
+        int beginCount = 0;
+        int endCount = 0;
+
+        for (TurnStation turnStation : turnStations) {
+            if (turnStation == null) {
+                return NOT_NULL.bit();
+            }
+            int order = turnStation.getOrder();
+            minOrder = Math.min(minOrder, order);
+            if (order <= previousOrder) {
+                strictlyIncreasing = false;
+                descending |= order < previousOrder;
+            }
+            previousOrder = order;
+
+            TurnStationType pointType = turnStation.getPointType();
+            if (pointType == TurnStationType.BEGIN) {
+                beginCount++;
+            } else if (pointType == TurnStationType.END) {
+                endCount++;
+            }
+        }
+
+        int violations = 0;
+        if (minOrder <= 0) {
+            violations |= POSITIVE_ORDER.bit();
+        }
+        // 엄격하게 증가하지 않는 경우(실패 경로)에만 중복 여부를 따로 확인한다.
+        if (!strictlyIncreasing && hasDuplicateOrder(turnStations)) {
+            violations |= UNIQUE_ORDER.bit();
+        }
+        if (descending) {
+            violations |= ASCENDING_ORDER.bit();
+        }
+        if (beginCount != 1) {
+            violations |= SINGLE_BEGIN.bit();
+        }
+        if (endCount != 1) {
+            violations |= SINGLE_END.bit();
+        }
+
+        TurnStation beginStation = turnStations.getFirst();
+        TurnStation endStation = turnStations.getLast();
+        if (beginStation.getPointType() != TurnStationType.BEGIN) {
+            violations |= BEGIN_FIRST.bit();
+        }
+        if (endStation.getPointType() != TurnStationType.END) {
+            violations |= END_LAST.bit();
+        }
+        if (beginStation.getOnOffType() != TurnStationOnOffType.ON) {
+            violations |= BEGIN_ON.bit();
+        }
+        if (endStation.getOnOffType() != TurnStationOnOffType.OFF) {
+            violations |= END_OFF.bit();
+        }
+        return violations;
+    }
+
+    private int bit() {
+        return 1 << ordinal();
+    }
+
+    private static boolean hasDuplicateOrder(List<TurnStation> turnStations) {
+        int[] orders = turnStations.stream().mapToInt(TurnStation::getOrder).toArray();
+        Arrays.sort(orders);
+
+        for (int i = 1; i < orders.length; i++) {
+            if (orders[i] == orders[i - 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.turn.station;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * 오래 걸린 TurnStations 검증을 기록하는 JFR 이벤트. 기록 중이 아니면 begin/end 는 비용이 거의 없다.
+ */
+@Name("com.example.TurnStationsValidation")
+@Label("TurnStations Validation")
+@Category({"Example", "Domain"})
+@Description("Validation of a TurnStations list that took longer than the threshold")
+@Threshold("20 us")
+final class TurnStationsValidationEvent extends jdk.jfr.Event {
+
+    @Label("Stations")
+    int stations;
+
+    @Label("Violated Rule")
+    String rule;
+}
@@ -0,0 +1,64 @@
+package com.example.turn.station;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * TurnStationsBulkValidator 의 결과. 후보 정류장 목록 중 규칙을 어긴 것만 입력 순서대로 담는다.
+ *
+ * @param candidateCount 검사한 후보 수
+ * @param violations     규칙을 어긴 후보들. index 는 입력 목록에서의 위치다.
+ */
+public record TurnStationsValidationReport(int candidateCount, List<Violation> violations) {
+
+    public TurnStationsValidationReport {
+        violations = List.copyOf(violations);
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public int validCount() {
+        return candidateCount - violations.size();
+    }
+
+    public int invalidCount() {
+        return violations.size();
+    }
+
+    /**
+     * 규칙별로 그 규칙을 어긴 후보 수. 한 번도 어기지 않은 규칙은 포함하지 않는다.
+     */
+    public Map<TurnStationsRule, Integer> countByRule() {
+        Map<TurnStationsRule, Integer> counts = new EnumMap<>(TurnStationsRule.class);
+        for (Violation violation : violations) {
+            for (TurnStationsRule rule : violation.rules()) {
+                counts.merge(rule, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @param index 입력 목록에서의 위치
+     * @param rules 어긴 규칙 전부 (선언 순서)
+     */
+    public record Violation(int index, Set<TurnStationsRule> rules) {
+
+        public Violation {
+            checkArgument(!rules.isEmpty(), "Violated rules cannot be empty");
+            rules = Collections.unmodifiableSet(EnumSet.copyOf(rules));
+        }
+
+        public List<String> messages() {
+            return rules.stream().map(TurnStationsRule::message).toList();
+        }
+    }
+}
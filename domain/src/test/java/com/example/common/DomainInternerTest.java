@@ -0,0 +1,78 @@
+package com.example.common;
+
+import com.example.station.Station;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainInternerTest {
+
+    private static final OffsetDateTime ARRIVAL = OffsetDateTime.of(2025, 5, 1, 7, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    @Test
+    @DisplayName("Station.of 는 정류장을 매번 새로 만들고 값이 같은 좌표만 공유한다")
+    void shareEqualLocations() {
+        // given
+        Clock clock = Clock.fixed(ARRIVAL.plusSeconds(12).plusNanos(345_678_000).toInstant(), ARRIVAL.getOffset());
+
+        // when
+        Station first = Station.of("강남역", Location.of(37.4979, 127.0276), clock);
+        Station second = Station.of("강남역", Location.of(37.4979, 127.0276), clock);
+        Station other = Station.of("역삼역", Location.of(37.4979, 127.0276), clock);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getLocation()).isSameAs(first.getLocation());
+        assertThat(other.getLocation()).isSameAs(first.getLocation());
+        assertThat(first.getCreatedAt()).isEqualTo(OffsetDateTime.now(clock));
+        assertThat(first.getUpdatedAt()).isSameAs(first.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("정류장 방문마다 따로 만든 정류장과 도착 시각도 TurnStation 에서 하나로 합쳐진다")
+    void canonicalizeTurnStationReferences() {
+        // given
+        Station station = station(1L);
+        Station duplicate = station(1L);
+
+        // when
+        TurnStation first = TurnStation.of(null, station, TurnStationOnOffType.ON, TurnStationType.BEGIN, 1, ARRIVAL);
+        TurnStation second = TurnStation.of(null, duplicate, TurnStationOnOffType.OFF, TurnStationType.END, 2,
+                OffsetDateTime.of(2025, 5, 1, 7, 0, 0, 0, ZoneOffset.ofHours(9)));
+
+        // then
+        assertThat(second.getStation()).isSameAs(first.getStation());
+        assertThat(second.getExpectedArrivalTime()).isSameAs(first.getExpectedArrivalTime());
+        assertThat(first.getCreatedAt().getSecond()).isZero();
+        assertThat(first.getCreatedAt().getNano()).isZero();
+        assertThat(first.getUpdatedAt()).isSameAs(first.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("더 이상 쓰지 않는 정규화 객체는 GC 가 회수한다")
+    void releaseUnusedEntries() throws InterruptedException {
+        // given
+        WeakReference<Station> station = new WeakReference<>(Station.of("임시 정류장 " + System.nanoTime(), Location.of(10.0, 20.0)));
+        WeakReference<OffsetDateTime> timestamp = new WeakReference<>(DomainInterner.timestamp(OffsetDateTime.of(1999, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+
+        // when
+        for (int i = 0; i < 20 && (station.get() != null || timestamp.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(station.get()).isNull();
+        assertThat(timestamp.get()).isNull();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LocationTest {
+
+    @Test
+    @DisplayName("위도와 경도 범위 안의 좌표는 생성할 수 있다")
+    void createWithValidCoordinates() {
+        Location location = Location.of(37.4979, 127.0276);
+
+        assertThat(location.lat()).isEqualTo(37.4979);
+        assertThat(location.lng()).isEqualTo(127.0276);
+        assertThat(Location.of(-90, -180)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("위도나 경도가 범위를 벗어나면 예외가 발생한다")
+    void throwExceptionWhenOutOfRange() {
+        assertThatThrownBy(() -> Location.of(90.1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Latitude");
+
+        assertThatThrownBy(() -> Location.of(0, -180.1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Longitude");
+    }
+
+    @Test
+    @DisplayName("두 좌표 사이의 거리를 미터 단위로 계산한다")
+    void distanceTo() {
+        // 강남역 - 역삼역 약 830m
+        Location gangnam = Location.of(37.4979, 127.0276);
+        Location yeoksam = Location.of(37.5006, 127.0364);
+
+        assertThat(gangnam.distanceTo(yeoksam)).isCloseTo(830, within(50.0));
+        assertThat(gangnam.distanceTo(gangnam)).isZero();
+    }
+}
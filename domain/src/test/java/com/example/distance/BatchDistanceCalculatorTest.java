@@ -0,0 +1,130 @@
+package com.example.distance;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class BatchDistanceCalculatorTest {
+
+    private final List<Location> locations = locations(203);
+
+    @Test
+    @DisplayName("incubator 모듈이 있으면 SIMD 구현을 사용한다")
+    void useVectorKernelWhenModuleIsPresent() {
+        assertThat(BatchDistanceCalculator.create().isVectorized()).isTrue();
+        assertThat(BatchDistanceCalculator.scalar().isVectorized()).isFalse();
+    }
+
+    @Test
+    @DisplayName("거리 행렬은 SIMD/스칼라, 병렬/순차 모두 haversine 거리와 같다")
+    void matrixMatchesHaversine() {
+        // given
+        StationCoordinates from = coordinates(locations.subList(0, 37));
+        StationCoordinates to = coordinates(locations);
+
+        // when
+        List<DistanceMatrix> matrices = List.of(
+                BatchDistanceCalculator.create().matrix(from, to),
+                BatchDistanceCalculator.create().sequential().matrix(from, to),
+                BatchDistanceCalculator.scalar().matrix(from, to));
+
+        // then
+        for (DistanceMatrix matrix : matrices) {
+            assertThat(matrix.rows()).isEqualTo(37);
+            assertThat(matrix.columns()).isEqualTo(locations.size());
+            for (int i = 0; i < matrix.rows(); i++) {
+                for (int j = 0; j < matrix.columns(); j++) {
+                    assertThat(matrix.meters(i, j)).isCloseTo(locations.get(i).distanceTo(locations.get(j)), within(1e-6));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("기준 거리 이내의 이웃을 가까운 순으로 찾고 자기 자신은 제외한다")
+    void findNeighborsWithinThreshold() {
+        // given
+        StationCoordinates stations = coordinates(locations);
+        double maxMeters = 1_500;
+
+        // when
+        NeighborList neighbors = BatchDistanceCalculator.create().neighbors(stations, maxMeters);
+
+        // then
+        assertThat(neighbors.size()).isEqualTo(locations.size());
+        for (int i = 0; i < locations.size(); i++) {
+            List<Integer> expected = new ArrayList<>();
+            for (int j = 0; j < locations.size(); j++) {
+                if (i != j && locations.get(i).distanceTo(locations.get(j)) <= maxMeters) {
+                    expected.add(j);
+                }
+            }
+
+            List<Integer> actual = new ArrayList<>();
+            for (int k = 0; k < neighbors.neighborCount(i); k++) {
+                actual.add(neighbors.neighbor(i, k));
+                assertThat(neighbors.meters(i, k)).isCloseTo(locations.get(i).distanceTo(locations.get(neighbors.neighbor(i, k))), within(1e-6));
+                if (k > 0) {
+                    assertThat(neighbors.meters(i, k)).isGreaterThanOrEqualTo(neighbors.meters(i, k - 1));
+                }
+            }
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("정류장 목록으로 만들면 정류장 id를 함께 보관한다")
+    void keepStationIds() {
+        // given
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Station> stations = List.of(
+                Station.builder().id(7L).name("A").location(Location.of(37.4979, 127.0276)).createdAt(now).updatedAt(now).build(),
+                Station.builder().id(9L).name("B").location(Location.of(37.5006, 127.0364)).createdAt(now).updatedAt(now).build());
+
+        // when
+        StationCoordinates coordinates = StationCoordinates.of(stations);
+
+        // then
+        assertThat(coordinates.id(1)).isEqualTo(9L);
+        assertThat(BatchDistanceCalculator.create().matrix(coordinates).meters(0, 1))
+                .isCloseTo(stations.get(0).getLocation().distanceTo(stations.get(1).getLocation()), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("위도와 경도 배열의 길이가 다르거나 기준 거리가 음수면 예외가 발생한다")
+    void throwExceptionWhenInvalid() {
+        assertThatThrownBy(() -> StationCoordinates.of(new double[2], new double[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchDistanceCalculator.create().neighbors(coordinates(locations), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StationCoordinates coordinates(List<Location> locations) {
+        double[] lats = new double[locations.size()];
+        double[] lngs = new double[locations.size()];
+        for (int i = 0; i < locations.size(); i++) {
+            lats[i] = locations.get(i).lat();
+            lngs[i] = locations.get(i).lng();
+        }
+        return StationCoordinates.of(lats, lngs);
+    }
+
+    private static List<Location> locations(int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            locations.add(Location.of(37.45 + random.nextDouble() * 0.1, 126.95 + random.nextDouble() * 0.1));
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.journey;
+
+import com.example.fixture.TransitFixtures;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.pointType;
+import static com.example.fixture.TransitFixtures.route;
+import static com.example.fixture.TransitFixtures.station;
+import static com.example.turn.station.TurnStationOnOffType.OFF;
+import static com.example.turn.station.TurnStationOnOffType.ON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JourneyPlannerTest {
+
+    private final Station a = station(1L);
+    private final Station b = station(2L);
+    private final Station c = station(3L);
+    private final Station d = station(4L);
+
+    @Test
+    @DisplayName("환승을 포함해 가장 일찍 도착하는 경로를 찾는다")
+    void findEarliestArrivalWithTransfer() {
+        // given
+        TurnRoute first = turnRoute(10L, List.of(stop(a, ON, 0), stop(b, OFF, 10), stop(c, OFF, 20)));
+        TurnRoute second = turnRoute(11L, List.of(stop(b, ON, 15), stop(d, OFF, 25)));
+        TurnRoute slow = turnRoute(12L, List.of(stop(a, ON, 0), stop(d, OFF, 60)));
+        JourneyPlanner planner = new JourneyPlanner(ConnectionNetwork.of(List.of(first, second, slow)));
+
+        // when
+        Optional<Itinerary> itinerary = planner.plan(a.getId(), d.getId(), BASE);
+
+        // then
+        assertThat(itinerary).isPresent();
+        assertThat(itinerary.get().transfers()).isEqualTo(1);
+        assertThat(itinerary.get().legs()).extracting(leg -> leg.turnRoute().getId()).containsExactly(10L, 11L);
+        assertThat(itinerary.get().departureTime()).isEqualTo(BASE);
+        assertThat(itinerary.get().arrivalTime()).isEqualTo(BASE.plusMinutes(25));
+    }
+
+    @Test
+    @DisplayName("최소 환승 시간을 지키지 못하면 다른 경로를 선택한다")
+    void respectMinimumTransferTime() {
+        // given
+        TurnRoute first = turnRoute(10L, List.of(stop(a, ON, 0), stop(b, OFF, 10)));
+        TurnRoute second = turnRoute(11L, List.of(stop(b, ON, 15), stop(d, OFF, 25)));
+        TurnRoute slow = turnRoute(12L, List.of(stop(a, ON, 0), stop(d, OFF, 60)));
+        JourneyPlanner planner = new JourneyPlanner(ConnectionNetwork.of(List.of(first, second, slow)), Duration.ofMinutes(10));
+
+        // when
+        Optional<Itinerary> itinerary = planner.plan(a.getId(), d.getId(), BASE);
+
+        // then
+        assertThat(itinerary).hasValueSatisfying(found -> {
+            assertThat(found.transfers()).isZero();
+            assertThat(found.arrivalTime()).isEqualTo(BASE.plusMinutes(60));
+        });
+    }
+
+    @Test
+    @DisplayName("승차 정류장에서는 내릴 수 없고 하차 정류장에서는 탈 수 없다")
+    void respectOnOffType() {
+        // given
+        TurnRoute turnRoute = turnRoute(10L, List.of(stop(a, ON, 0), stop(b, ON, 10), stop(c, OFF, 20), stop(d, OFF, 30)));
+        JourneyPlanner planner = new JourneyPlanner(ConnectionNetwork.of(List.of(turnRoute)));
+
+        // when & then
+        assertThat(planner.plan(a.getId(), b.getId(), BASE)).isEmpty();
+        assertThat(planner.plan(c.getId(), d.getId(), BASE)).isEmpty();
+        assertThat(planner.plan(b.getId(), d.getId(), BASE)).isPresent();
+    }
+
+    @Test
+    @DisplayName("출발 시각 이후에 출발하는 회차만 이용한다")
+    void ignoreDepartedTrips() {
+        // given
+        TurnRoute early = turnRoute(10L, List.of(stop(a, ON, 0), stop(b, OFF, 10)));
+        TurnRoute late = turnRoute(11L, List.of(stop(a, ON, 30), stop(b, OFF, 40)));
+        JourneyPlanner planner = new JourneyPlanner(ConnectionNetwork.of(List.of(early, late)));
+
+        // when
+        Optional<Itinerary> itinerary = planner.plan(a.getId(), b.getId(), BASE.plusMinutes(1));
+
+        // then
+        assertThat(itinerary).hasValueSatisfying(found ->
+                assertThat(found.legs().getFirst().turnRoute().getId()).isEqualTo(11L));
+        assertThat(planner.plan(a.getId(), b.getId(), BASE.plusMinutes(31))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출발 정류장과 도착 정류장이 같으면 예외가 발생한다")
+    void throwExceptionWhenOriginEqualsDestination() {
+        JourneyPlanner planner = new JourneyPlanner(ConnectionNetwork.of(List.of()));
+
+        assertThatThrownBy(() -> planner.plan(a.getId(), a.getId(), BASE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("출발 정류장과 도착 정류장이 같습니다");
+        assertThat(planner.plan(a.getId(), b.getId(), BASE)).isEmpty();
+    }
+
+    private record Stop(Station station, TurnStationOnOffType onOffType, int minutes) {
+    }
+
+    private Stop stop(Station station, TurnStationOnOffType onOffType, int minutes) {
+        return new Stop(station, onOffType, minutes);
+    }
+
+    private TurnRoute turnRoute(Long id, List<Stop> stops) {
+        List<TurnStation> turnStations = new ArrayList<>();
+        for (int i = 0; i < stops.size(); i++) {
+            Stop stop = stops.get(i);
+            turnStations.add(TurnStation.of(null, stop.station(), stop.onOffType(), pointType(i, stops.size()), i + 1, BASE.plusMinutes(stop.minutes())));
+        }
+        return TransitFixtures.turnRoute(id, route(id), turnStations);
+    }
+}
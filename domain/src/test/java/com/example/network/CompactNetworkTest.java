@@ -0,0 +1,85 @@
+package com.example.network;
+
+import com.example.fixture.TransitFixtures;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.KST;
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactNetworkTest {
+
+    private final Station a = station(1L);
+    private final Station b = station(2L);
+    private final Station c = station(3L);
+    private final Route route = Route.of("인천송도노선", RouteType.GO);
+
+    @Test
+    @DisplayName("회차 노선을 컬럼형 배열로 변환하고 원시 값으로 조회할 수 있다")
+    void readPrimitiveColumns() {
+        // given
+        CompactNetwork network = CompactNetwork.of(List.of(turnRoute(10L, a, b, c), turnRoute(11L, c, a)), KST);
+
+        // then
+        assertThat(network.tripCount()).isEqualTo(2);
+        assertThat(network.stationCount()).isEqualTo(3);
+        assertThat(network.totalStopCount()).isEqualTo(5);
+        assertThat(network.turnRouteId(1)).isEqualTo(11L);
+        assertThat(network.stopCount(0)).isEqualTo(3);
+        assertThat(network.stationId(0, 1)).isEqualTo(2L);
+        assertThat(network.arrivalEpochMinute(0, 2)).isEqualTo(BASE.plusMinutes(20).toEpochSecond() / 60);
+        assertThat(network.onOffType(0, 2)).isEqualTo(TurnStationOnOffType.OFF);
+        assertThat(network.pointType(0, 1)).isEqualTo(TurnStationType.MIDDLE);
+        assertThat(network.estimatedHeapBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("컬럼형 배열에서 도메인 객체를 다시 만들 수 있다")
+    void materializeTurnRoute() {
+        // given
+        TurnRoute original = turnRoute(10L, a, b, c);
+        CompactNetwork network = CompactNetwork.of(List.of(original), KST);
+
+        // when
+        TurnRoute materialized = network.turnRoute(0);
+
+        // then
+        assertThat(materialized.getId()).isEqualTo(10L);
+        assertThat(materialized.getRoute()).isSameAs(route);
+        List<TurnStation> expected = original.getTurnStations().turnStations();
+        List<TurnStation> actual = materialized.getTurnStations().turnStations();
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getStation()).isSameAs(expected.get(i).getStation());
+            assertThat(actual.get(i).getOrder()).isEqualTo(expected.get(i).getOrder());
+            assertThat(actual.get(i).getOnOffType()).isEqualTo(expected.get(i).getOnOffType());
+            assertThat(actual.get(i).getPointType()).isEqualTo(expected.get(i).getPointType());
+            assertThat(actual.get(i).getExpectedArrivalTime()).isEqualTo(expected.get(i).getExpectedArrivalTime());
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 위치를 조회하면 예외가 발생한다")
+    void throwExceptionWhenOutOfRange() {
+        CompactNetwork network = CompactNetwork.of(List.of(turnRoute(10L, a, b)), KST);
+
+        assertThatThrownBy(() -> network.stationId(0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> network.turnRoute(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private TurnRoute turnRoute(Long id, Station... stations) {
+        return TransitFixtures.turnRoute(id, route, List.of(stations), BASE, 10);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.network;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashTrieMapTest {
+
+    @Test
+    @DisplayName("무작위로 넣고 지워도 HashMap 과 같은 내용을 가진다")
+    void matchHashMapAfterRandomEdits() {
+        // given
+        Random random = new Random(42);
+        Map<Long, String> expected = new HashMap<>();
+        HashTrieMap<String> map = HashTrieMap.empty();
+
+        // when
+        for (int round = 0; round < 200; round++) {
+            HashTrieMap.Editor<String> editor = map.edit();
+            for (int i = 0; i < 100; i++) {
+                long id = random.nextInt(5_000);
+                if (random.nextInt(3) == 0) {
+                    editor.remove(id);
+                    expected.remove(id);
+                } else {
+                    editor.put(id, "v" + round + "-" + i);
+                    expected.put(id, "v" + round + "-" + i);
+                }
+            }
+            map = editor.build();
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+        for (long id = 0; id < 5_000; id++) {
+            assertThat(map.get(id)).isEqualTo(expected.get(id));
+        }
+    }
+
+    @Test
+    @DisplayName("다음 버전을 만들어도 이전 버전의 내용은 바뀌지 않는다")
+    void keepPreviousVersion() {
+        // given
+        HashTrieMap.Editor<String> editor = HashTrieMap.<String>empty().edit();
+        for (long id = 1; id <= 1_000; id++) {
+            editor.put(id, "first-" + id);
+        }
+        HashTrieMap<String> first = editor.build();
+
+        // when
+        editor.put(1L, "changed");
+        editor.remove(2L);
+        HashTrieMap<String> second = editor.build();
+        editor.put(3L, "third");
+        HashTrieMap<String> third = editor.build();
+
+        // then
+        assertThat(first.get(1L)).isEqualTo("first-1");
+        assertThat(first.get(2L)).isEqualTo("first-2");
+        assertThat(first.size()).isEqualTo(1_000);
+        assertThat(second.get(1L)).isEqualTo("changed");
+        assertThat(second.get(2L)).isNull();
+        assertThat(second.get(3L)).isEqualTo("first-3");
+        assertThat(second.size()).isEqualTo(999);
+        assertThat(third.get(3L)).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("없는 id 를 지우거나 같은 값을 다시 넣으면 바뀐 것으로 보지 않는다")
+    void keepBaseWhenNothingChanged() {
+        // given
+        String value = "value";
+        HashTrieMap.Editor<String> editor = HashTrieMap.<String>empty().edit();
+        editor.put(1L, value);
+        HashTrieMap<String> map = editor.build();
+
+        // when
+        HashTrieMap.Editor<String> next = map.edit();
+        next.remove(2L);
+        next.put(1L, value);
+
+        // then
+        assertThat(next.changed()).isFalse();
+        assertThat(next.build()).isSameAs(map);
+        assertThat(map.values()).containsExactlyElementsOf(List.of(value));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.network;
+
+import com.example.common.Location;
+import com.example.fixture.TransitFixtures;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.KST;
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedNetworkTest {
+
+    // 정류장마다 좌표를 다르게 두어 파일에서 좌표가 그대로 복원되는지 확인한다.
+    private final Station a = station(1L, "강남역", Location.of(37.501, 127.0));
+    private final Station b = station(2L, "역삼역", Location.of(37.502, 127.0));
+    private final Station c = station(3L, "선릉역", Location.of(37.503, 127.0));
+    private final Route go = route(100L, "인천송도노선", RouteType.GO);
+    private final Route back = route(101L, "인천송도노선", RouteType.BACK);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("파일로 쓴 네트워크를 읽으면 같은 회차 노선이 만들어진다")
+    void roundTrip() {
+        // given
+        List<TurnRoute> originals = List.of(turnRoute(10L, go, a, b, c), turnRoute(11L, back, c, a));
+        Path file = directory.resolve("network.bin");
+        NetworkFileWriter.write(CompactNetwork.of(originals, KST), file);
+
+        // when
+        MappedNetwork network = MappedNetwork.open(file);
+
+        // then
+        assertThat(network.tripCount()).isEqualTo(2);
+        assertThat(network.stationCount()).isEqualTo(3);
+        assertThat(network.totalStopCount()).isEqualTo(5);
+        assertThat(network.zoneOffset()).isEqualTo(KST);
+        assertThat(network.stationId(1, 0)).isEqualTo(3L);
+
+        for (int trip = 0; trip < originals.size(); trip++) {
+            TurnRoute original = originals.get(trip);
+            TurnRoute loaded = network.turnRoute(trip);
+            assertThat(loaded.getId()).isEqualTo(original.getId());
+            assertThat(loaded.getRoute().getId()).isEqualTo(original.getRoute().getId());
+            assertThat(loaded.getRoute().getName()).isEqualTo(original.getRoute().getName());
+            assertThat(loaded.getRoute().getType()).isEqualTo(original.getRoute().getType());
+
+            List<TurnStation> expected = original.getTurnStations().turnStations();
+            List<TurnStation> actual = loaded.getTurnStations().turnStations();
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).getStation().getId()).isEqualTo(expected.get(i).getStation().getId());
+                assertThat(actual.get(i).getStation().getName()).isEqualTo(expected.get(i).getStation().getName());
+                assertThat(actual.get(i).getStation().getLocation()).isEqualTo(expected.get(i).getStation().getLocation());
+                assertThat(actual.get(i).getOrder()).isEqualTo(expected.get(i).getOrder());
+                assertThat(actual.get(i).getOnOffType()).isEqualTo(expected.get(i).getOnOffType());
+                assertThat(actual.get(i).getPointType()).isEqualTo(expected.get(i).getPointType());
+                assertThat(actual.get(i).getExpectedArrivalTime()).isEqualTo(expected.get(i).getExpectedArrivalTime());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("회차 노선과 정류장은 처음 요청할 때 만들어지고 이후에는 같은 객체를 반환한다")
+    void materializeLazilyOnce() {
+        // given
+        Path file = directory.resolve("network.bin");
+        NetworkFileWriter.write(CompactNetwork.of(List.of(turnRoute(10L, go, a, b), turnRoute(11L, go, b, a)), KST), file);
+        MappedNetwork network = MappedNetwork.open(file);
+
+        // when
+        TurnRoute first = network.turnRoute(0);
+        TurnRoute second = network.turnRoute(1);
+
+        // then
+        assertThat(network.turnRoute(0)).isSameAs(first);
+        assertThat(network.turnRoutes()).containsExactly(first, second);
+        assertThat(second.getRoute()).isSameAs(first.getRoute());
+        assertThat(second.getTurnStations().getBeginStation().getStation())
+                .isSameAs(first.getTurnStations().getEndStation().getStation());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전이나 네트워크 파일이 아니면 예외가 발생한다")
+    void rejectUnknownVersion() throws IOException {
+        // given
+        Path file = directory.resolve("network.bin");
+        NetworkFileWriter.write(CompactNetwork.of(List.of(turnRoute(10L, go, a, b)), KST), file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, NetworkFileFormat.VERSION + 1), 4);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> MappedNetwork.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 네트워크 파일 버전입니다");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 0), 0);
+        }
+        assertThatThrownBy(() -> MappedNetwork.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("네트워크 파일이 아닙니다");
+    }
+
+    @Test
+    @DisplayName("손상된 파일은 checksum 이 맞지 않아 열 수 없다")
+    void rejectCorruptedFile() throws IOException {
+        // given
+        Path file = directory.resolve("network.bin");
+        NetworkFileWriter.write(CompactNetwork.of(List.of(turnRoute(10L, go, a, b, c)), KST), file);
+        int stationIndexes = (int) format(file).offset(NetworkFileFormat.Section.STATION_INDEXES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 2), stationIndexes);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> MappedNetwork.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("네트워크 파일이 손상되었습니다");
+    }
+
+    @Test
+    @DisplayName("checksum 이 맞더라도 구역 사이의 구조가 올바르지 않으면 열 수 없다")
+    void rejectInvalidStructure() throws IOException {
+        // given
+        Path file = directory.resolve("network.bin");
+        NetworkFileWriter.write(CompactNetwork.of(List.of(turnRoute(10L, go, a, b)), KST), file);
+        NetworkFileFormat format = format(file);
+
+        // when & then
+        rewrite(file, format.offset(NetworkFileFormat.Section.STATION_INDEXES), 7);
+        assertThatThrownBy(() -> MappedNetwork.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0 번째 정류장 방문");
+
+        rewrite(file, format.offset(NetworkFileFormat.Section.STATION_INDEXES), 0);
+        rewrite(file, format.offset(NetworkFileFormat.Section.STOP_OFFSETS) + 4, 1);
+        assertThatThrownBy(() -> MappedNetwork.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("네트워크 파일 구조가 올바르지 않습니다");
+    }
+
+    private NetworkFileFormat format(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(NetworkFileFormat.HEADER_BYTES);
+            channel.read(header, 0);
+            return new NetworkFileFormat(header.getInt(24), header.getInt(28), header.getInt(32), header.getInt(36), header.getInt(40));
+        }
+    }
+
+    /**
+     * offset 위치의 int 를 value 로 바꾸고 checksum 을 다시 계산해, 손상이 아니라 잘못 쓰인 파일을 흉내 낸다.
+     */
+    private void rewrite(Path file, long offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.putInt((int) offset, value);
+            buffer.putInt(NetworkFileFormat.CHECKSUM_OFFSET, NetworkFileFormat.checksum(buffer));
+        }
+    }
+
+    private TurnRoute turnRoute(Long id, Route route, Station... stations) {
+        return TransitFixtures.turnRoute(id, route, List.of(stations), BASE, 10);
+    }
+
+    private Route route(Long id, String name, RouteType type) {
+        return Route.builder()
+                .id(id)
+                .name(name)
+                .type(type)
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+    }
+}
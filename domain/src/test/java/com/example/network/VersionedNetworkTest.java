@@ -0,0 +1,132 @@
+package com.example.network;
+
+import com.example.fixture.TransitFixtures;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedNetworkTest {
+
+    private final Route route = Route.of("인천송도노선", RouteType.GO);
+
+    @Test
+    @DisplayName("변경하면 버전이 올라가고 이전에 얻은 스냅샷은 그대로 유지된다")
+    void publishNextVersionWithoutChangingPrevious() {
+        // given
+        VersionedNetwork network = new VersionedNetwork();
+        Station a = station(1L);
+        Station b = station(2L);
+        NetworkSnapshot first = network.update(editor -> editor.putStation(a).putStation(b).putTurnRoute(turnRoute(10L, a, b)));
+
+        // when
+        NetworkSnapshot second = network.update(editor -> editor.removeTurnRoute(10L).putTurnRoute(turnRoute(11L, b, a)));
+
+        // then
+        assertThat(first.version()).isEqualTo(1L);
+        assertThat(second.version()).isEqualTo(2L);
+        assertThat(network.version()).isEqualTo(2L);
+        assertThat(network.current()).isSameAs(second);
+
+        assertThat(first.turnRoute(10L)).isPresent();
+        assertThat(first.turnRoute(11L)).isEmpty();
+        assertThat(second.turnRoute(10L)).isEmpty();
+        assertThat(second.turnRoute(11L)).isPresent();
+        assertThat(second.station(1L)).containsSame(first.station(1L).orElseThrow());
+        assertThat(second.turnRoutes()).extracting(TurnRoute::getId).containsExactly(11L);
+        assertThat(second.stationCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("바뀐 것이 없으면 버전이 올라가지 않는다")
+    void keepVersionWhenNothingChanged() {
+        // given
+        VersionedNetwork network = new VersionedNetwork();
+        network.update(editor -> editor.putStation(station(1L)));
+
+        // when
+        NetworkSnapshot snapshot = network.update(editor -> editor.removeStation(99L));
+
+        // then
+        assertThat(snapshot.version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 쓰레드가 동시에 변경해도 읽는 쪽은 항상 일관된 버전을 본다")
+    void readersSeeConsistentSnapshotsDuringConcurrentUpdates() throws InterruptedException {
+        // given
+        VersionedNetwork network = new VersionedNetwork();
+        int writerCount = 4;
+        int updatesPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount + 2);
+        CountDownLatch writersDone = new CountDownLatch(writerCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int w = 0; w < writerCount; w++) {
+            long writer = w;
+            executor.submit(() -> {
+                for (int i = 0; i < updatesPerWriter; i++) {
+                    long id = writer * updatesPerWriter + i + 1;
+                    Station begin = station(id * 2);
+                    Station end = station(id * 2 + 1);
+                    // 회차 노선과 그 정류장은 항상 같은 버전에서 함께 보여야 한다.
+                    network.update(editor -> editor.putStation(begin).putStation(end).putTurnRoute(turnRoute(id, begin, end)));
+                }
+                writersDone.countDown();
+            });
+        }
+        for (int r = 0; r < 2; r++) {
+            executor.submit(() -> {
+                long lastVersion = 0;
+                while (running.get()) {
+                    NetworkSnapshot snapshot = network.current();
+                    if (snapshot.version() < lastVersion) {
+                        violations.add("version went backwards");
+                    }
+                    lastVersion = snapshot.version();
+                    if (snapshot.stationCount() != snapshot.turnRouteCount() * 2) {
+                        violations.add("counts differ at version " + snapshot.version());
+                    }
+                    for (TurnRoute turnRoute : snapshot.turnRoutes()) {
+                        for (TurnStation turnStation : turnRoute.getTurnStations().turnStations()) {
+                            if (snapshot.station(turnStation.getStation().getId()).isEmpty()) {
+                                violations.add("missing station at version " + snapshot.version());
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        assertThat(writersDone.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(violations).isEmpty();
+        assertThat(network.version()).isEqualTo((long) writerCount * updatesPerWriter);
+        assertThat(network.current().turnRouteCount()).isEqualTo(writerCount * updatesPerWriter);
+    }
+
+    private TurnRoute turnRoute(Long id, Station begin, Station end) {
+        return TransitFixtures.turnRoute(id, route, List.of(begin, end), BASE, 10);
+    }
+}
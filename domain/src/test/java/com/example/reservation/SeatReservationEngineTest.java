@@ -0,0 +1,201 @@
+package com.example.reservation;
+
+import com.example.fixture.TransitFixtures;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.pointType;
+import static com.example.fixture.TransitFixtures.route;
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatReservationEngineTest {
+
+    // 1~3 번 정류장은 승차(ON), 4~6 번 정류장은 하차(OFF)
+    private static final int STOPS = 6;
+    private static final int LAST_BOARDING = 3;
+
+    @Test
+    @DisplayName("구간이 겹치지 않는 승객은 같은 좌석을 나눠 쓴다")
+    void shareSeatOnDisjointSegments() {
+        // given
+        SeatReservationEngine engine = new SeatReservationEngine();
+        engine.register(turnRoute(10L, List.of(
+                TurnStationOnOffType.ON, TurnStationOnOffType.OFF, TurnStationOnOffType.ON, TurnStationOnOffType.OFF)), 1);
+
+        // when
+        Optional<SeatReservation> first = engine.reserve(10L, 1, 2, 1);
+        Optional<SeatReservation> second = engine.reserve(10L, 3, 4, 1);
+        Optional<SeatReservation> overlapping = engine.reserve(10L, 1, 4, 1);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(overlapping).isEmpty();
+        assertThat(engine.occupiedSeats(10L)).containsExactly(1, 0, 1);
+    }
+
+    @Test
+    @DisplayName("남은 좌석이 모자라면 예약되지 않고 이미 더한 구간도 되돌린다")
+    void rejectWithoutPartialReservation() {
+        // given
+        SeatReservationEngine engine = new SeatReservationEngine();
+        engine.register(commuteRoute(10L), 3);
+        engine.reserve(10L, 3, 4, 2);
+
+        // when
+        Optional<SeatReservation> reservation = engine.reserve(10L, 1, 6, 2);
+
+        // then
+        assertThat(reservation).isEmpty();
+        assertThat(engine.occupiedSeats(10L)).containsExactly(0, 0, 2, 0, 0);
+        assertThat(engine.remainingSeats(10L, 1, 6)).isEqualTo(1);
+        assertThat(engine.remainingSeats(10L, 1, 3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정원을 넘는 좌석 수는 거부하고 점유 좌석 합이 넘치지 않는다")
+    void rejectSeatsBeyondCapacity() {
+        // given
+        SeatReservationEngine engine = new SeatReservationEngine();
+        engine.register(commuteRoute(10L), 3);
+        engine.reserve(10L, 1, 6, 1);
+
+        // when & then
+        assertThatThrownBy(() -> engine.reserve(10L, 1, 6, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity");
+        assertThatThrownBy(() -> engine.reserve(10L, 1, 6, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.reserve(10L, 1, 6, 3)).isEmpty();
+        assertThat(engine.reserve(10L, 1, 6, 2)).isPresent();
+        assertThat(engine.occupiedSeats(10L)).containsOnly(3);
+
+        // 엔진을 거치지 않아도 current + seats 가 넘쳐 음수가 되지 않는다
+        SegmentSeats segmentSeats = new SegmentSeats(commuteRoute(11L), 3);
+        segmentSeats.reserve(1, 6, 1);
+        assertThat(segmentSeats.reserve(1, 6, Integer.MAX_VALUE)).isNull();
+        assertThat(segmentSeats.occupiedSeats()).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("취소하면 좌석을 돌려주고 같은 예약을 두 번 취소할 수 없다")
+    void cancelReleasesSeatsOnce() {
+        // given
+        SeatReservationEngine engine = new SeatReservationEngine();
+        engine.register(commuteRoute(10L), 2);
+        SeatReservation reservation = engine.reserve(10L, 2, 5, 2).orElseThrow();
+
+        // when
+        boolean cancelled = engine.cancel(reservation);
+        boolean cancelledAgain = engine.cancel(reservation);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(cancelledAgain).isFalse();
+        assertThat(engine.occupiedSeats(10L)).containsOnly(0);
+        assertThat(engine.reservationCount(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("하차 정류장에서 타거나 승차 정류장에서 내리거나 거꾸로 가는 예약은 예외가 발생한다")
+    void throwExceptionWhenInvalidStops() {
+        SeatReservationEngine engine = new SeatReservationEngine();
+        engine.register(commuteRoute(10L), 2);
+
+        assertThatThrownBy(() -> engine.reserve(10L, 4, 6, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("승차할 수 없는 정류장");
+        assertThatThrownBy(() -> engine.reserve(10L, 1, 2, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("하차할 수 없는 정류장");
+        assertThatThrownBy(() -> engine.reserve(10L, 1, 7, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.reserve(99L, 1, 6, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.register(commuteRoute(10L), 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("수천 건의 예약이 동시에 몰려도 어느 구간도 정원을 넘지 않고 점유 좌석 수는 성공한 예약과 일치한다")
+    void neverOverbookUnderContention() throws Exception {
+        // given
+        int capacity = 45;
+        int bookings = 20_000;
+        SeatReservationEngine engine = new SeatReservationEngine();
+        engine.register(commuteRoute(10L), capacity);
+        ConcurrentLinkedQueue<SeatReservation> reserved = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < bookings; i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int boarding = 1 + random.nextInt(LAST_BOARDING);
+                    int alighting = LAST_BOARDING + 1 + random.nextInt(STOPS - LAST_BOARDING);
+                    engine.reserve(10L, boarding, alighting, 1 + random.nextInt(2)).ifPresent(reservation -> {
+                        reserved.add(reservation);
+                        // 일부는 바로 취소해 좌석이 다시 풀리는 경합도 만든다
+                        if (random.nextInt(4) == 0 && engine.cancel(reservation)) {
+                            reserved.remove(reservation);
+                        }
+                    });
+                    int[] occupied = engine.occupiedSeats(10L);
+                    for (int seats : occupied) {
+                        if (seats > capacity) {
+                            throw new AssertionError("overbooked: " + seats);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        int[] expected = new int[STOPS - 1];
+        for (SeatReservation reservation : reserved) {
+            for (int segment = reservation.boardingOrder() - 1; segment < reservation.alightingOrder() - 1; segment++) {
+                expected[segment] += reservation.seats();
+            }
+        }
+        assertThat(engine.occupiedSeats(10L)).containsExactly(expected);
+        assertThat(Arrays.stream(engine.occupiedSeats(10L)).max().orElseThrow()).isLessThanOrEqualTo(capacity);
+        assertThat(engine.reservationCount(10L)).isEqualTo(reserved.size());
+    }
+
+    private TurnRoute commuteRoute(Long id) {
+        List<TurnStationOnOffType> onOffTypes = new ArrayList<>();
+        for (int i = 1; i <= STOPS; i++) {
+            onOffTypes.add(i <= LAST_BOARDING ? TurnStationOnOffType.ON : TurnStationOnOffType.OFF);
+        }
+        return turnRoute(id, onOffTypes);
+    }
+
+    private TurnRoute turnRoute(Long id, List<TurnStationOnOffType> onOffTypes) {
+        List<TurnStation> turnStations = new ArrayList<>();
+        for (int i = 0; i < onOffTypes.size(); i++) {
+            turnStations.add(TurnStation.of(null, station(i + 1L), onOffTypes.get(i), pointType(i, onOffTypes.size()), i + 1, BASE.plusMinutes(i * 5L)));
+        }
+        return TransitFixtures.turnRoute(id, route(id), turnStations);
+    }
+}
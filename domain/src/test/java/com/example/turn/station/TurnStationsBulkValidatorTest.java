@@ -0,0 +1,124 @@
+package com.example.turn.station;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnStationsBulkValidatorTest {
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2025, 5, 1, 7, 0, 0, 0, ZoneOffset.ofHours(9));
+    private static final TurnStationType[] POINT_TYPES = TurnStationType.values();
+    private static final TurnStationOnOffType[] ON_OFF_TYPES = TurnStationOnOffType.values();
+
+    private final List<Station> stations = stations(8);
+
+    @Test
+    @DisplayName("후보마다 어긴 규칙을 모두 모으고 통과한 후보는 보고서에서 제외한다")
+    void reportEveryViolationPerCandidate() {
+        // given
+        List<List<TurnStation>> candidates = new ArrayList<>();
+        candidates.add(List.of(stop(1, TurnStationType.BEGIN, TurnStationOnOffType.ON), stop(2, TurnStationType.END, TurnStationOnOffType.OFF)));
+        candidates.add(List.of(stop(1, TurnStationType.MIDDLE, TurnStationOnOffType.OFF), stop(1, TurnStationType.MIDDLE, TurnStationOnOffType.ON)));
+        candidates.add(null);
+
+        // when
+        TurnStationsValidationReport report = TurnStationsBulkValidator.create().validate(candidates);
+
+        // then
+        assertThat(report.isValid()).isFalse();
+        assertThat(report.candidateCount()).isEqualTo(3);
+        assertThat(report.validCount()).isEqualTo(1);
+        assertThat(report.violations()).extracting(TurnStationsValidationReport.Violation::index).containsExactly(1, 2);
+        assertThat(report.violations().getFirst().rules()).containsExactly(
+                TurnStationsRule.UNIQUE_ORDER, TurnStationsRule.SINGLE_BEGIN, TurnStationsRule.SINGLE_END,
+                TurnStationsRule.BEGIN_FIRST, TurnStationsRule.END_LAST, TurnStationsRule.BEGIN_ON, TurnStationsRule.END_OFF);
+        assertThat(report.violations().getFirst().messages()).first().isEqualTo(TurnStationsRule.UNIQUE_ORDER.message());
+        assertThat(report.violations().getLast().rules()).containsExactly(TurnStationsRule.NOT_NULL);
+        assertThat(report.countByRule()).containsEntry(TurnStationsRule.NOT_NULL, 1).containsEntry(TurnStationsRule.END_OFF, 1);
+    }
+
+    @Test
+    @DisplayName("병렬 검증과 순차 검증의 결과가 같고, 결과는 생성자 검증과 일치한다")
+    void parallelMatchesSequentialAndConstructor() {
+        // given
+        List<List<TurnStation>> candidates = randomCandidates(5_000);
+
+        // when
+        TurnStationsValidationReport parallel = TurnStationsBulkValidator.create().validate(candidates);
+        TurnStationsValidationReport sequential = TurnStationsBulkValidator.create().sequential().validate(candidates);
+
+        // then
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel.validCount()).isPositive();
+        assertThat(parallel.invalidCount()).isPositive();
+
+        Map<Integer, TurnStationsValidationReport.Violation> byIndex = new HashMap<>();
+        parallel.violations().forEach(violation -> byIndex.put(violation.index(), violation));
+        for (int i = 0; i < candidates.size(); i++) {
+            List<TurnStation> candidate = candidates.get(i);
+            TurnStationsValidationReport.Violation violation = byIndex.get(i);
+            if (violation == null) {
+                assertThat(TurnStations.of(candidate).turnStations()).hasSameSizeAs(candidate);
+            } else {
+                assertThatThrownBy(() -> TurnStations.of(candidate))
+                        .hasMessage(violation.rules().iterator().next().message());
+            }
+        }
+    }
+
+    private List<List<TurnStation>> randomCandidates(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<List<TurnStation>> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int size = 2 + random.nextInt(5);
+            boolean broken = random.nextInt(4) == 0;
+            List<TurnStation> stops = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                boolean first = j == 0;
+                boolean last = j == size - 1;
+                int order = j + 1;
+                TurnStationType pointType = first ? TurnStationType.BEGIN : last ? TurnStationType.END : TurnStationType.MIDDLE;
+                TurnStationOnOffType onOffType = last ? TurnStationOnOffType.OFF : TurnStationOnOffType.ON;
+                if (broken && random.nextInt(3) == 0) {
+                    order = random.nextInt(size + 1);
+                    pointType = POINT_TYPES[random.nextInt(POINT_TYPES.length)];
+                    onOffType = ON_OFF_TYPES[random.nextInt(ON_OFF_TYPES.length)];
+                }
+                stops.add(stop(order, pointType, onOffType));
+            }
+            candidates.add(stops);
+        }
+        return candidates;
+    }
+
+    private TurnStation stop(int order, TurnStationType pointType, TurnStationOnOffType onOffType) {
+        Station station = stations.get(Math.floorMod(order, stations.size()));
+        return TurnStation.of(null, station, onOffType, pointType, order, BASE.plusMinutes(order));
+    }
+
+    private static List<Station> stations(int count) {
+        List<Station> stations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            stations.add(Station.builder()
+                    .id(id)
+                    .name("station-" + id)
+                    .location(Location.of(37.5, 127.0))
+                    .createdAt(BASE)
+                    .updatedAt(BASE)
+                    .build());
+        }
+        return stations;
+    }
+}
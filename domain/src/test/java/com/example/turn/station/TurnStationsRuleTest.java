@@ -0,0 +1,95 @@
+package com.example.turn.station;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnStationsRuleTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    @Test
+    @DisplayName("예외 없이 가장 먼저 어긴 규칙 하나를 반환한다")
+    void findFirstViolation() {
+        assertThat(TurnStationsRule.firstViolation(null)).isEqualTo(TurnStationsRule.NOT_NULL);
+        assertThat(TurnStationsRule.firstViolation(List.of(begin(1)))).isEqualTo(TurnStationsRule.MIN_SIZE);
+        // 순서도 중복되고 종료 정류장도 없지만 순서 규칙이 먼저다
+        assertThat(TurnStationsRule.firstViolation(List.of(begin(1), begin(1)))).isEqualTo(TurnStationsRule.UNIQUE_ORDER);
+        assertThat(TurnStationsRule.firstViolation(List.of(begin(1), middle(2), end(3)))).isNull();
+    }
+
+    @Test
+    @DisplayName("어긴 규칙을 모두 선언 순서대로 반환하고 첫 규칙은 firstViolation 과 같다")
+    void collectAllViolations() {
+        // given
+        List<TurnStation> broken = List.of(
+                turnStation(2, TurnStationType.MIDDLE, TurnStationOnOffType.OFF),
+                turnStation(2, TurnStationType.BEGIN, TurnStationOnOffType.ON),
+                turnStation(1, TurnStationType.MIDDLE, TurnStationOnOffType.ON));
+
+        // when
+        Set<TurnStationsRule> violations = TurnStationsRule.violations(broken);
+
+        // then
+        assertThat(violations).containsExactly(
+                TurnStationsRule.UNIQUE_ORDER, TurnStationsRule.ASCENDING_ORDER, TurnStationsRule.SINGLE_END,
+                TurnStationsRule.BEGIN_FIRST, TurnStationsRule.END_LAST, TurnStationsRule.BEGIN_ON, TurnStationsRule.END_OFF);
+        assertThat(violations.iterator().next()).isEqualTo(TurnStationsRule.firstViolation(broken));
+        assertThat(TurnStationsRule.violations(null)).containsExactly(TurnStationsRule.NOT_NULL);
+        assertThat(TurnStationsRule.violations(Arrays.asList(begin(1), null))).containsExactly(TurnStationsRule.NOT_NULL);
+        assertThat(TurnStationsRule.violations(List.of(begin(1)))).containsExactly(TurnStationsRule.MIN_SIZE);
+        assertThat(TurnStationsRule.violations(List.of(begin(1), middle(2), end(3)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("생성할 때 통과 횟수와 규칙별 위반 횟수를 누적한다")
+    void countValidations() {
+        // given
+        long passed = TurnStationsMetrics.passedCount();
+        long stations = TurnStationsMetrics.passedStationCount();
+        long singleEnd = TurnStationsMetrics.violationCount(TurnStationsRule.SINGLE_END);
+
+        // when
+        TurnStations.of(List.of(begin(1), middle(2), end(3)));
+        assertThatThrownBy(() -> TurnStations.of(List.of(begin(1), middle(2))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(TurnStationsRule.SINGLE_END.message());
+
+        // then
+        assertThat(TurnStationsMetrics.passedCount() - passed).isGreaterThanOrEqualTo(1);
+        assertThat(TurnStationsMetrics.passedStationCount() - stations).isGreaterThanOrEqualTo(3);
+        assertThat(TurnStationsMetrics.violationCount(TurnStationsRule.SINGLE_END) - singleEnd).isGreaterThanOrEqualTo(1);
+    }
+
+    private TurnStation begin(int order) {
+        return turnStation(order, TurnStationType.BEGIN, TurnStationOnOffType.ON);
+    }
+
+    private TurnStation middle(int order) {
+        return turnStation(order, TurnStationType.MIDDLE, TurnStationOnOffType.ON);
+    }
+
+    private TurnStation end(int order) {
+        return turnStation(order, TurnStationType.END, TurnStationOnOffType.OFF);
+    }
+
+    private TurnStation turnStation(int order, TurnStationType pointType, TurnStationOnOffType onOffType) {
+        Station station = Station.builder()
+                .id((long) order)
+                .name("station-" + order)
+                .location(Location.of(37.5, 127.0))
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        return TurnStation.of(null, station, onOffType, pointType, order, NOW.plusMinutes(order));
+    }
+}
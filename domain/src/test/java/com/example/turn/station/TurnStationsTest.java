@@ -58,6 +58,39 @@ class TurnStationsTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("정류장 목록은 두 개 이상이어야 합니다");
         }
+
+        @Test
+        @DisplayName("도착 시각만 바꾼 목록은 검증을 다시 수행하지 않고 만든다")
+        void retimeWithoutRevalidation() {
+            // given
+            TurnStations scheduled = TurnStations.of(createTurnStations());
+            List<TurnStation> delayed = createTurnStations();
+
+            // when
+            TurnStations retimed = TurnStations.retimed(scheduled, delayed);
+
+            // then
+            assertThat(retimed.turnStations()).containsExactlyElementsOf(delayed);
+        }
+
+        @Test
+        @DisplayName("도착 시각 외의 정보가 바뀌면 retimed 는 예외가 발생한다")
+        void throwExceptionWhenRetimedChangesStructure() {
+            // given
+            TurnStations scheduled = TurnStations.of(createTurnStations());
+            List<TurnStation> reordered = List.of(
+                    createTurnStation(1, TurnStationType.BEGIN, TurnStationOnOffType.ON),
+                    createTurnStation(3, TurnStationType.MIDDLE, TurnStationOnOffType.ON),
+                    createTurnStation(3, TurnStationType.END, TurnStationOnOffType.OFF));
+
+            // when & then
+            assertThatThrownBy(() -> TurnStations.retimed(scheduled, reordered))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("도착 시각 외의 정보가 바뀐 정류장입니다");
+            assertThatThrownBy(() -> TurnStations.retimed(scheduled, reordered.subList(0, 1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("정류장 수가 바뀌었습니다");
+        }
     }
 
     @Nested
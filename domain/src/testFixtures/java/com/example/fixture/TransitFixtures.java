@@ -0,0 +1,93 @@
+package com.example.fixture;
+
+import com.example.common.Location;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import com.example.turn.station.TurnStations;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 모듈의 테스트가 함께 쓰는 정류장/회차 노선 생성기. 생성/수정 시각은 모두 BASE 로 고정한다.
+ */
+public final class TransitFixtures {
+
+    public static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    public static final OffsetDateTime BASE = OffsetDateTime.of(2025, 5, 1, 7, 0, 0, 0, KST);
+
+    private TransitFixtures() {
+    }
+
+    public static Station station(long id) {
+        return station(id, "station-" + id);
+    }
+
+    public static Station station(long id, String name) {
+        return station(id, name, Location.of(37.5, 127.0));
+    }
+
+    public static Station station(long id, Location location) {
+        return station(id, "station-" + id, location);
+    }
+
+    public static Station station(long id, String name, Location location) {
+        return Station.builder()
+                .id(id)
+                .name(name)
+                .location(location)
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+    }
+
+    public static Route route(long id) {
+        return Route.of("route-" + id, RouteType.GO);
+    }
+
+    /**
+     * 첫 정류장은 BEGIN, 마지막 정류장은 END, 나머지는 MIDDLE.
+     */
+    public static TurnStationType pointType(int index, int size) {
+        return index == 0 ? TurnStationType.BEGIN : index == size - 1 ? TurnStationType.END : TurnStationType.MIDDLE;
+    }
+
+    /**
+     * 마지막 정류장만 하차(OFF)이고 나머지는 승차(ON)인 정류장 목록. i 번째 정류장 도착 시각은 departure + i * intervalMinutes 이다.
+     */
+    public static List<TurnStation> turnStations(List<Station> stations, OffsetDateTime departure, long intervalMinutes) {
+        List<TurnStation> turnStations = new ArrayList<>(stations.size());
+        for (int i = 0; i < stations.size(); i++) {
+            boolean last = i == stations.size() - 1;
+            turnStations.add(TurnStation.of(
+                    null,
+                    stations.get(i),
+                    last ? TurnStationOnOffType.OFF : TurnStationOnOffType.ON,
+                    pointType(i, stations.size()),
+                    i + 1,
+                    departure.plusMinutes(i * intervalMinutes)));
+        }
+        return turnStations;
+    }
+
+    public static TurnRoute turnRoute(Long id, Route route, List<TurnStation> turnStations) {
+        return TurnRoute.builder()
+                .id(id)
+                .route(route)
+                .turnStations(TurnStations.of(turnStations))
+                .createdAt(BASE)
+                .updatedAt(BASE)
+                .build();
+    }
+
+    public static TurnRoute turnRoute(Long id, Route route, List<Station> stations, OffsetDateTime departure, long intervalMinutes) {
+        return turnRoute(id, route, turnStations(stations, departure, intervalMinutes));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.distance;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 도착 지점 여러 개를 SIMD 레인에 나눠 담아 한 번에 계산한다. 레인 수로 나눠떨어지지 않는 꼬리는 스칼라로 처리한다.
+ * DistanceKernel.best() 가 모듈이 있을 때만 리플렉션으로 만든다.
+ */
+final class VectorDistanceKernel implements DistanceKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void meters(double x, double y, double z, double[] xs, double[] ys, double[] zs, int from, int end, double[] out, int outOffset) {
+        int bound = from + SPECIES.loopBound(end - from);
+        int j = from;
+        for (; j < bound; j += SPECIES.length()) {
+            chordSquared(x, y, z, xs, ys, zs, j)
+                    .lanewise(VectorOperators.SQRT)
+                    .mul(0.5)
+                    .min(1.0)
+                    .lanewise(VectorOperators.ASIN)
+                    .mul(2 * EARTH_RADIUS_METERS)
+                    .intoArray(out, outOffset + j - from);
+        }
+        ScalarDistanceKernel.INSTANCE.meters(x, y, z, xs, ys, zs, j, end, out, outOffset + j - from);
+    }
+
+    @Override
+    public void chordSquared(double x, double y, double z, double[] xs, double[] ys, double[] zs, int from, int end, double[] out, int outOffset) {
+        int bound = from + SPECIES.loopBound(end - from);
+        int j = from;
+        for (; j < bound; j += SPECIES.length()) {
+            chordSquared(x, y, z, xs, ys, zs, j).intoArray(out, outOffset + j - from);
+        }
+        ScalarDistanceKernel.INSTANCE.chordSquared(x, y, z, xs, ys, zs, j, end, out, outOffset + j - from);
+    }
+
+    private static DoubleVector chordSquared(double x, double y, double z, double[] xs, double[] ys, double[] zs, int j) {
+        DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, j).sub(x);
+        DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, j).sub(y);
+        DoubleVector dz = DoubleVector.fromArray(SPECIES, zs, j).sub(z);
+        return dx.fma(dx, dy.fma(dy, dz.mul(dz)));
+    }
+}
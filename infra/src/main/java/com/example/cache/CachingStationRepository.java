@@ -0,0 +1,112 @@
+package com.example.cache;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * id 조회 결과를 캐시하는 StationRepository 데코레이터.
+ * Caffeine(W-TinyLFU) 으로 크기/TTL 기반 제거를 하고, 저장 시 해당 id 를 무효화한다.
+ * 존재하지 않는 id 는 캐시하지 않으며, 위치 기반 조회는 그대로 위임한다.
+ */
+public class CachingStationRepository implements StationRepository {
+
+    private final StationRepository delegate;
+    private final Cache<Long, Station> cache;
+
+    public CachingStationRepository(StationRepository delegate, long maximumSize, Duration expireAfterWrite) {
+        this(delegate, maximumSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    CachingStationRepository(StationRepository delegate, long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        this.delegate = checkNotNull(delegate, "Delegate repository cannot be null");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Station save(Station station) {
+        Station saved = delegate.save(station);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Station> saveAll(Collection<Station> stations) {
+        List<Station> saved = delegate.saveAll(stations);
+        cache.invalidateAll(saved.stream().map(Station::getId).toList());
+        return saved;
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public List<Station> findAllById(Collection<Long> ids) {
+        checkNotNull(ids, "Ids cannot be null");
+
+        List<Long> keys = ids.stream().filter(Objects::nonNull).toList();
+        Map<Long, Station> found = cache.getAll(keys, this::loadAll);
+
+        List<Station> result = new ArrayList<>(keys.size());
+        for (Long id : keys) {
+            Station station = found.get(id);
+            if (station != null) {
+                result.add(station);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Station> findWithinRadius(Location center, double meters) {
+        return delegate.findWithinRadius(center, meters);
+    }
+
+    @Override
+    public List<Station> findNearest(Location center, int k) {
+        return delegate.findNearest(center, k);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    Cache<Long, Station> cache() {
+        return cache;
+    }
+
+    private Map<Long, Station> loadAll(Set<? extends Long> missing) {
+        Map<Long, Station> loaded = new HashMap<>();
+        for (Station station : delegate.findAllById(List.copyOf(missing))) {
+            loaded.put(station.getId(), station);
+        }
+        return loaded;
+    }
+}
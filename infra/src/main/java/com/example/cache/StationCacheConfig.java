@@ -0,0 +1,43 @@
+package com.example.cache;
+
+import com.example.station.StationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * station.cache.enabled=true 이면 컨텍스트의 모든 StationRepository 구현체를 CachingStationRepository 로 감싼다.
+ * MeterRegistry 가 있으면 hit/miss/eviction 지표를 cache.* 이름으로 내보낸다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "station.cache", name = "enabled", havingValue = "true")
+public class StationCacheConfig {
+
+    @Bean
+    static BeanPostProcessor stationCachingPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        StationCacheProperties properties = Binder.get(environment)
+                .bind("station.cache", StationCacheProperties.class)
+                .orElseGet(() -> new StationCacheProperties(true, 0, null));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof StationRepository repository) || bean instanceof CachingStationRepository) {
+                    return bean;
+                }
+
+                CachingStationRepository caching = new CachingStationRepository(
+                        repository, properties.maximumSize(), properties.expireAfterWrite());
+                meterRegistry.ifAvailable(registry ->
+                        CaffeineCacheMetrics.monitor(registry, caching.cache(), "station"));
+                return caching;
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * station.cache.* 설정. enabled 가 true 인 프로파일에서만 StationRepository 를 캐시로 감싼다.
+ */
+@ConfigurationProperties(prefix = "station.cache")
+public record StationCacheProperties(
+        boolean enabled,
+        long maximumSize,
+        Duration expireAfterWrite
+) {
+
+    public StationCacheProperties {
+        if (maximumSize <= 0) {
+            maximumSize = 100_000;
+        }
+        if (expireAfterWrite == null) {
+            expireAfterWrite = Duration.ofMinutes(10);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.coalescing;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 동시에 들어온 findById 를 합쳐 저장소 호출 수를 줄이는 StationRepository 데코레이터.
+ * 같은 id 를 이미 읽고 있으면 그 결과를 함께 기다리고(single-flight), 서로 다른 id 는 window 동안 모아 findAllById 한 번으로 읽는다.
+ * 배치를 연 첫 호출자가 window 만큼 기다렸다가 직접 읽으므로 별도 스레드는 없다. 배치가 maxBatchSize 에 차면 바로 읽는다.
+ * 결과는 보관하지 않으며, 읽기가 끝난 뒤의 호출은 다시 저장소를 읽는다.
+ */
+public class CoalescingStationRepository implements StationRepository {
+
+    private final StationRepository delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ConcurrentMap<Long, CompletableFuture<Optional<Station>>> inFlight = new ConcurrentHashMap<>();
+    private Batch open; // guarded by this
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public CoalescingStationRepository(StationRepository delegate, Duration window, int maxBatchSize) {
+        this.delegate = checkNotNull(delegate, "Delegate repository cannot be null");
+        checkNotNull(window, "Window cannot be null");
+        checkArgument(!window.isNegative(), "Window must not be negative");
+        checkArgument(maxBatchSize > 0, "Max batch size must be positive, but was %s", maxBatchSize);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Station save(Station station) {
+        return delegate.save(station);
+    }
+
+    @Override
+    public List<Station> saveAll(Collection<Station> stations) {
+        return delegate.saveAll(stations);
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        requested.increment();
+
+        CompletableFuture<Optional<Station>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<Station>> existing = inFlight.putIfAbsent(id, future);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        enqueue(id, future);
+        return await(future);
+    }
+
+    @Override
+    public List<Station> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Station> findWithinRadius(Location center, double meters) {
+        return delegate.findWithinRadius(center, meters);
+    }
+
+    @Override
+    public List<Station> findNearest(Location center, int k) {
+        return delegate.findNearest(center, k);
+    }
+
+    /**
+     * findById 호출 수.
+     */
+    public long requestedCount() {
+        return requested.sum();
+    }
+
+    /**
+     * 같은 id 를 읽고 있던 호출에 합류해 저장소를 읽지 않은 findById 호출 수.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 실제로 실행한 저장소 읽기(findById 또는 findAllById) 수.
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    private void enqueue(Long id, CompletableFuture<Optional<Station>> future) {
+        Batch batch;
+        boolean leader = false;
+        boolean full = false;
+        synchronized (this) {
+            if (open == null) {
+                open = new Batch();
+                leader = true;
+            }
+            batch = open;
+            batch.ids.add(id);
+            if (batch.ids.size() >= maxBatchSize) {
+                open = null;
+                full = true;
+            }
+        }
+
+        if (full) {
+            load(batch.ids);
+        } else if (leader) {
+            if (windowNanos > 0) {
+                awaitWindow(future);
+            }
+            synchronized (this) {
+                if (open != batch) {
+                    // 기다리는 동안 배치가 차서 다른 호출자가 이미 읽었다.
+                    return;
+                }
+                open = null;
+            }
+            load(batch.ids);
+        }
+    }
+
+    private void load(List<Long> ids) {
+        loads.increment();
+        Map<Long, Station> found = new HashMap<>();
+        try {
+            if (ids.size() == 1) {
+                delegate.findById(ids.getFirst()).ifPresent(station -> found.put(station.getId(), station));
+            } else {
+                for (Station station : delegate.findAllById(ids)) {
+                    found.put(station.getId(), station);
+                }
+            }
+        } catch (Throwable e) {
+            // Error 도 완료시켜야 기다리던 호출이 멈추지 않고, 그 id 의 다음 조회가 다시 읽는다.
+            for (Long id : ids) {
+                inFlight.remove(id).completeExceptionally(e);
+            }
+            return;
+        }
+
+        // 완료하기 전에 제거해야 이후 호출이 끝난 결과를 재사용하지 않고 새로 읽는다.
+        for (Long id : ids) {
+            inFlight.remove(id).complete(Optional.ofNullable(found.get(id)));
+        }
+    }
+
+    /**
+     * window 만큼 기다린다. 그 전에 배치가 차서 자기 결과가 먼저 나오면 바로 돌아간다.
+     */
+    private void awaitWindow(CompletableFuture<Optional<Station>> future) {
+        try {
+            future.get(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // window 가 지났거나 배치가 이미 읽혔다.
+        } catch (InterruptedException e) {
+            // 배치는 그대로 읽어야 기다리는 다른 호출자가 멈추지 않는다.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Optional<Station> await(CompletableFuture<Optional<Station>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Batch {
+        private final List<Long> ids = new ArrayList<>();
+    }
+}
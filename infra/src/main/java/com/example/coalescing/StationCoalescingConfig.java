@@ -0,0 +1,69 @@
+package com.example.coalescing;
+
+import com.example.station.StationRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * station.coalescing.enabled=true 이면 컨텍스트의 StationRepository 를 CoalescingStationRepository 로 감싼다.
+ * Ordered 후처리기는 순서 없는 캐시 후처리기보다 먼저 적용되므로, 캐시가 바깥에서 이 데코레이터를 감싸 캐시 미스만 합쳐진다.
+ * MeterRegistry 가 있으면 station.lookups(outcome=coalesced|loaded) 와 station.lookup.loads 지표를 내보낸다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "station.coalescing", name = "enabled", havingValue = "true")
+public class StationCoalescingConfig {
+
+    @Bean
+    static CoalescingPostProcessor stationCoalescingPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        StationCoalescingProperties properties = Binder.get(environment)
+                .bind("station.coalescing", StationCoalescingProperties.class)
+                .orElseGet(() -> new StationCoalescingProperties(true, null, 0));
+
+        return new CoalescingPostProcessor(properties, meterRegistry);
+    }
+
+    // 반환 타입을 구체 타입으로 두어야 빈 생성 전에도 Ordered 로 인식된다.
+    record CoalescingPostProcessor(StationCoalescingProperties properties, ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof StationRepository repository) || bean instanceof CoalescingStationRepository) {
+                return bean;
+            }
+
+            CoalescingStationRepository coalescing = new CoalescingStationRepository(
+                    repository, properties.window(), properties.maxBatchSize());
+            meterRegistry.ifAvailable(registry -> bindMetrics(registry, coalescing));
+            return coalescing;
+        }
+
+        // 저널(HIGHEST_PRECEDENCE) 다음, 순서 없는 캐시 후처리기보다는 먼저 적용된다.
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        private static void bindMetrics(MeterRegistry registry, CoalescingStationRepository repository) {
+            FunctionCounter.builder("station.lookups", repository, CoalescingStationRepository::coalescedCount)
+                    .tag("outcome", "coalesced")
+                    .description("findById calls that joined an in-flight load")
+                    .register(registry);
+            FunctionCounter.builder("station.lookups", repository, r -> r.requestedCount() - r.coalescedCount())
+                    .tag("outcome", "loaded")
+                    .description("findById calls that started a load")
+                    .register(registry);
+            FunctionCounter.builder("station.lookup.loads", repository, CoalescingStationRepository::loadCount)
+                    .description("Repository reads executed for findById, single or batched")
+                    .register(registry);
+        }
+    }
+}
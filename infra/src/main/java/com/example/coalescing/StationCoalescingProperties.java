@@ -0,0 +1,25 @@
+package com.example.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * station.coalescing.* 설정. enabled 가 true 인 프로파일에서만 StationRepository 의 findById 를 합친다.
+ */
+@ConfigurationProperties(prefix = "station.coalescing")
+public record StationCoalescingProperties(
+        boolean enabled,
+        Duration window,
+        int maxBatchSize
+) {
+
+    public StationCoalescingProperties {
+        if (window == null) {
+            window = Duration.ofMillis(2);
+        }
+        if (maxBatchSize <= 0) {
+            maxBatchSize = 100;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.db;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import com.google.common.collect.Lists;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * db 프로파일의 StationRepository 구현체.
+ * saveAll 은 시퀀스 pooled 할당과 hibernate.jdbc.batch_size 를 이용해 배치 insert 하며,
+ * 배치 단위로 flush 한 뒤 이 메서드가 persist 한 엔티티만 detach 해서 영속성 컨텍스트가 커지지 않도록 한다.
+ * 호출한 쪽 트랜잭션이 이미 관리하던 엔티티는 그대로 둔다.
+ * 조회는 엔티티 대신 StationRow 프로젝션을 사용한다.
+ */
+@Repository
+@Profile("db")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JpaStationRepository implements StationRepository {
+
+    private static final int BATCH_SIZE = StationEntity.ALLOCATION_SIZE;
+    private static final int MAX_IN_CLAUSE_SIZE = 1_000;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180;
+    private static final double INITIAL_NEAREST_RADIUS_METERS = 1_000;
+    // 1km 에서 4배씩 넓혀 다섯 번(1, 4, 16, 64, 256km)까지만 경계 상자로 찾는다.
+    private static final double MAX_NEAREST_RADIUS_METERS = 256_000;
+
+    private final StationJpaRepository stationJpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Station save(Station station) {
+        checkNotNull(station, "Station cannot be null");
+
+        StationEntity entity = StationEntity.from(station, OffsetDateTime.now());
+        entityManager.persist(entity);
+        return entity.toDomain();
+    }
+
+    @Override
+    @Transactional
+    public List<Station> saveAll(Collection<Station> stations) {
+        checkNotNull(stations, "Stations cannot be null");
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Station> saved = new ArrayList<>(stations.size());
+        List<StationEntity> pending = new ArrayList<>(BATCH_SIZE);
+        for (Station station : stations) {
+            StationEntity entity = StationEntity.from(station, now);
+            entityManager.persist(entity);
+            saved.add(entity.toDomain());
+
+            pending.add(entity);
+            if (pending.size() == BATCH_SIZE) {
+                entityManager.flush();
+                pending.forEach(entityManager::detach);
+                pending.clear();
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return stationJpaRepository.findRowById(id).map(StationRow::toDomain);
+    }
+
+    @Override
+    public List<Station> findAllById(Collection<Long> ids) {
+        checkNotNull(ids, "Ids cannot be null");
+
+        List<Long> keys = ids.stream().filter(Objects::nonNull).toList();
+        Map<Long, Station> found = new HashMap<>();
+        for (List<Long> chunk : Lists.partition(keys.stream().distinct().toList(), MAX_IN_CLAUSE_SIZE)) {
+            for (StationRow row : stationJpaRepository.findRowsByIdIn(chunk)) {
+                found.put(row.id(), row.toDomain());
+            }
+        }
+
+        List<Station> result = new ArrayList<>(keys.size());
+        for (Long id : keys) {
+            Station station = found.get(id);
+            if (station != null) {
+                result.add(station);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * (위도, 경도) 인덱스로 경계 상자를 먼저 조회한 뒤 실제 거리로 걸러낸다.
+     */
+    @Override
+    public List<Station> findWithinRadius(Location center, double meters) {
+        checkNotNull(center, "Location cannot be null");
+        checkArgument(meters >= 0, "Radius must not be negative, but was %s", meters);
+
+        double latDelta = meters / METERS_PER_DEGREE;
+        double minLat = Math.max(-90, center.lat() - latDelta);
+        double maxLat = Math.min(90, center.lat() + latDelta);
+
+        double widestLat = Math.abs(center.lat()) + latDelta;
+        double sinHalfLng = meters / (2 * EARTH_RADIUS_METERS * Math.cos(Math.toRadians(widestLat)));
+        List<StationRow> rows = new ArrayList<>();
+        if (widestLat >= 89.9 || sinHalfLng >= 1) {
+            rows.addAll(stationJpaRepository.findRowsInBox(minLat, maxLat, -180, 180));
+        } else {
+            double lngDelta = Math.toDegrees(2 * Math.asin(sinHalfLng));
+            double minLng = center.lng() - lngDelta;
+            double maxLng = center.lng() + lngDelta;
+            rows.addAll(stationJpaRepository.findRowsInBox(minLat, maxLat, Math.max(-180, minLng), Math.min(180, maxLng)));
+            // 날짜변경선을 넘는 경우 반대편 구간도 조회한다.
+            if (minLng < -180) {
+                rows.addAll(stationJpaRepository.findRowsInBox(minLat, maxLat, minLng + 360, 180));
+            } else if (maxLng > 180) {
+                rows.addAll(stationJpaRepository.findRowsInBox(minLat, maxLat, -180, maxLng - 360));
+            }
+        }
+
+        return rows.stream()
+                .map(StationRow::toDomain)
+                .filter(station -> center.distanceTo(station.getLocation()) <= meters)
+                .sorted(Comparator.comparingDouble(station -> center.distanceTo(station.getLocation())))
+                .toList();
+    }
+
+    /**
+     * 반경을 넓혀 가며 k 개 이상 찾을 때까지 findWithinRadius 를 반복한다.
+     * MAX_NEAREST_RADIUS_METERS 안에서도 k 개가 안 되면 반경을 더 넓히지 않고, 평면 근사 거리로 정렬한 k 개를 한 번에 조회한다.
+     * 이 경우 날짜변경선 건너편처럼 근사가 크게 어긋나는 정류장은 빠질 수 있다.
+     */
+    @Override
+    public List<Station> findNearest(Location center, int k) {
+        checkNotNull(center, "Location cannot be null");
+        checkArgument(k >= 0, "k must not be negative, but was %s", k);
+        if (k == 0) {
+            return List.of();
+        }
+
+        for (double radius = INITIAL_NEAREST_RADIUS_METERS; radius <= MAX_NEAREST_RADIUS_METERS; radius *= 4) {
+            List<Station> found = findWithinRadius(center, radius);
+            if (found.size() >= k) {
+                return found.subList(0, k);
+            }
+        }
+
+        double lngScale = Math.cos(Math.toRadians(center.lat()));
+        return stationJpaRepository.findNearestRows(center.lat(), center.lng(), lngScale, Limit.of(k)).stream()
+                .map(StationRow::toDomain)
+                .sorted(Comparator.comparingDouble(station -> center.distanceTo(station.getLocation())))
+                .toList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.db;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * station 테이블 매핑. id 는 시퀀스에서 ALLOCATION_SIZE 단위로 미리 할당받아(pooled) insert 마다 왕복하지 않는다.
+ */
+@Entity
+@Table(name = "station", indexes = @Index(name = "idx_station_location", columnList = "latitude, longitude"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StationEntity {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_id_generator")
+    @SequenceGenerator(name = "station_id_generator", sequenceName = "station_id_seq", allocationSize = ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+
+    static StationEntity from(Station station, OffsetDateTime now) {
+        StationEntity entity = new StationEntity();
+        entity.name = station.getName();
+        entity.latitude = station.getLocation().lat();
+        entity.longitude = station.getLocation().lng();
+        entity.createdAt = now;
+        entity.updatedAt = now;
+        return entity;
+    }
+
+    Station toDomain() {
+        return Station.builder()
+                .id(id)
+                .name(name)
+                .location(new Location(latitude, longitude))
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.db;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StationJpaRepository extends JpaRepository<StationEntity, Long> {
+
+    @Query("select new com.example.db.StationRow(s.id, s.name, s.latitude, s.longitude, s.createdAt, s.updatedAt) "
+            + "from StationEntity s where s.id = :id")
+    Optional<StationRow> findRowById(@Param("id") Long id);
+
+    @Query("select new com.example.db.StationRow(s.id, s.name, s.latitude, s.longitude, s.createdAt, s.updatedAt) "
+            + "from StationEntity s where s.id in :ids")
+    List<StationRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.db.StationRow(s.id, s.name, s.latitude, s.longitude, s.createdAt, s.updatedAt) "
+            + "from StationEntity s "
+            + "where s.latitude between :minLat and :maxLat and s.longitude between :minLng and :maxLng")
+    List<StationRow> findRowsInBox(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                   @Param("minLng") double minLng, @Param("maxLng") double maxLng);
+
+    /**
+     * 경도 차이에 lngScale(중심 위도의 cos)을 곱한 평면 근사 거리로 가까운 순 limit 개를 조회한다.
+     */
+    @Query("select new com.example.db.StationRow(s.id, s.name, s.latitude, s.longitude, s.createdAt, s.updatedAt) "
+            + "from StationEntity s "
+            + "order by (s.latitude - :lat) * (s.latitude - :lat) "
+            + "+ (s.longitude - :lng) * (s.longitude - :lng) * :lngScale * :lngScale")
+    List<StationRow> findNearestRows(@Param("lat") double lat, @Param("lng") double lng,
+                                     @Param("lngScale") double lngScale, Limit limit);
+}
@@ -0,0 +1,29 @@
+package com.example.db;
+
+import com.example.common.Location;
+import com.example.station.Station;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 조회 전용 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ */
+public record StationRow(
+        Long id,
+        String name,
+        double latitude,
+        double longitude,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+
+    Station toDomain() {
+        return Station.builder()
+                .id(id)
+                .name(name)
+                .location(new Location(latitude, longitude))
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.gtfs;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 바이트열 키 -> int 값 해시 인덱스 (open addressing).
+ * stop_times.txt 를 읽을 때 trip_id/stop_id 필드를 String 으로 만들지 않고 버퍼의 바이트 구간으로 바로 조회하기 위해 사용한다.
+ */
+final class ByteKeyIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private int[] slots = new int[64];
+    private int[] keyOffsets = new int[16];
+    private int[] keyLengths = new int[16];
+    private int[] values = new int[16];
+    private byte[] arena = new byte[256];
+    private int arenaSize;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 키를 추가한다. 이미 있는 키면 기존 값을 유지하고 false 를 반환한다.
+     */
+    boolean put(byte[] key, int value) {
+        int hash = hash(key, 0, key.length);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                slots[slot] = append(key, value) + 1;
+                if (size * 2 > slots.length) {
+                    rehash();
+                }
+                return true;
+            }
+            if (matches(entry, key)) {
+                return false;
+            }
+        }
+    }
+
+    int get(byte[] key) {
+        int hash = hash(key, 0, key.length);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                return NOT_FOUND;
+            }
+            if (matches(entry, key)) {
+                return values[entry];
+            }
+        }
+    }
+
+    /**
+     * buffer 의 [start, end) 구간을 키로 조회한다. 조회 중 할당은 없다.
+     */
+    int get(ByteBuffer buffer, int start, int end) {
+        int hash = 0x811c9dc5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ (buffer.get(i) & 0xff)) * 0x01000193;
+        }
+        hash = spread(hash);
+
+        int length = end - start;
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                return NOT_FOUND;
+            }
+            if (keyLengths[entry] == length && matches(entry, buffer, start, length)) {
+                return values[entry];
+            }
+        }
+    }
+
+    private int append(byte[] key, int value) {
+        if (size == values.length) {
+            keyOffsets = Arrays.copyOf(keyOffsets, size * 2);
+            keyLengths = Arrays.copyOf(keyLengths, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        if (arenaSize + key.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + key.length));
+        }
+        System.arraycopy(key, 0, arena, arenaSize, key.length);
+        keyOffsets[size] = arenaSize;
+        keyLengths[size] = key.length;
+        values[size] = value;
+        arenaSize += key.length;
+        return size++;
+    }
+
+    private void rehash() {
+        int[] rehashed = new int[slots.length * 2];
+        int mask = rehashed.length - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int hash = hash(arena, keyOffsets[entry], keyOffsets[entry] + keyLengths[entry]);
+            int slot = hash & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = entry + 1;
+        }
+        slots = rehashed;
+    }
+
+    private boolean matches(int entry, byte[] key) {
+        int offset = keyOffsets[entry];
+        return Arrays.equals(arena, offset, offset + keyLengths[entry], key, 0, key.length);
+    }
+
+    private boolean matches(int entry, ByteBuffer buffer, int start, int length) {
+        int offset = keyOffsets[entry];
+        for (int i = 0; i < length; i++) {
+            if (arena[offset + i] != buffer.get(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] bytes, int start, int end) {
+        int hash = 0x811c9dc5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ (bytes[i] & 0xff)) * 0x01000193;
+        }
+        return spread(hash);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
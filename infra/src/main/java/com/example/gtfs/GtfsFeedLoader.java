@@ -0,0 +1,540 @@
+package com.example.gtfs;
+
+import com.example.common.Location;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import com.example.turn.station.TurnStations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * GTFS 피드(zip 또는 디렉터리)를 Station / Route / TurnRoute 로 변환한다.
+ *
+ * <ul>
+ *     <li>stops.txt, routes.txt, trips.txt 는 작으므로 행마다 키를 바이트열로 등록한다.</li>
+ *     <li>calendar.txt 와 calendar_dates.txt 로 serviceDate 에 운행하는 service_id 를 구하고, 그 밖의 회차는 적재하지 않는다.
+ *     두 파일이 모두 없으면 모든 회차를 적재한다.</li>
+ *     <li>stop_times.txt 는 메모리 매핑해 읽으며 trip_id/stop_id 는 바이트 구간으로 바로 조회한다.
+ *     행 하나는 int 컬럼 몇 개로만 남고 String 은 만들지 않는다.</li>
+ *     <li>stop_times 행을 회차별로 counting sort 한 뒤, 회차 조립(TurnStation/TurnRoute 생성)을 여러 코어에서 나눠 수행한다.</li>
+ * </ul>
+ *
+ * 노선은 (route_id, direction_id) 마다 하나씩 만들며 direction_id 가 1 이면 BACK, 그 외에는 GO 이다.
+ * 정류장 순서는 stop_sequence 순으로 1부터 다시 매기고, 첫 정류장은 BEGIN/ON, 마지막 정류장은 END/OFF 이다.
+ * 중간 정류장은 승차 불가(pickup_type=1)이면 OFF, 그 외에는 ON 이다.
+ * 좌표가 비어 있는 stops.txt 행(GTFS 가 허용하는 location_type 3/4 의 일반 노드, 탑승 구역)은 정류장으로 만들지 않고 건너뛴다.
+ */
+@Component
+public class GtfsFeedLoader {
+
+    private static final Set<String> FEED_FILES = Set.of("stops.txt", "routes.txt", "trips.txt", "stop_times.txt");
+    private static final Set<String> CALENDAR_FILES = Set.of("calendar.txt", "calendar_dates.txt");
+    private static final int SERVICE_ADDED = 1;
+    private static final int SERVICE_REMOVED = 2;
+    // serviceDate 에 운행하지 않는 회차. stop_times 행이 알 수 없는 회차로 집계되지 않도록 회차 인덱스에 이 값으로 등록한다.
+    private static final int INACTIVE_TRIP = -2;
+    private static final int NO_PICKUP = 1;
+    // 서비스일 기준 48시간까지의 도착 시각 객체는 회차 사이에 공유한다.
+    private static final int SHARED_TIME_SECONDS = 48 * 60 * 60;
+
+    private final int parallelism;
+    private final int chunkSize;
+
+    public GtfsFeedLoader() {
+        this(Runtime.getRuntime().availableProcessors(), MappedCsvReader.DEFAULT_CHUNK_SIZE);
+    }
+
+    GtfsFeedLoader(int parallelism, int chunkSize) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 피드를 읽어 serviceDate 하루치 운행 정보로 변환한다. GTFS 시각은 serviceDate 자정(zoneOffset) 기준으로 해석한다.
+     * 회차는 service_id 가 serviceDate 에 운행하는 것만 적재하며, 피드에 서비스 달력이 없으면 모든 회차를 적재한다.
+     */
+    public GtfsNetwork load(Path feed, LocalDate serviceDate, ZoneOffset zoneOffset) {
+        checkNotNull(feed, "Feed path cannot be null");
+        checkNotNull(serviceDate, "Service date cannot be null");
+        checkNotNull(zoneOffset, "ZoneOffset cannot be null");
+
+        if (Files.isDirectory(feed)) {
+            return loadDirectory(feed, serviceDate, zoneOffset);
+        }
+
+        Path extracted = extract(feed);
+        try {
+            return loadDirectory(extracted, serviceDate, zoneOffset);
+        } finally {
+            deleteRecursively(extracted);
+        }
+    }
+
+    private GtfsNetwork loadDirectory(Path directory, LocalDate serviceDate, ZoneOffset zoneOffset) {
+        // 생성/수정 시각은 객체마다 now() 를 부르지 않고 적재 시각 하나를 공유한다.
+        OffsetDateTime loadedAt = OffsetDateTime.now();
+
+        ByteKeyIndex stopIndex = new ByteKeyIndex();
+        Stops stops = readStops(directory.resolve("stops.txt"), stopIndex, loadedAt);
+        List<Station> stations = stops.stations;
+
+        ByteKeyIndex routeIndex = new ByteKeyIndex();
+        List<String> routeNames = readRoutes(directory.resolve("routes.txt"), routeIndex);
+
+        ByteKeyIndex activeServices = readActiveServices(directory, serviceDate);
+        ByteKeyIndex tripIndex = new ByteKeyIndex();
+        List<Route> routes = new ArrayList<>();
+        Trips trips = readTrips(directory.resolve("trips.txt"), tripIndex, routeIndex, activeServices, routeNames, routes, loadedAt);
+        List<Route> tripRoutes = trips.routes;
+
+        StopTimes stopTimes = readStopTimes(directory.resolve("stop_times.txt"), tripIndex, stopIndex);
+        int[] tripOffsets = stopTimes.groupByTrip(tripRoutes.size());
+
+        OffsetDateTime serviceStart = serviceDate.atStartOfDay().atOffset(zoneOffset);
+        List<TurnRoute> turnRoutes = assemble(tripRoutes, stations, stopTimes, tripOffsets, serviceStart, loadedAt);
+        return new GtfsNetwork(stations, routes, turnRoutes, stops.skipped, stopTimes.skipped,
+                tripRoutes.size() - turnRoutes.size(), trips.inactive);
+    }
+
+    private Stops readStops(Path file, ByteKeyIndex stopIndex, OffsetDateTime createdAt) {
+        Stops stops = new Stops();
+        List<Station> stations = stops.stations;
+        try (MappedCsvReader reader = new MappedCsvReader(file, chunkSize)) {
+            int id = reader.requiredColumn("stop_id");
+            int name = reader.requiredColumn("stop_name");
+            int lat = reader.requiredColumn("stop_lat");
+            int lon = reader.requiredColumn("stop_lon");
+
+            while (reader.next()) {
+                if (reader.isEmpty(lat) || reader.isEmpty(lon)) {
+                    stops.skipped++;
+                    continue;
+                }
+                if (stopIndex.put(reader.bytes(id), stations.size())) {
+                    stations.add(Station.builder()
+                            .id((long) stations.size() + 1)
+                            .name(reader.string(name))
+                            .location(Location.of(
+                                    Double.parseDouble(reader.string(lat).trim()),
+                                    Double.parseDouble(reader.string(lon).trim())))
+                            .createdAt(createdAt)
+                            .updatedAt(createdAt)
+                            .build());
+                }
+            }
+        }
+        return stops;
+    }
+
+    private List<String> readRoutes(Path file, ByteKeyIndex routeIndex) {
+        List<String> names = new ArrayList<>();
+        try (MappedCsvReader reader = new MappedCsvReader(file, chunkSize)) {
+            int id = reader.requiredColumn("route_id");
+            int shortName = reader.column("route_short_name");
+            int longName = reader.column("route_long_name");
+
+            while (reader.next()) {
+                if (routeIndex.put(reader.bytes(id), names.size())) {
+                    String name = !reader.isEmpty(shortName) ? reader.string(shortName)
+                            : !reader.isEmpty(longName) ? reader.string(longName)
+                            : reader.string(id);
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * calendar.txt 와 calendar_dates.txt 를 읽어 serviceDate 에 운행하는 service_id 를 구한다.
+     * calendar.txt 의 기간과 요일로 정한 뒤 calendar_dates.txt 의 예외(1: 추가, 2: 제외)를 적용한다.
+     * 두 파일이 모두 없으면 null 을 반환하며, 이때는 모든 회차가 운행하는 것으로 본다.
+     */
+    private ByteKeyIndex readActiveServices(Path directory, LocalDate serviceDate) {
+        Path calendar = directory.resolve("calendar.txt");
+        Path calendarDates = directory.resolve("calendar_dates.txt");
+        if (!Files.exists(calendar) && !Files.exists(calendarDates)) {
+            return null;
+        }
+
+        // GTFS 날짜(YYYYMMDD)를 정수 그대로 비교한다.
+        int date = serviceDate.getYear() * 10_000 + serviceDate.getMonthValue() * 100 + serviceDate.getDayOfMonth();
+        Set<ByteBuffer> active = new HashSet<>();
+        if (Files.exists(calendar)) {
+            try (MappedCsvReader reader = new MappedCsvReader(calendar, chunkSize)) {
+                int serviceId = reader.requiredColumn("service_id");
+                int weekday = reader.requiredColumn(serviceDate.getDayOfWeek().name().toLowerCase(Locale.ROOT));
+                int startDate = reader.requiredColumn("start_date");
+                int endDate = reader.requiredColumn("end_date");
+
+                while (reader.next()) {
+                    if (reader.parseInt(weekday, 0) == 1
+                            && reader.parseInt(startDate, Integer.MAX_VALUE) <= date
+                            && date <= reader.parseInt(endDate, 0)) {
+                        active.add(ByteBuffer.wrap(reader.bytes(serviceId)));
+                    }
+                }
+            }
+        }
+        if (Files.exists(calendarDates)) {
+            try (MappedCsvReader reader = new MappedCsvReader(calendarDates, chunkSize)) {
+                int serviceId = reader.requiredColumn("service_id");
+                int exceptionDate = reader.requiredColumn("date");
+                int exceptionType = reader.requiredColumn("exception_type");
+
+                while (reader.next()) {
+                    if (reader.parseInt(exceptionDate, 0) != date) {
+                        continue;
+                    }
+                    int type = reader.parseInt(exceptionType, 0);
+                    if (type == SERVICE_ADDED) {
+                        active.add(ByteBuffer.wrap(reader.bytes(serviceId)));
+                    } else if (type == SERVICE_REMOVED) {
+                        active.remove(ByteBuffer.wrap(reader.bytes(serviceId)));
+                    }
+                }
+            }
+        }
+
+        ByteKeyIndex services = new ByteKeyIndex();
+        for (ByteBuffer service : active) {
+            services.put(service.array(), 0);
+        }
+        return services;
+    }
+
+    /**
+     * trips.txt 를 읽어 회차 인덱스를 만들고, 회차마다 속한 노선을 반환한다.
+     * 노선 객체는 (route_id, direction_id) 마다 하나만 만들어 회차 사이에 공유한다.
+     * activeServices 가 있으면 거기 없는 service_id 의 회차는 INACTIVE_TRIP 으로만 등록하고 적재하지 않는다.
+     */
+    private Trips readTrips(Path file, ByteKeyIndex tripIndex, ByteKeyIndex routeIndex, ByteKeyIndex activeServices,
+                            List<String> routeNames, List<Route> routes, OffsetDateTime createdAt) {
+        Trips trips = new Trips();
+        List<Route> tripRoutes = trips.routes;
+        Map<Long, Route> routeByDirection = new HashMap<>();
+        try (MappedCsvReader reader = new MappedCsvReader(file, chunkSize)) {
+            int tripId = reader.requiredColumn("trip_id");
+            int routeId = reader.requiredColumn("route_id");
+            int serviceId = activeServices == null ? -1 : reader.requiredColumn("service_id");
+            int directionId = reader.column("direction_id");
+
+            while (reader.next()) {
+                int route = reader.lookup(routeId, routeIndex);
+                checkArgument(route != ByteKeyIndex.NOT_FOUND, "알 수 없는 노선입니다: %s (line %s)", reader.string(routeId), reader.line());
+                if (activeServices != null && reader.lookup(serviceId, activeServices) == ByteKeyIndex.NOT_FOUND) {
+                    if (tripIndex.put(reader.bytes(tripId), INACTIVE_TRIP)) {
+                        trips.inactive++;
+                    }
+                    continue;
+                }
+                if (!tripIndex.put(reader.bytes(tripId), tripRoutes.size())) {
+                    continue;
+                }
+
+                RouteType type = reader.parseInt(directionId, 0) == 1 ? RouteType.BACK : RouteType.GO;
+                long key = (long) route << 1 | type.ordinal();
+                tripRoutes.add(routeByDirection.computeIfAbsent(key, ignored -> {
+                    Route created = Route.builder()
+                            .id((long) routes.size() + 1)
+                            .name(routeNames.get(route))
+                            .type(type)
+                            .createdAt(createdAt)
+                            .updatedAt(createdAt)
+                            .build();
+                    routes.add(created);
+                    return created;
+                }));
+            }
+        }
+        return trips;
+    }
+
+    private StopTimes readStopTimes(Path file, ByteKeyIndex tripIndex, ByteKeyIndex stopIndex) {
+        StopTimes stopTimes = new StopTimes();
+        try (MappedCsvReader reader = new MappedCsvReader(file, chunkSize)) {
+            int tripId = reader.requiredColumn("trip_id");
+            int stopId = reader.requiredColumn("stop_id");
+            int sequence = reader.requiredColumn("stop_sequence");
+            int arrival = reader.requiredColumn("arrival_time");
+            int departure = reader.column("departure_time");
+            int pickupType = reader.column("pickup_type");
+
+            while (reader.next()) {
+                int trip = reader.lookup(tripId, tripIndex);
+                if (trip == INACTIVE_TRIP) {
+                    continue;
+                }
+                int stop = reader.lookup(stopId, stopIndex);
+                if (trip == ByteKeyIndex.NOT_FOUND || stop == ByteKeyIndex.NOT_FOUND) {
+                    stopTimes.skipped++;
+                    continue;
+                }
+
+                int time = reader.parseTime(arrival);
+                if (time < 0) {
+                    time = reader.parseTime(departure);
+                }
+                stopTimes.add(trip, stop, reader.parseInt(sequence, 0), time, reader.parseInt(pickupType, 0) == NO_PICKUP);
+            }
+        }
+        return stopTimes;
+    }
+
+    private List<TurnRoute> assemble(List<Route> tripRoutes, List<Station> stations, StopTimes stopTimes,
+                                     int[] tripOffsets, OffsetDateTime serviceStart, OffsetDateTime loadedAt) {
+        ArrivalTimes arrivalTimes = new ArrivalTimes(serviceStart);
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return pool.submit(() -> IntStream.range(0, tripRoutes.size())
+                            .parallel()
+                            .mapToObj(trip -> assembleTrip(trip, tripRoutes.get(trip), stations, stopTimes,
+                                    tripOffsets[trip], tripOffsets[trip + 1], arrivalTimes, loadedAt))
+                            .filter(Objects::nonNull)
+                            .toList())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("GTFS 회차 조립이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("GTFS 회차 조립에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 회차 하나를 조립한다. 정류장이 두 개 미만이거나, stop_sequence 가 중복되거나, 첫 정류장 시각이 없으면 null 을 반환한다.
+     * 시각이 비어 있는 중간 정류장은 직전 정류장의 시각을 사용한다.
+     */
+    private TurnRoute assembleTrip(int trip, Route route, List<Station> stations, StopTimes stopTimes, int from, int to,
+                                   ArrivalTimes arrivalTimes, OffsetDateTime createdAt) {
+        int size = to - from;
+        if (size < 2) {
+            return null;
+        }
+
+        long[] bySequence = new long[size];
+        for (int i = 0; i < size; i++) {
+            int row = stopTimes.rowsByTrip[from + i];
+            bySequence[i] = (long) stopTimes.sequences.get(row) << 32 | row;
+        }
+        Arrays.sort(bySequence);
+
+        List<TurnStation> turnStations = new ArrayList<>(size);
+        int time = -1;
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && bySequence[i] >>> 32 == bySequence[i - 1] >>> 32) {
+                return null;
+            }
+            int row = (int) bySequence[i];
+            int arrival = stopTimes.times.get(row);
+            time = arrival >= 0 ? arrival : time;
+            if (time < 0) {
+                return null;
+            }
+
+            TurnStationType pointType = i == 0 ? TurnStationType.BEGIN
+                    : i == size - 1 ? TurnStationType.END
+                    : TurnStationType.MIDDLE;
+            TurnStationOnOffType onOffType = pointType == TurnStationType.END
+                    || pointType == TurnStationType.MIDDLE && stopTimes.noPickup[row]
+                    ? TurnStationOnOffType.OFF
+                    : TurnStationOnOffType.ON;
+            turnStations.add(TurnStation.builder()
+                    .station(stations.get(stopTimes.stops.get(row)))
+                    .onOffType(onOffType)
+                    .pointType(pointType)
+                    .order(i + 1)
+                    .expectedArrivalTime(arrivalTimes.at(time))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+
+        try {
+            return TurnRoute.builder()
+                    .id((long) trip + 1)
+                    .route(route)
+                    .turnStations(TurnStations.of(turnStations))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Path extract(Path zip) {
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            Path directory = Files.createTempDirectory("gtfs-");
+            for (String name : FEED_FILES) {
+                ZipEntry entry = zipFile.getEntry(name);
+                checkArgument(entry != null, "GTFS 피드에 %s 가 없습니다.", name);
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    Files.copy(in, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            for (String name : CALENDAR_FILES) {
+                ZipEntry entry = zipFile.getEntry(name);
+                if (entry == null) {
+                    continue;
+                }
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    Files.copy(in, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 서비스일 기준 초 -> OffsetDateTime. 같은 시각은 같은 객체를 돌려준다.
+     * 여러 스레드가 같은 칸을 동시에 채울 수 있지만 OffsetDateTime 은 불변이므로 어느 쪽이 남아도 결과는 같다.
+     */
+    private static final class ArrivalTimes {
+
+        private final OffsetDateTime serviceStart;
+        private final OffsetDateTime[] shared = new OffsetDateTime[SHARED_TIME_SECONDS];
+
+        ArrivalTimes(OffsetDateTime serviceStart) {
+            this.serviceStart = serviceStart;
+        }
+
+        OffsetDateTime at(int seconds) {
+            if (seconds >= shared.length) {
+                return serviceStart.plusSeconds(seconds);
+            }
+            OffsetDateTime time = shared[seconds];
+            if (time == null) {
+                time = serviceStart.plusSeconds(seconds);
+                shared[seconds] = time;
+            }
+            return time;
+        }
+    }
+
+    /**
+     * stops.txt 에서 만든 정류장과, 좌표가 비어 있어 건너뛴 행 수.
+     */
+    private static final class Stops {
+
+        private final List<Station> stations = new ArrayList<>();
+        private int skipped;
+    }
+
+    /**
+     * trips.txt 에서 적재할 회차마다의 노선과, serviceDate 에 운행하지 않아 제외한 회차 수.
+     */
+    private static final class Trips {
+
+        private final List<Route> routes = new ArrayList<>();
+        private int inactive;
+    }
+
+    /**
+     * stop_times.txt 의 행을 컬럼형으로 보관한다.
+     */
+    private static final class StopTimes {
+
+        private final IntColumn trips = new IntColumn();
+        private final IntColumn stops = new IntColumn();
+        private final IntColumn sequences = new IntColumn();
+        private final IntColumn times = new IntColumn();
+        private boolean[] noPickup = new boolean[1024];
+        private int[] rowsByTrip;
+        private long skipped;
+
+        void add(int trip, int stop, int sequence, int time, boolean noPickup) {
+            int row = trips.size;
+            if (row == this.noPickup.length) {
+                this.noPickup = Arrays.copyOf(this.noPickup, row * 2);
+            }
+            trips.add(trip);
+            stops.add(stop);
+            sequences.add(sequence);
+            times.add(time);
+            this.noPickup[row] = noPickup;
+        }
+
+        /**
+         * 행을 회차 순으로 counting sort 해 rowsByTrip 에 담고, 회차별 시작 위치를 반환한다.
+         */
+        int[] groupByTrip(int tripCount) {
+            int[] offsets = new int[tripCount + 1];
+            for (int row = 0; row < trips.size; row++) {
+                offsets[trips.get(row) + 1]++;
+            }
+            for (int trip = 0; trip < tripCount; trip++) {
+                offsets[trip + 1] += offsets[trip];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, tripCount);
+            rowsByTrip = new int[trips.size];
+            for (int row = 0; row < trips.size; row++) {
+                rowsByTrip[cursor[trips.get(row)]++] = row;
+            }
+            return offsets;
+        }
+    }
+
+    private static final class IntColumn {
+
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+    }
+}
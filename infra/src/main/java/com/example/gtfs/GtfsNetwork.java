@@ -0,0 +1,33 @@
+package com.example.gtfs;
+
+import com.example.route.Route;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+
+import java.util.List;
+
+/**
+ * GTFS 피드 하나를 변환한 결과.
+ * id 는 피드 안에서만 유효한 일련번호이며, 저장이 필요하면 호출하는 쪽에서 저장소에 넣는다.
+ *
+ * @param skippedStops     좌표가 비어 있어 정류장으로 만들지 않은 stops.txt 행 수(location_type 3/4 등)
+ * @param skippedStopTimes 알 수 없는 trip/stop 을 가리켜 버린 stop_times 행 수
+ * @param skippedTrips     정류장이 두 개 미만이거나 도메인 검증을 통과하지 못해 버린 회차 수
+ * @param inactiveTrips    service_id 가 서비스일에 운행하지 않아 적재하지 않은 회차 수
+ */
+public record GtfsNetwork(
+        List<Station> stations,
+        List<Route> routes,
+        List<TurnRoute> turnRoutes,
+        int skippedStops,
+        long skippedStopTimes,
+        int skippedTrips,
+        int inactiveTrips
+) {
+
+    public GtfsNetwork {
+        stations = List.copyOf(stations);
+        routes = List.copyOf(routes);
+        turnRoutes = List.copyOf(turnRoutes);
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.gtfs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 메모리 매핑한 CSV 파일을 한 행씩 읽는다. 필드는 버퍼 안의 [시작, 끝) 구간으로만 기록하고,
+ * 숫자/시각 파싱과 키 조회는 버퍼에서 바로 수행하므로 행마다 String 을 만들지 않는다.
+ * 2GB 를 넘는 파일도 읽을 수 있도록 chunkSize 단위로 나눠 매핑하며, 청크 경계에 걸친 행은 그 행부터 다시 매핑한다.
+ */
+final class MappedCsvReader implements AutoCloseable {
+
+    static final int DEFAULT_CHUNK_SIZE = 256 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int chunkSize;
+    private final Map<String, Integer> header = new HashMap<>();
+
+    private MappedByteBuffer buffer;
+    private long bufferStart;
+    private long position;
+    private long line;
+
+    private int fieldCount;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private boolean[] quoted = new boolean[16];
+
+    MappedCsvReader(Path file) {
+        this(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    MappedCsvReader(Path file, int chunkSize) {
+        checkArgument(chunkSize > 0, "Chunk size must be positive, but was %s", chunkSize);
+        this.chunkSize = chunkSize;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.fileSize = channel.size();
+            map(0);
+            skipByteOrderMark();
+            if (next()) {
+                for (int i = 0; i < fieldCount; i++) {
+                    header.put(string(i).trim(), i);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 헤더에서 컬럼 위치를 찾는다. 없으면 -1 을 반환한다.
+     */
+    int column(String name) {
+        return header.getOrDefault(name, -1);
+    }
+
+    int requiredColumn(String name) {
+        int column = column(name);
+        checkArgument(column >= 0, "필수 컬럼이 없습니다: %s", name);
+        return column;
+    }
+
+    /**
+     * 다음 행으로 이동한다. 빈 줄은 건너뛴다.
+     */
+    boolean next() {
+        while (position < fileSize) {
+            if (!tryParseRow()) {
+                map(position);
+                if (!tryParseRow()) {
+                    throw new IllegalStateException("한 행이 청크 크기(" + chunkSize + " bytes)보다 큽니다. (line " + (line + 1) + ")");
+                }
+            }
+            line++;
+            if (fieldCount > 1 || fieldEnds[0] > fieldStarts[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long line() {
+        return line;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    boolean isEmpty(int field) {
+        return field < 0 || field >= fieldCount || trimmedStart(field) >= trimmedEnd(field);
+    }
+
+    int parseInt(int field, int defaultValue) {
+        if (isEmpty(field)) {
+            return defaultValue;
+        }
+        int start = trimmedStart(field);
+        int end = trimmedEnd(field);
+        boolean negative = buffer.get(start) == '-';
+        int value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("숫자가 아닙니다: " + string(field) + " (line " + line + ")");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * GTFS 시각(H:MM:SS, 24시를 넘을 수 있음)을 서비스일 자정 기준 초로 변환한다. 빈 값이면 -1 을 반환한다.
+     */
+    int parseTime(int field) {
+        if (isEmpty(field)) {
+            return -1;
+        }
+        int seconds = 0;
+        int part = 0;
+        for (int i = trimmedStart(field), end = trimmedEnd(field); i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == ':') {
+                seconds = seconds * 60 + part;
+                part = 0;
+            } else if (b >= '0' && b <= '9') {
+                part = part * 10 + (b - '0');
+            } else {
+                throw new NumberFormatException("시각 형식이 아닙니다: " + string(field) + " (line " + line + ")");
+            }
+        }
+        return seconds * 60 + part;
+    }
+
+    int lookup(int field, ByteKeyIndex index) {
+        if (field < 0 || field >= fieldCount) {
+            return ByteKeyIndex.NOT_FOUND;
+        }
+        return index.get(buffer, keyStart(field), keyEnd(field));
+    }
+
+    byte[] bytes(int field) {
+        int start = keyStart(field);
+        byte[] bytes = new byte[keyEnd(field) - start];
+        buffer.get(start, bytes);
+        return bytes;
+    }
+
+    /**
+     * 필드를 문자열로 만든다. 따옴표로 감싼 필드는 따옴표를 벗기고 "" 를 " 로 바꾼다.
+     */
+    String string(int field) {
+        if (field < 0 || field >= fieldCount) {
+            return "";
+        }
+        String value = new String(bytes(field), StandardCharsets.UTF_8);
+        return quoted[field] ? value.replace("\"\"", "\"") : value;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean tryParseRow() {
+        int limit = buffer.limit();
+        boolean endOfFile = bufferStart + limit >= fileSize;
+        int p = (int) (position - bufferStart);
+        int fieldStart = p;
+        boolean inQuotes = false;
+        fieldCount = 0;
+        quoted[0] = false;
+
+        while (p < limit) {
+            byte b = buffer.get(p);
+            if (inQuotes) {
+                if (b == '"') {
+                    if (p + 1 >= limit && !endOfFile) {
+                        return false;
+                    }
+                    if (p + 1 < limit && buffer.get(p + 1) == '"') {
+                        p += 2;
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                p++;
+            } else if (b == '"' && p == fieldStart) {
+                inQuotes = true;
+                quoted[fieldCount] = true;
+                p++;
+            } else if (b == ',') {
+                addField(fieldStart, p);
+                fieldStart = ++p;
+                quoted[fieldCount] = false;
+            } else if (b == '\n' || b == '\r') {
+                if (b == '\r' && p + 1 >= limit && !endOfFile) {
+                    return false;
+                }
+                addField(fieldStart, p);
+                p++;
+                if (b == '\r' && p < limit && buffer.get(p) == '\n') {
+                    p++;
+                }
+                position = bufferStart + p;
+                return true;
+            } else {
+                p++;
+            }
+        }
+
+        if (!endOfFile) {
+            return false;
+        }
+        checkArgument(!inQuotes, "닫히지 않은 따옴표가 있습니다. (line %s)", line + 1);
+        addField(fieldStart, p);
+        position = fileSize;
+        return true;
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            quoted = Arrays.copyOf(quoted, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+        if (fieldCount < quoted.length) {
+            quoted[fieldCount] = false;
+        }
+    }
+
+    private int trimmedStart(int field) {
+        int start = keyStart(field);
+        int end = keyEnd(field);
+        while (start < end && buffer.get(start) == ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int field) {
+        int start = keyStart(field);
+        int end = keyEnd(field);
+        while (end > start && buffer.get(end - 1) == ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private int keyStart(int field) {
+        return quoted[field] ? fieldStarts[field] + 1 : fieldStarts[field];
+    }
+
+    private int keyEnd(int field) {
+        return quoted[field] ? fieldEnds[field] - 1 : fieldEnds[field];
+    }
+
+    private void skipByteOrderMark() {
+        if (buffer.limit() >= 3
+                && (buffer.get(0) & 0xff) == 0xEF
+                && (buffer.get(1) & 0xff) == 0xBB
+                && (buffer.get(2) & 0xff) == 0xBF) {
+            position = 3;
+        }
+    }
+
+    private void map(long start) {
+        try {
+            long size = Math.min(chunkSize, fileSize - start);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            bufferStart = start;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.memory;
+
+/**
+ * 쓰기 전 로그(WAL)를 디스크에 강제로 기록(fsync)하는 시점.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * 저장할 때마다 fsync 한다. 가장 안전하고 가장 느리다.
+     */
+    ALWAYS,
+
+    /**
+     * 동시에 들어온 저장을 모아 한 번에 fsync 한다(group commit). 저장은 자기 기록이 디스크에 남은 뒤에 반환된다.
+     */
+    GROUPED,
+
+    /**
+     * fsyncInterval 마다 백그라운드에서 fsync 한다. 장애 시 마지막 주기 동안의 저장을 잃을 수 있다.
+     */
+    PERIODIC
+}
@@ -0,0 +1,69 @@
+package com.example.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 고정된 수의 줄(stripe)마다 blockSize 개씩 id 구간을 받아 두고 그 안에서 발급한다.
+ * 스레드는 스레드 id 를 섞어 고른 줄에서 발급받으며, 공유 카운터는 줄의 구간이 다 떨어졌을 때만 건드린다.
+ * 구간이 스레드가 아니라 줄에 묶여 있으므로, 저장 한 번 하고 끝나는 가상 스레드가 많아도 버려지는 id 는 줄 수 x blockSize 를 넘지 않는다.
+ * id 는 유일하지만 줄마다 구간이 달라 연속적이지 않다.
+ */
+final class IdBlockAllocator {
+
+    static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final AtomicLong nextBlockStart = new AtomicLong(1);
+    private final int blockSize;
+    private final Block[] stripes;
+    private final int stripeMask;
+
+    IdBlockAllocator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    IdBlockAllocator(int blockSize) {
+        this(blockSize, defaultStripeCount());
+    }
+
+    IdBlockAllocator(int blockSize, int stripeCount) {
+        checkArgument(blockSize > 0, "Block size must be positive, but was %s", blockSize);
+        checkArgument(stripeCount > 0 && Integer.bitCount(stripeCount) == 1, "Stripe count must be a power of two, but was %s", stripeCount);
+        this.blockSize = blockSize;
+        this.stripes = new Block[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Block();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    long next() {
+        Block block = stripes[stripe(Thread.currentThread().threadId())];
+        // 구간 안에서 하나 꺼내는 짧은 임계 구역이라 경합이 없으면 락 비용만 든다.
+        synchronized (block) {
+            if (block.next == block.end) {
+                long start = nextBlockStart.getAndAdd(blockSize);
+                block.next = start;
+                block.end = start + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    private int stripe(long threadId) {
+        long mixed = threadId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32) & stripeMask;
+    }
+
+    private static int defaultStripeCount() {
+        int target = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        return Integer.highestOneBit((target - 1) << 1);
+    }
+
+    private static final class Block {
+
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * MemoryStationRepository 에 저장한 정류장을 StationJournal 에 남기는 데코레이터.
+ * id 를 발급한 정류장을 먼저 로그에 쓰고 저장소에는 그 다음에 넣으므로, 로그에 쓰지 못한 정류장은 조회되지 않는다.
+ * 조회는 그대로 위임한다.
+ * 스프링 컨텍스트에서는 StationJournalConfig 가 종료 시 저널을 닫고, 직접 만든 경우 close 로 닫는다.
+ */
+public class JournalingStationRepository implements StationRepository, AutoCloseable {
+
+    private final MemoryStationRepository delegate;
+    private final StationJournal journal;
+
+    JournalingStationRepository(MemoryStationRepository delegate, StationJournal journal) {
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    @Override
+    public Station save(Station station) {
+        Station saved = delegate.assignId(station);
+        journal.append(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Station> saveAll(Collection<Station> stations) {
+        checkNotNull(stations, "Stations cannot be null");
+
+        List<Station> saved = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            saved.add(delegate.assignId(station));
+        }
+        journal.appendAll(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Station> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Station> findWithinRadius(Location center, double meters) {
+        return delegate.findWithinRadius(center, meters);
+    }
+
+    @Override
+    public List<Station> findNearest(Location center, int k) {
+        return delegate.findNearest(center, k);
+    }
+
+    /**
+     * 지금까지 저장한 정류장으로 스냅샷을 쓴다.
+     */
+    public void snapshot() {
+        journal.snapshot();
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+}
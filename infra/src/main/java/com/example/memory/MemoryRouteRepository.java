@@ -0,0 +1,34 @@
+package com.example.memory;
+
+import com.example.route.Route;
+import com.example.route.RouteRepository;
+import com.example.route.RouteType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Repository
+@Profile("memory")
+public class MemoryRouteRepository extends ShardedMemoryRepository<Route> implements RouteRepository {
+
+    @Override
+    public List<Route> findAllByType(RouteType type) {
+        checkNotNull(type, "Route type cannot be null");
+        return findAll(route -> route.getType() == type);
+    }
+
+    @Override
+    protected Route withId(Route route, Long id, OffsetDateTime now) {
+        return Route.builder()
+                .id(id)
+                .name(route.getName())
+                .type(route.getType())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
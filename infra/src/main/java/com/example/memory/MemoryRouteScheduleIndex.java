@@ -0,0 +1,127 @@
+package com.example.memory;
+
+import com.example.route.RouteType;
+import com.example.timetable.RouteScheduleIndex;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStations;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 노선 유형마다 (시각, 회차 id) 를 키로 하는 ConcurrentSkipListMap 두 개(출발/종료)를 둔다.
+ * 구간 조회는 subMap 으로 O(log n + k) 에 동작하고, 추가/삭제도 O(log n) 이다.
+ * 같은 회차의 추가/삭제는 id 단위로 직렬화한다. 조회는 락 없이 진행되므로 교체 중인 회차는 잠시 조회되지 않을 수 있다.
+ */
+@Component
+@Profile("memory")
+public class MemoryRouteScheduleIndex implements RouteScheduleIndex {
+
+    private final ConcurrentMap<Long, TurnRoute> turnRoutes = new ConcurrentHashMap<>();
+    private final Map<RouteType, ConcurrentNavigableMap<TimeKey, TurnRoute>> departures = new EnumMap<>(RouteType.class);
+    private final Map<RouteType, ConcurrentNavigableMap<TimeKey, TurnRoute>> endings = new EnumMap<>(RouteType.class);
+
+    public MemoryRouteScheduleIndex() {
+        for (RouteType type : RouteType.values()) {
+            departures.put(type, new ConcurrentSkipListMap<>());
+            endings.put(type, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @Override
+    public void add(TurnRoute turnRoute) {
+        checkNotNull(turnRoute, "TurnRoute cannot be null");
+        checkNotNull(turnRoute.getId(), "TurnRoute id cannot be null");
+        checkNotNull(turnRoute.getRoute(), "Route cannot be null");
+        checkNotNull(turnRoute.getRoute().getType(), "Route type cannot be null");
+
+        turnRoutes.compute(turnRoute.getId(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(turnRoute);
+            return turnRoute;
+        });
+    }
+
+    @Override
+    public void addAll(Collection<TurnRoute> turnRoutes) {
+        checkNotNull(turnRoutes, "TurnRoutes cannot be null");
+        turnRoutes.forEach(this::add);
+    }
+
+    @Override
+    public void remove(Long turnRouteId) {
+        checkNotNull(turnRouteId, "TurnRoute id cannot be null");
+
+        turnRoutes.computeIfPresent(turnRouteId, (id, previous) -> {
+            unindex(previous);
+            return null;
+        });
+    }
+
+    @Override
+    public List<TurnRoute> findDepartingBetween(RouteType type, OffsetDateTime from, OffsetDateTime to) {
+        return range(departures, type, from, to);
+    }
+
+    @Override
+    public List<TurnRoute> findEndingBetween(RouteType type, OffsetDateTime from, OffsetDateTime to) {
+        return range(endings, type, from, to);
+    }
+
+    private List<TurnRoute> range(Map<RouteType, ConcurrentNavigableMap<TimeKey, TurnRoute>> index,
+                                  RouteType type, OffsetDateTime from, OffsetDateTime to) {
+        checkNotNull(type, "Route type cannot be null");
+        checkNotNull(from, "From time cannot be null");
+        checkNotNull(to, "To time cannot be null");
+        checkArgument(!to.isBefore(from), "To time must not be before from time: %s, %s", from, to);
+
+        TimeKey lower = new TimeKey(epochMillis(from), Long.MIN_VALUE);
+        TimeKey upper = new TimeKey(epochMillis(to), Long.MIN_VALUE);
+        return new ArrayList<>(index.get(type).subMap(lower, upper).values());
+    }
+
+    private void index(TurnRoute turnRoute) {
+        RouteType type = turnRoute.getRoute().getType();
+        TurnStations turnStations = turnRoute.getTurnStations();
+        departures.get(type).put(new TimeKey(epochMillis(turnStations.getBeginStationExpectedArrivalTime()), turnRoute.getId()), turnRoute);
+        endings.get(type).put(new TimeKey(epochMillis(turnStations.getEndStationExpectedArrivalTime()), turnRoute.getId()), turnRoute);
+    }
+
+    private void unindex(TurnRoute turnRoute) {
+        RouteType type = turnRoute.getRoute().getType();
+        TurnStations turnStations = turnRoute.getTurnStations();
+        departures.get(type).remove(new TimeKey(epochMillis(turnStations.getBeginStationExpectedArrivalTime()), turnRoute.getId()));
+        endings.get(type).remove(new TimeKey(epochMillis(turnStations.getEndStationExpectedArrivalTime()), turnRoute.getId()));
+    }
+
+    private static long epochMillis(OffsetDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+    /**
+     * 같은 시각의 회차를 구분하기 위해 회차 id 를 두 번째 키로 쓴다.
+     */
+    private record TimeKey(long epochMillis, long turnRouteId) implements Comparable<TimeKey> {
+
+        @Override
+        public int compareTo(TimeKey other) {
+            int compared = Long.compare(epochMillis, other.epochMillis);
+            return compared != 0 ? compared : Long.compare(turnRouteId, other.turnRouteId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.memory;
 
+import com.example.common.Location;
 import com.example.station.Station;
 import com.example.station.StationRepository;
 import org.springframework.context.annotation.Profile;
@@ -7,34 +8,114 @@ import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * id 를 키로 하는 ConcurrentHashMap 에 정류장을 보관한다.
+ * 조회는 락 없이 O(1) 로 동작하고, 쓰기는 해당 버킷만 잠근다.
+ * 위치 기반 조회는 저장 시 함께 갱신되는 격자 인덱스(StationGeoIndex)를 사용한다.
+ */
 @Repository
 @Profile("memory")
 public class MemoryStationRepository implements StationRepository {
 
     private final AtomicLong autoGeneratedId = new AtomicLong(0);
-    private final List<Station> data = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentMap<Long, Station> data = new ConcurrentHashMap<>();
+    private final StationGeoIndex geoIndex = new StationGeoIndex();
 
     @Override
     public Station save(Station station) {
-        Station newStation = Station.builder()
+        Station newStation = assignId(station);
+        put(newStation);
+        return newStation;
+    }
+
+    @Override
+    public List<Station> saveAll(Collection<Station> stations) {
+        checkNotNull(stations, "Stations cannot be null");
+
+        List<Station> saved = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            saved.add(save(station));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(data.get(id));
+    }
+
+    @Override
+    public List<Station> findAllById(Collection<Long> ids) {
+        checkNotNull(ids, "Ids cannot be null");
+
+        List<Station> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Station station = id == null ? null : data.get(id);
+            if (station != null) {
+                found.add(station);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Station> findWithinRadius(Location center, double meters) {
+        return geoIndex.findWithinRadius(center, meters);
+    }
+
+    @Override
+    public List<Station> findNearest(Location center, int k) {
+        return geoIndex.findNearest(center, k);
+    }
+
+    /**
+     * 새 id 와 생성 시각을 붙인 정류장을 만든다. 저장소에는 아직 넣지 않는다.
+     */
+    Station assignId(Station station) {
+        checkNotNull(station, "Station cannot be null");
+
+        return Station.builder()
                 .id(autoGeneratedId.incrementAndGet())
                 .name(station.getName())
                 .location(station.getLocation())
                 .createdAt(OffsetDateTime.now())
                 .updatedAt(OffsetDateTime.now())
                 .build();
-        data.add(newStation);
+    }
 
-        return newStation;
+    /**
+     * assignId 로 만든 정류장을 저장소와 위치 인덱스에 넣는다.
+     */
+    void put(Station station) {
+        data.put(station.getId(), station);
+        geoIndex.add(station);
     }
 
-    @Override
-    public Optional<Station> findById(Long id) {
-        return data.stream().filter(station -> station.getId().equals(id)).findFirst();
+    /**
+     * 스냅샷/로그에서 읽은 정류장을 id 그대로 되살린다. 이미 있는 id 면 무시하며, 이후 발급할 id 는 복원한 id 보다 커진다.
+     */
+    void restore(Station station) {
+        checkNotNull(station.getId(), "Station id cannot be null");
+
+        if (data.putIfAbsent(station.getId(), station) == null) {
+            geoIndex.add(station);
+        }
+        autoGeneratedId.accumulateAndGet(station.getId(), Math::max);
+    }
+
+    Collection<Station> stations() {
+        return data.values();
     }
 }
@@ -0,0 +1,245 @@
+package com.example.memory;
+
+import com.example.timetable.DelayEvent;
+import com.example.timetable.StationArrival;
+import com.example.timetable.StationTimetable;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStations;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 정류장 id 별로 도착 목록(StationArrivals)을 보관한다.
+ * 회차 노선 추가/삭제 시 해당 노선이 지나는 정류장의 목록만 교체하며, 조회는 이진 탐색으로 동작한다.
+ * 지연이 보고되면 도착 시각이 바뀐 정류장(보고된 순서 이후 구간)의 목록만 교체한다.
+ * 그보다 앞 정류장의 도착 정보는 시각이 그대로이므로 이전 버전의 회차 노선을 계속 가리킨다.
+ * 추가/삭제/지연 반영은 모두 schedules 의 compute 안에서 도착 목록까지 바꾸므로 회차 단위로 직렬화된다.
+ */
+@Component
+@Profile("memory")
+public class MemoryStationTimetable implements StationTimetable {
+
+    private final ConcurrentMap<Long, Schedule> schedules = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, StationArrivals> arrivalsByStation = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(TurnRoute turnRoute) {
+        addAll(List.of(turnRoute));
+    }
+
+    @Override
+    public void addAll(Collection<TurnRoute> turnRoutes) {
+        checkNotNull(turnRoutes, "TurnRoutes cannot be null");
+
+        for (TurnRoute turnRoute : turnRoutes) {
+            checkNotNull(turnRoute, "TurnRoute cannot be null");
+            checkNotNull(turnRoute.getId(), "TurnRoute id cannot be null");
+
+            schedules.compute(turnRoute.getId(), (id, previous) -> {
+                swapArrivals(previous == null ? null : previous.current(), turnRoute);
+                return Schedule.of(turnRoute);
+            });
+        }
+    }
+
+    @Override
+    public void remove(Long turnRouteId) {
+        checkNotNull(turnRouteId, "TurnRoute id cannot be null");
+
+        schedules.computeIfPresent(turnRouteId, (id, removed) -> {
+            removeArrivals(removed.current());
+            return null;
+        });
+    }
+
+    @Override
+    public List<StationArrival> findNextArrivals(Long stationId, OffsetDateTime from, int limit) {
+        checkNotNull(stationId, "Station id cannot be null");
+        checkNotNull(from, "From time cannot be null");
+        checkArgument(limit >= 0, "Limit must not be negative, but was %s", limit);
+
+        StationArrivals arrivals = arrivalsByStation.get(stationId);
+        if (arrivals == null || limit == 0) {
+            return List.of();
+        }
+        return arrivals.next(from.toInstant().toEpochMilli(), limit);
+    }
+
+    /**
+     * 같은 회차의 지연은 순서대로 반영되도록 회차 단위로 직렬화한다.
+     */
+    @Override
+    public void applyDelay(DelayEvent event) {
+        checkNotNull(event, "Delay event cannot be null");
+
+        Schedule updated = schedules.computeIfPresent(event.turnRouteId(), (id, schedule) -> {
+            Schedule delayed = schedule.delayed(event);
+            if (delayed != schedule) {
+                replaceArrivals(delayed.current(), delayed.changedFrom());
+            }
+            return delayed;
+        });
+        checkArgument(updated != null, "존재하지 않는 회차 노선입니다: %s", event.turnRouteId());
+    }
+
+    @Override
+    public Optional<TurnRoute> findTurnRoute(Long turnRouteId) {
+        if (turnRouteId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(schedules.get(turnRouteId)).map(Schedule::current);
+    }
+
+    /**
+     * position 이후 정류장들의 도착 목록에서 해당 회차의 도착 정보를 새 버전으로 교체한다.
+     * 같은 정류장을 두 번 지나는 회차도 있으므로 정류장 단위로 그 회차의 도착 정보를 모두 다시 넣는다.
+     */
+    private void replaceArrivals(TurnRoute turnRoute, int position) {
+        List<TurnStation> turnStations = turnRoute.getTurnStations().turnStations();
+        Map<Long, List<StationArrival>> replaced = new LinkedHashMap<>();
+        for (int i = position; i < turnStations.size(); i++) {
+            replaced.put(stationId(turnStations.get(i)), new ArrayList<>());
+        }
+        for (TurnStation turnStation : turnStations) {
+            List<StationArrival> arrivals = replaced.get(stationId(turnStation));
+            if (arrivals != null) {
+                arrivals.add(new StationArrival(turnRoute, turnStation));
+            }
+        }
+
+        replaced.forEach((stationId, arrivals) -> arrivalsByStation.compute(
+                stationId,
+                (id, current) -> current == null ? StationArrivals.of(arrivals) : current.replace(turnRoute.getId(), arrivals)));
+    }
+
+    /**
+     * 이전 버전(previous)만 지나는 정류장에서는 회차의 도착 정보를 지우고, 새 버전이 지나는 정류장에서는 새 도착 정보로 교체한다.
+     * 정류장 id 를 모두 확인한 뒤에 도착 목록을 바꾸므로, 정류장 정보가 잘못된 회차는 아무것도 바꾸지 않고 실패한다.
+     */
+    private void swapArrivals(TurnRoute previous, TurnRoute turnRoute) {
+        Map<Long, List<StationArrival>> replaced = new LinkedHashMap<>();
+        if (previous != null) {
+            for (TurnStation turnStation : previous.getTurnStations().turnStations()) {
+                replaced.computeIfAbsent(stationId(turnStation), id -> new ArrayList<>());
+            }
+        }
+        for (TurnStation turnStation : turnRoute.getTurnStations().turnStations()) {
+            replaced.computeIfAbsent(stationId(turnStation), id -> new ArrayList<>())
+                    .add(new StationArrival(turnRoute, turnStation));
+        }
+
+        replaced.forEach((stationId, arrivals) -> arrivalsByStation.compute(
+                stationId,
+                (id, current) -> current == null ? StationArrivals.of(arrivals) : current.replace(turnRoute.getId(), arrivals)));
+    }
+
+    private void removeArrivals(TurnRoute turnRoute) {
+        Set<Long> stationIds = new LinkedHashSet<>();
+        for (TurnStation turnStation : turnRoute.getTurnStations().turnStations()) {
+            stationIds.add(stationId(turnStation));
+        }
+        for (Long stationId : stationIds) {
+            arrivalsByStation.computeIfPresent(stationId, (id, arrivals) -> arrivals.without(turnRoute.getId()));
+        }
+    }
+
+    private static Long stationId(TurnStation turnStation) {
+        checkNotNull(turnStation.getStation(), "Station cannot be null");
+        return checkNotNull(turnStation.getStation().getId(), "Station id cannot be null");
+    }
+
+    /**
+     * 회차의 예정 시각(scheduled)과 정류장 위치별 지연(초)을 적용한 현재 회차(current).
+     * changedFrom 은 마지막 지연으로 도착 시각이 바뀐 첫 위치다.
+     */
+    private record Schedule(TurnRoute scheduled, TurnRoute current, long[] delaySeconds, int changedFrom) {
+
+        static Schedule of(TurnRoute turnRoute) {
+            return new Schedule(turnRoute, turnRoute, new long[turnRoute.getTurnStations().turnStations().size()], 0);
+        }
+
+        /**
+         * 보고된 정류장 이후 구간에 지연을 덮어쓴 새 Schedule. 도착 시각이 바뀌는 정류장이 없으면 자신을 반환한다.
+         * 바뀐 위치의 TurnStation 만 새로 만들고 나머지는 현재 객체를 그대로 쓴다.
+         */
+        Schedule delayed(DelayEvent event) {
+            List<TurnStation> scheduledStations = scheduled.getTurnStations().turnStations();
+            int position = position(scheduledStations, event.order());
+            long delay = event.delay().toSeconds();
+
+            int first = position;
+            while (first < delaySeconds.length && delaySeconds[first] == delay) {
+                first++;
+            }
+            if (first == delaySeconds.length) {
+                return this;
+            }
+
+            OffsetDateTime now = OffsetDateTime.now();
+            long[] delays = Arrays.copyOf(delaySeconds, delaySeconds.length);
+            TurnStation[] turnStations = current.getTurnStations().turnStations().toArray(new TurnStation[0]);
+            for (int i = first; i < delays.length; i++) {
+                if (delays[i] == delay) {
+                    continue;
+                }
+                delays[i] = delay;
+                TurnStation original = scheduledStations.get(i);
+                turnStations[i] = TurnStation.builder()
+                        .id(original.getId())
+                        .turnRoute(original.getTurnRoute())
+                        .station(original.getStation())
+                        .onOffType(original.getOnOffType())
+                        .pointType(original.getPointType())
+                        .order(original.getOrder())
+                        .expectedArrivalTime(original.getExpectedArrivalTime().plusSeconds(delay))
+                        .createdAt(original.getCreatedAt())
+                        .updatedAt(now)
+                        .build();
+            }
+
+            TurnRoute delayed = TurnRoute.builder()
+                    .id(current.getId())
+                    .route(current.getRoute())
+                    // 시각만 바뀐 목록이므로 구조만 확인하고 규칙 검증은 다시 하지 않는다.
+                    .turnStations(TurnStations.retimed(current.getTurnStations(), List.of(turnStations)))
+                    .createdAt(current.getCreatedAt())
+                    .updatedAt(now)
+                    .build();
+            return new Schedule(scheduled, delayed, delays, first);
+        }
+
+        private static int position(List<TurnStation> turnStations, int order) {
+            int low = 0;
+            int high = turnStations.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midOrder = turnStations.get(mid).getOrder();
+                if (midOrder < order) {
+                    low = mid + 1;
+                } else if (midOrder > order) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            throw new IllegalArgumentException("회차 노선에 해당 순서의 정류장이 없습니다: " + order);
+        }
+    }
+}
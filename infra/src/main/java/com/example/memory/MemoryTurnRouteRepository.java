@@ -0,0 +1,36 @@
+package com.example.memory;
+
+import com.example.turn.route.TurnRoute;
+import com.example.turn.route.TurnRouteRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 회차 노선을 보관한다. 정류장 목록(TurnStations)은 불변이므로 복사하지 않고 그대로 공유한다.
+ */
+@Repository
+@Profile("memory")
+public class MemoryTurnRouteRepository extends ShardedMemoryRepository<TurnRoute> implements TurnRouteRepository {
+
+    @Override
+    public List<TurnRoute> findAllByRouteId(Long routeId) {
+        checkNotNull(routeId, "Route id cannot be null");
+        return findAll(turnRoute -> turnRoute.getRoute() != null && routeId.equals(turnRoute.getRoute().getId()));
+    }
+
+    @Override
+    protected TurnRoute withId(TurnRoute turnRoute, Long id, OffsetDateTime now) {
+        return TurnRoute.builder()
+                .id(id)
+                .route(turnRoute.getRoute())
+                .turnStations(turnRoute.getTurnStations())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
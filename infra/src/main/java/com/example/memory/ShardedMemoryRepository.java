@@ -0,0 +1,124 @@
+package com.example.memory;
+
+import com.example.common.PersistableDomain;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * PersistableDomain&lt;Long&gt; 를 메모리에 보관하는 저장소의 공통 구현.
+ * id 를 섞어 여러 샤드(ConcurrentHashMap)에 나눠 담으므로 테이블 확장이나 카운터 갱신이 샤드 단위로 일어나고,
+ * id 는 IdBlockAllocator 로 줄(stripe)별 구간에서 발급해 공유 카운터 경합 없이 쓰기가 코어 수만큼 늘어난다.
+ * 하위 클래스는 발급한 id 를 넣은 새 객체를 만드는 방법(withId)만 정하면 된다.
+ */
+public abstract class ShardedMemoryRepository<T extends PersistableDomain<Long>> {
+
+    private static final Comparator<PersistableDomain<Long>> BY_ID = Comparator.comparing(PersistableDomain::getId);
+
+    private final List<ConcurrentMap<Long, T>> shards;
+    private final int shardMask;
+    private final IdBlockAllocator ids;
+
+    protected ShardedMemoryRepository() {
+        this(defaultShardCount(), IdBlockAllocator.DEFAULT_BLOCK_SIZE);
+    }
+
+    protected ShardedMemoryRepository(int shardCount, int idBlockSize) {
+        checkArgument(shardCount > 0 && Integer.bitCount(shardCount) == 1, "Shard count must be a power of two, but was %s", shardCount);
+        List<ConcurrentMap<Long, T>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ConcurrentHashMap<>());
+        }
+        this.shards = List.copyOf(shards);
+        this.shardMask = shardCount - 1;
+        this.ids = new IdBlockAllocator(idBlockSize);
+    }
+
+    /**
+     * entity 의 값에 id 와 생성/수정 시각을 넣은 새 객체를 만든다.
+     */
+    protected abstract T withId(T entity, Long id, OffsetDateTime now);
+
+    public T save(T entity) {
+        checkNotNull(entity, "Entity cannot be null");
+
+        T saved = withId(entity, ids.next(), OffsetDateTime.now());
+        shard(saved.getId()).put(saved.getId(), saved);
+        return saved;
+    }
+
+    public List<T> saveAll(Collection<T> entities) {
+        checkNotNull(entities, "Entities cannot be null");
+
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    public Optional<T> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(shard(id).get(id));
+    }
+
+    public List<T> findAllById(Collection<Long> ids) {
+        checkNotNull(ids, "Ids cannot be null");
+
+        List<T> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T entity = id == null ? null : shard(id).get(id);
+            if (entity != null) {
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+
+    public long count() {
+        long count = 0;
+        for (ConcurrentMap<Long, T> shard : shards) {
+            count += shard.size();
+        }
+        return count;
+    }
+
+    /**
+     * 모든 샤드를 훑어 조건에 맞는 객체를 id 순으로 반환한다. 조회 중 저장된 객체는 포함되지 않을 수 있다.
+     */
+    protected List<T> findAll(Predicate<? super T> condition) {
+        List<T> found = new ArrayList<>();
+        for (ConcurrentMap<Long, T> shard : shards) {
+            for (T entity : shard.values()) {
+                if (condition.test(entity)) {
+                    found.add(entity);
+                }
+            }
+        }
+        found.sort(BY_ID);
+        return found;
+    }
+
+    private ConcurrentMap<Long, T> shard(long id) {
+        // 한 스레드가 받은 연속 id 가 여러 샤드로 흩어지도록 섞는다.
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return shards.get((int) (mixed >>> 32) & shardMask);
+    }
+
+    private static int defaultShardCount() {
+        int target = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+        return Integer.highestOneBit((target - 1) << 1);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.memory;
+
+import com.example.timetable.StationArrival;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 정류장의 도착 목록을 도착 시각 순으로 정렬해 보관하는 불변 배열.
+ * 변경 시 새 인스턴스를 만들어 교체하므로 조회는 락 없이 이진 탐색으로 동작한다.
+ * 회차 id 도 별도 배열로 들고 있어 회차 단위 제거/교체 시 도착 정보 객체를 따라가지 않고 걸러낸다.
+ */
+final class StationArrivals {
+
+    private static final Comparator<StationArrival> BY_ARRIVAL_TIME =
+            Comparator.comparingLong(StationArrivals::epochMillis);
+    private static final StationArrival[] EMPTY = new StationArrival[0];
+
+    private final long[] times;
+    private final long[] turnRouteIds;
+    private final StationArrival[] arrivals;
+
+    private StationArrivals(long[] times, long[] turnRouteIds, StationArrival[] arrivals) {
+        this.times = times;
+        this.turnRouteIds = turnRouteIds;
+        this.arrivals = arrivals;
+    }
+
+    static StationArrivals of(List<StationArrival> arrivals) {
+        return new StationArrivals(new long[0], new long[0], EMPTY).with(arrivals);
+    }
+
+    StationArrivals with(List<StationArrival> added) {
+        return merge(null, added);
+    }
+
+    /**
+     * 해당 회차의 도착 정보를 제거한다. 남은 도착 정보가 없으면 null 을 반환한다.
+     */
+    StationArrivals without(Long turnRouteId) {
+        return merge(turnRouteId, List.of());
+    }
+
+    /**
+     * 해당 회차의 도착 정보를 replacement 로 교체한다. 지연으로 도착 시각이 바뀐 회차를 다시 정렬할 때 사용한다.
+     * 남은 도착 정보가 없으면 null 을 반환한다.
+     */
+    StationArrivals replace(Long turnRouteId, List<StationArrival> replacement) {
+        return merge(turnRouteId, replacement);
+    }
+
+    List<StationArrival> next(long fromEpochMillis, int limit) {
+        int start = lowerBound(fromEpochMillis);
+        int end = (int) Math.min(arrivals.length, (long) start + limit);
+
+        return List.of(Arrays.copyOfRange(arrivals, start, end));
+    }
+
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * removedTurnRouteId 의 도착 정보를 걸러내면서 added 를 시각 순으로 병합한다. 결과 크기를 먼저 세어 배열은 한 번만 만든다.
+     * 남은 도착 정보가 없으면 null 을 반환한다.
+     */
+    private StationArrivals merge(Long removedTurnRouteId, List<StationArrival> added) {
+        StationArrival[] sortedAdded = added.toArray(EMPTY);
+        Arrays.sort(sortedAdded, BY_ARRIVAL_TIME);
+        long[] addedTimes = new long[sortedAdded.length];
+        for (int j = 0; j < sortedAdded.length; j++) {
+            addedTimes[j] = epochMillis(sortedAdded[j]);
+        }
+
+        boolean removing = removedTurnRouteId != null;
+        long removed = removing ? removedTurnRouteId : 0;
+        int capacity = arrivals.length + sortedAdded.length;
+        if (removing) {
+            for (long turnRouteId : turnRouteIds) {
+                if (turnRouteId == removed) {
+                    capacity--;
+                }
+            }
+        }
+        if (capacity == 0) {
+            return null;
+        }
+
+        long[] mergedTimes = new long[capacity];
+        long[] mergedTurnRouteIds = new long[capacity];
+        StationArrival[] merged = new StationArrival[capacity];
+        int size = 0;
+        int j = 0;
+        for (int i = 0; i < arrivals.length; i++) {
+            if (removing && turnRouteIds[i] == removed) {
+                continue;
+            }
+            while (j < sortedAdded.length && addedTimes[j] < times[i]) {
+                mergedTimes[size] = addedTimes[j];
+                mergedTurnRouteIds[size] = sortedAdded[j].turnRoute().getId();
+                merged[size++] = sortedAdded[j++];
+            }
+            mergedTimes[size] = times[i];
+            mergedTurnRouteIds[size] = turnRouteIds[i];
+            merged[size++] = arrivals[i];
+        }
+        while (j < sortedAdded.length) {
+            mergedTimes[size] = addedTimes[j];
+            mergedTurnRouteIds[size] = sortedAdded[j].turnRoute().getId();
+            merged[size++] = sortedAdded[j++];
+        }
+        return new StationArrivals(mergedTimes, mergedTurnRouteIds, merged);
+    }
+
+    private static long epochMillis(StationArrival arrival) {
+        return arrival.expectedArrivalTime().toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.station.Station;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 위경도를 고정 크기 격자로 나눈 공간 인덱스.
+ * 격자 셀 키는 (위도 셀, 경도 셀) 을 하나의 long 으로 합친 값이며, 반경/최근접 조회는 주변 셀만 확인한다.
+ */
+class StationGeoIndex {
+
+    static final double DEFAULT_CELL_DEGREES = 0.01;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180;
+    private static final double MAX_SCAN_LATITUDE = 89.9;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lngCells;
+    private final ConcurrentMap<Long, Set<Station>> cells = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    StationGeoIndex() {
+        this(DEFAULT_CELL_DEGREES);
+    }
+
+    StationGeoIndex(double cellDegrees) {
+        checkArgument(cellDegrees > 0 && cellDegrees <= 90, "Cell size must be between 0 and 90 degrees, but was %s", cellDegrees);
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180 / cellDegrees);
+        this.lngCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    void add(Station station) {
+        Location location = station.getLocation();
+        long key = key(latCell(location.lat()), lngCell(location.lng()));
+        if (cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(station)) {
+            size.incrementAndGet();
+        }
+    }
+
+    List<Station> findWithinRadius(Location center, double meters) {
+        checkNotNull(center, "Location cannot be null");
+        checkArgument(meters >= 0, "Radius must not be negative, but was %s", meters);
+
+        double latDelta = meters / METERS_PER_DEGREE;
+        int minLat = latCell(Math.max(-90, center.lat() - latDelta));
+        int maxLat = latCell(Math.min(90, center.lat() + latDelta));
+
+        // 위도 w 이하의 두 점이 경도로 d 만큼 떨어져 있으면 거리는 2R * cos(w) * sin(d / 2) 이상이다.
+        double widestLat = Math.abs(center.lat()) + latDelta;
+        double sinHalfLng = meters / (2 * EARTH_RADIUS_METERS * Math.cos(Math.toRadians(widestLat)));
+        int centerLng = lngCell(center.lng());
+        int lngRadius = widestLat >= MAX_SCAN_LATITUDE || sinHalfLng >= 1
+                ? lngCells / 2
+                : Math.min(lngCells / 2, (int) Math.ceil(Math.toDegrees(2 * Math.asin(sinHalfLng)) / cellDegrees));
+
+        List<Candidate> found = new ArrayList<>();
+        for (int lat = minLat; lat <= maxLat; lat++) {
+            for (int offset = -lngRadius; offset <= lngRadius && offset < lngCells - lngRadius; offset++) {
+                collect(lat, centerLng + offset, center, meters, found);
+            }
+        }
+        found.sort(Comparator.comparingDouble(Candidate::distance));
+
+        return found.stream().map(Candidate::station).toList();
+    }
+
+    List<Station> findNearest(Location center, int k) {
+        checkNotNull(center, "Location cannot be null");
+        checkArgument(k >= 0, "k must not be negative, but was %s", k);
+
+        int total = size.get();
+        int limit = Math.min(k, total);
+        if (limit == 0) {
+            return List.of();
+        }
+
+        // 먼 후보가 head 에 오도록 거리 역순으로 정렬되는 최대 힙
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+        List<Candidate> ring = new ArrayList<>();
+        int centerLat = latCell(center.lat());
+        int centerLng = lngCell(center.lng());
+        int maxRing = Math.max(latCells, lngCells / 2);
+        int visited = 0;
+
+        for (int r = 0; r <= maxRing; r++) {
+            ring.clear();
+            collectRing(centerLat, centerLng, r, center, ring);
+            visited += ring.size();
+            for (Candidate candidate : ring) {
+                nearest.offer(candidate);
+                if (nearest.size() > limit) {
+                    nearest.poll();
+                }
+            }
+
+            if (nearest.size() == limit && (visited >= total || nearest.peek().distance() <= minRingDistance(center, r + 1))) {
+                break;
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(nearest);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+        return sorted.stream().map(Candidate::station).toList();
+    }
+
+    private void collectRing(int centerLat, int centerLng, int r, Location center, List<Candidate> out) {
+        if (r == 0) {
+            collect(centerLat, centerLng, center, Double.MAX_VALUE, out);
+            return;
+        }
+
+        int lngSpan = Math.min(r, lngCells / 2);
+        for (int lat = centerLat - r; lat <= centerLat + r; lat++) {
+            if (lat < 0 || lat >= latCells) {
+                continue;
+            }
+            boolean edgeRow = lat == centerLat - r || lat == centerLat + r;
+            if (edgeRow) {
+                for (int offset = -lngSpan; offset <= lngSpan && offset < lngCells - lngSpan; offset++) {
+                    collect(lat, centerLng + offset, center, Double.MAX_VALUE, out);
+                }
+            } else if (r <= lngCells / 2) {
+                collect(lat, centerLng - r, center, Double.MAX_VALUE, out);
+                if (r < lngCells - r) {
+                    collect(lat, centerLng + r, center, Double.MAX_VALUE, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * 중심 셀로부터 r 번째 링에 속한 점까지 거리의 하한값.
+     * 링 r 의 점은 위도나 경도 중 한 방향으로 최소 (r - 1) 셀 떨어져 있고, 경도 방향 거리가 더 짧으므로 그 값을 사용한다.
+     */
+    private double minRingDistance(Location center, int r) {
+        double widestLat = Math.abs(center.lat()) + r * cellDegrees;
+        if (widestLat >= MAX_SCAN_LATITUDE) {
+            return 0;
+        }
+        double lngRadians = Math.toRadians(Math.min(180, (r - 1) * cellDegrees));
+
+        return 2 * EARTH_RADIUS_METERS * Math.cos(Math.toRadians(widestLat)) * Math.sin(lngRadians / 2);
+    }
+
+    private void collect(int lat, int lng, Location center, double meters, List<Candidate> out) {
+        Set<Station> stations = cells.get(key(lat, Math.floorMod(lng, lngCells)));
+        if (stations == null) {
+            return;
+        }
+        for (Station station : stations) {
+            double distance = center.distanceTo(station.getLocation());
+            if (distance <= meters) {
+                out.add(new Candidate(station, distance));
+            }
+        }
+    }
+
+    private int latCell(double lat) {
+        return Math.min(latCells - 1, (int) Math.floor((lat + 90) / cellDegrees));
+    }
+
+    private int lngCell(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / cellDegrees), lngCells);
+    }
+
+    private static long key(int lat, int lng) {
+        return ((long) lat << 32) | (lng & 0xffffffffL);
+    }
+
+    private record Candidate(Station station, double distance) {
+    }
+}
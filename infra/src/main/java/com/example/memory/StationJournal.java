@@ -0,0 +1,500 @@
+package com.example.memory;
+
+import com.example.station.Station;
+import com.google.common.util.concurrent.Uninterruptibles;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * MemoryStationRepository 의 쓰기 전 로그(WAL)와 스냅샷을 관리한다.
+ *
+ * <ul>
+ *     <li>저장할 정류장은 현재 세대의 로그 파일(wal-&lt;세대&gt;.log)에 [길이][CRC32C][레코드] 로 덧붙인 뒤에 저장소에 넣는다.</li>
+ *     <li>스냅샷은 먼저 새 세대 로그로 전환한 뒤 저장소 전체를 snapshot.bin 에 쓰고, 그 세대보다 오래된 로그를 지운다.
+ *     전환은 로그에 쓰고 저장소에 넣는 중인 저장이 끝나기를 기다리므로, 전환 전에 로그에 쓴 정류장은 모두 스냅샷에 포함된다.</li>
+ *     <li>시작할 때 스냅샷을 메모리 매핑해 읽고, 스냅샷 세대 이후의 로그를 재생한다. 마지막 로그 끝의 깨진 레코드는 잘라낸다.</li>
+ * </ul>
+ *
+ * 로그 파일은 FileChannel 대신 RandomAccessFile 로 쓴다. FileChannel 은 쓰던 스레드가 인터럽트되면 닫혀 버리므로,
+ * 취소된 요청 스레드 하나 때문에 이후의 모든 저장이 실패하게 된다.
+ * 쓰기가 중간에 실패하면 마지막으로 온전히 쓴 위치까지 잘라내 깨진 레코드 뒤에 다음 레코드가 붙지 않게 한다.
+ */
+@Slf4j
+final class StationJournal implements AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private static final int SNAPSHOT_MAGIC = 0x53544E53;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_BYTES = 4 + 4 + 8 + 8;
+    private static final int SNAPSHOT_COUNT_OFFSET = 16;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int READ_CHUNK_BYTES = 64 * 1024 * 1024;
+    private static final int WRITE_BUFFER_BYTES = 1024 * 1024;
+    private static final String WAL_PREFIX = "wal-";
+    private static final String WAL_SUFFIX = ".log";
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final MemoryStationRepository repository;
+    private final ScheduledExecutorService scheduler;
+
+    private final ReentrantReadWriteLock publishLock = new ReentrantReadWriteLock();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    private volatile RandomAccessFile segment;
+    private long segmentPosition;
+    private long generation;
+    private volatile long writtenPosition;
+    private long durablePosition;
+    private boolean syncing;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private StationJournal(Path directory, FsyncPolicy fsyncPolicy, MemoryStationRepository repository) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.repository = repository;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "station-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 디렉터리의 스냅샷과 로그로 repository 를 복원한 뒤 새 세대 로그를 연다.
+     */
+    static StationJournal open(MemoryStationRepository repository, StationJournalProperties properties) {
+        checkNotNull(repository, "Repository cannot be null");
+        checkNotNull(properties, "Properties cannot be null");
+
+        StationJournal journal = new StationJournal(properties.directory(), properties.fsync(), repository);
+        try {
+            Files.createDirectories(properties.directory());
+            journal.generation = journal.recover() + 1;
+            journal.segment = openSegment(journal.segmentPath(journal.generation));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long snapshotMillis = properties.snapshotInterval().toMillis();
+        journal.scheduler.scheduleWithFixedDelay(journal::snapshotQuietly, snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+        if (properties.fsync() == FsyncPolicy.PERIODIC) {
+            long fsyncMillis = properties.fsyncInterval().toMillis();
+            journal.scheduler.scheduleWithFixedDelay(journal::syncQuietly, fsyncMillis, fsyncMillis, TimeUnit.MILLISECONDS);
+        }
+        return journal;
+    }
+
+    void append(Station station) {
+        appendAll(List.of(station));
+    }
+
+    /**
+     * 정류장들을 한 번의 쓰기로 로그에 덧붙인 뒤 저장소에 넣는다. fsync 정책이 ALWAYS/GROUPED 이면 디스크에 남은 뒤 넣는다.
+     * 로그에 쓰거나 fsync 하지 못하면 저장소에 넣지 않고 예외를 던진다.
+     */
+    void appendAll(Collection<Station> stations) {
+        if (stations.isEmpty()) {
+            return;
+        }
+        ByteBuffer frames = encode(stations);
+
+        publishLock.readLock().lock();
+        try {
+            if (fsyncPolicy == FsyncPolicy.GROUPED) {
+                sync(write(frames));
+            } else {
+                write(frames);
+            }
+            stations.forEach(repository::put);
+        } finally {
+            publishLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 프레임을 현재 세대 로그에 쓰고, 쓴 뒤의 로그 위치를 반환한다.
+     */
+    private long write(ByteBuffer frames) {
+        appendLock.lock();
+        try {
+            checkState(!closed, "정류장 로그가 이미 닫혔습니다.");
+            if (failure != null) {
+                throw new UncheckedIOException("정류장 로그 쓰기에 실패한 뒤로는 저장할 수 없습니다.", failure);
+            }
+            try {
+                segment.write(frames.array(), 0, frames.limit());
+            } catch (IOException e) {
+                rollback(e);
+                throw new UncheckedIOException(e);
+            }
+            segmentPosition += frames.limit();
+            writtenPosition += frames.limit();
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                try {
+                    segment.getFD().sync();
+                } catch (IOException e) {
+                    failure = e;
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return writtenPosition;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 저장소 전체를 스냅샷으로 쓰고 스냅샷에 포함된 로그를 지운다.
+     */
+    void snapshot() {
+        snapshotLock.lock();
+        try {
+            long snapshotGeneration = rotate();
+            Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+                buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putLong(snapshotGeneration).putLong(0L);
+
+                long count = 0;
+                for (Station station : repository.stations()) {
+                    byte[] name = StationRecordCodec.nameBytes(station);
+                    int frameSize = FRAME_HEADER_BYTES + StationRecordCodec.size(name);
+                    if (buffer.remaining() < frameSize) {
+                        flush(channel, buffer);
+                        if (buffer.capacity() < frameSize) {
+                            buffer = ByteBuffer.allocateDirect(frameSize);
+                        }
+                    }
+                    writeFrame(station, name, buffer);
+                    count++;
+                }
+                flush(channel, buffer);
+                channel.write(ByteBuffer.allocate(8).putLong(0, count), SNAPSHOT_COUNT_OFFSET);
+                channel.force(true);
+            }
+
+            Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            forceDirectory();
+            for (long walGeneration : walGenerations()) {
+                if (walGeneration < snapshotGeneration) {
+                    Files.deleteIfExists(segmentPath(walGeneration));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * 백그라운드 작업을 멈추고 마지막 스냅샷을 남긴 뒤 로그를 닫는다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        // 실행 중인 스냅샷/fsync 는 인터럽트하지 않고 끝나기를 기다린다.
+        scheduler.shutdown();
+        Uninterruptibles.awaitTerminationUninterruptibly(scheduler);
+        try {
+            snapshot();
+        } finally {
+            appendLock.lock();
+            try {
+                closed = true;
+                segment.getFD().sync();
+                segment.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 스냅샷과 로그를 읽어 repository 를 복원하고, 읽은 가장 최근 세대를 반환한다.
+     */
+    private long recover() throws IOException {
+        long lastGeneration = 0;
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            lastGeneration = loadSnapshot(snapshot);
+        }
+
+        for (long walGeneration : walGenerations()) {
+            if (walGeneration < lastGeneration) {
+                continue;
+            }
+            Path path = segmentPath(walGeneration);
+            long validEnd = readFrames(path, 0, repository::restore);
+            if (validEnd < Files.size(path)) {
+                log.warn("정류장 로그 {} 의 {} 바이트 이후가 손상되어 잘라냅니다.", path, validEnd);
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(validEnd);
+                }
+            }
+            lastGeneration = Math.max(lastGeneration, walGeneration);
+        }
+        return lastGeneration;
+    }
+
+    private long loadSnapshot(Path snapshot) throws IOException {
+        long generation;
+        long expectedCount;
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            checkState(channel.size() >= SNAPSHOT_HEADER_BYTES, "스냅샷 헤더가 올바르지 않습니다: %s", snapshot);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER_BYTES);
+            checkState(header.getInt() == SNAPSHOT_MAGIC, "스냅샷 파일이 아닙니다: %s", snapshot);
+            int version = header.getInt();
+            checkState(version == SNAPSHOT_VERSION, "지원하지 않는 스냅샷 버전입니다: %s", version);
+            generation = header.getLong();
+            expectedCount = header.getLong();
+        }
+
+        long[] count = {0};
+        readFrames(snapshot, SNAPSHOT_HEADER_BYTES, station -> {
+            repository.restore(station);
+            count[0]++;
+        });
+        checkState(count[0] == expectedCount, "스냅샷이 손상되었습니다. (기대 %s건, 읽은 %s건)", expectedCount, count[0]);
+        return generation;
+    }
+
+    /**
+     * file 의 offset 부터 프레임을 읽어 consumer 에 넘기고, 마지막으로 온전히 읽은 프레임의 끝 위치를 반환한다.
+     * 파일은 READ_CHUNK_BYTES 단위로 나눠 메모리 매핑한다.
+     */
+    private static long readFrames(Path file, long offset, Consumer<Station> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = offset;
+            MappedByteBuffer buffer = null;
+            long bufferStart = 0;
+            CRC32C crc = new CRC32C();
+
+            while (position + FRAME_HEADER_BYTES <= size) {
+                if (buffer == null || position + FRAME_HEADER_BYTES > bufferStart + buffer.limit()) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(READ_CHUNK_BYTES, size - position));
+                    bufferStart = position;
+                }
+                int relative = (int) (position - bufferStart);
+                int length = buffer.getInt(relative);
+                int checksum = buffer.getInt(relative + 4);
+                if (length <= 0 || position + FRAME_HEADER_BYTES + length > size) {
+                    break;
+                }
+                if (relative + FRAME_HEADER_BYTES + length > buffer.limit()) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(Math.max(READ_CHUNK_BYTES, FRAME_HEADER_BYTES + length), size - position));
+                    bufferStart = position;
+                    relative = 0;
+                }
+
+                ByteBuffer payload = buffer.slice(relative + FRAME_HEADER_BYTES, length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                consumer.accept(StationRecordCodec.decode(payload));
+                position += FRAME_HEADER_BYTES + length;
+            }
+            return position;
+        }
+    }
+
+    private static ByteBuffer encode(Collection<Station> stations) {
+        List<byte[]> names = new ArrayList<>(stations.size());
+        int total = 0;
+        for (Station station : stations) {
+            byte[] name = StationRecordCodec.nameBytes(station);
+            names.add(name);
+            total += FRAME_HEADER_BYTES + StationRecordCodec.size(name);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        int i = 0;
+        for (Station station : stations) {
+            writeFrame(station, names.get(i++), buffer);
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFrame(Station station, byte[] name, ByteBuffer buffer) {
+        int start = buffer.position();
+        int length = StationRecordCodec.size(name);
+        buffer.position(start + FRAME_HEADER_BYTES);
+        StationRecordCodec.encode(station, name, buffer);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + FRAME_HEADER_BYTES, length));
+        buffer.putInt(start, length).putInt(start + 4, (int) crc.getValue());
+    }
+
+    /**
+     * target 위치까지 쓴 내용이 디스크에 남을 때까지 기다린다.
+     * 이미 다른 스레드가 fsync 중이면 그 결과를 기다렸다가, 아직 부족하면 직접 한 번 더 fsync 한다.
+     */
+    private void sync(long target) {
+        syncLock.lock();
+        try {
+            while (durablePosition < target) {
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+
+                syncing = true;
+                long goal = writtenPosition;
+                RandomAccessFile file = segment;
+                syncLock.unlock();
+                try {
+                    file.getFD().sync();
+                } catch (IOException e) {
+                    failure = e;
+                    throw new UncheckedIOException(e);
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    synced.signalAll();
+                }
+                durablePosition = Math.max(durablePosition, goal);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 저장이 저장소에 들어가기를 기다린 뒤, 현재 로그를 fsync 후 닫고 다음 세대 로그를 연다.
+     * 전환 이후의 쓰기는 새 세대에 기록된다.
+     */
+    private long rotate() throws IOException {
+        publishLock.writeLock().lock();
+        appendLock.lock();
+        try {
+            checkState(!closed, "정류장 로그가 이미 닫혔습니다.");
+            syncLock.lock();
+            try {
+                while (syncing) {
+                    synced.awaitUninterruptibly();
+                }
+                segment.getFD().sync();
+                segment.close();
+                durablePosition = writtenPosition;
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+
+            generation++;
+            segment = openSegment(segmentPath(generation));
+            segmentPosition = 0;
+            return generation;
+        } finally {
+            appendLock.unlock();
+            publishLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 실패한 쓰기가 남긴 조각을 잘라내 로그 끝을 마지막으로 온전히 쓴 위치로 되돌린다.
+     * 되돌리지 못하면 깨진 레코드 뒤에 쓰지 않도록 이후의 저장을 모두 거부한다.
+     */
+    private void rollback(IOException cause) {
+        try {
+            segment.setLength(segmentPosition);
+            segment.seek(segmentPosition);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync(writtenPosition);
+        } catch (UncheckedIOException e) {
+            log.error("정류장 로그 fsync 에 실패했습니다.", e);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            // 스냅샷이 실패해도 로그는 지우지 않았으므로 다음 주기에 다시 시도한다.
+            log.error("정류장 스냅샷 작성에 실패했습니다.", e);
+        }
+    }
+
+    private List<Long> walGenerations() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(WAL_PREFIX) && name.endsWith(WAL_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(WAL_PREFIX.length(), name.length() - WAL_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long generation) {
+        return directory.resolve(String.format("%s%020d%s", WAL_PREFIX, generation, WAL_SUFFIX));
+    }
+
+    private void forceDirectory() {
+        // 이름 변경을 디렉터리에 반영한다. 디렉터리를 열 수 없는 파일 시스템에서는 건너뛴다.
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static RandomAccessFile openSegment(Path path) throws IOException {
+        return new RandomAccessFile(path.toFile(), "rw");
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.memory;
+
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * memory 프로파일에서 station.journal.enabled=true 이면 MemoryStationRepository 를 스냅샷/로그로 복원하고
+ * JournalingStationRepository 로 감싼다. 다른 데코레이터(캐시 등)보다 먼저 적용되도록 가장 높은 우선순위를 가진다.
+ * 스프링은 소멸 콜백을 감싸기 전의 원본 빈에 등록하므로, 원본 저장소가 소멸될 때 이 후처리기가 직접 저널을 닫는다.
+ */
+@Configuration
+@Profile("memory")
+@ConditionalOnProperty(prefix = "station.journal", name = "enabled", havingValue = "true")
+public class StationJournalConfig {
+
+    @Bean
+    static JournalPostProcessor stationJournalPostProcessor(Environment environment) {
+        StationJournalProperties properties = Binder.get(environment)
+                .bind("station.journal", StationJournalProperties.class)
+                .orElseGet(() -> new StationJournalProperties(true, null, null, null, null));
+
+        return new JournalPostProcessor(properties, Collections.synchronizedMap(new IdentityHashMap<>()));
+    }
+
+    // 반환 타입을 구체 타입으로 두어야 빈 생성 전에도 Ordered 로 인식된다.
+    record JournalPostProcessor(StationJournalProperties properties, Map<MemoryStationRepository, StationJournal> journals)
+            implements DestructionAwareBeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof MemoryStationRepository repository)) {
+                return bean;
+            }
+            StationJournal journal = StationJournal.open(repository, properties);
+            journals.put(repository, journal);
+            return new JournalingStationRepository(repository, journal);
+        }
+
+        @Override
+        public boolean requiresDestruction(Object bean) {
+            return journals.containsKey(bean);
+        }
+
+        // 컨텍스트 종료 시 마지막 스냅샷을 남기고 로그와 스케줄러를 닫는다.
+        @Override
+        public void postProcessBeforeDestruction(Object bean, String beanName) {
+            StationJournal journal = journals.remove(bean);
+            if (journal != null) {
+                journal.close();
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.memory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * station.journal.* 설정. enabled 가 true 이면 memory 프로파일의 정류장 저장소를 WAL + 스냅샷으로 보존한다.
+ */
+@ConfigurationProperties(prefix = "station.journal")
+public record StationJournalProperties(
+        boolean enabled,
+        Path directory,
+        FsyncPolicy fsync,
+        Duration fsyncInterval,
+        Duration snapshotInterval
+) {
+
+    public StationJournalProperties {
+        if (directory == null) {
+            directory = Path.of("data", "station-journal");
+        }
+        if (fsync == null) {
+            fsync = FsyncPolicy.GROUPED;
+        }
+        if (fsyncInterval == null) {
+            fsyncInterval = Duration.ofSeconds(1);
+        }
+        if (snapshotInterval == null) {
+            snapshotInterval = Duration.ofMinutes(10);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.station.Station;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 스냅샷과 WAL 이 함께 쓰는 정류장 레코드 바이너리 형식.
+ * id(8) + 위도(8) + 경도(8) + 생성 시각(16) + 수정 시각(16) + 이름 길이(4) + 이름(UTF-8)
+ */
+final class StationRecordCodec {
+
+    private static final int FIXED_BYTES = 8 + 8 + 8 + 16 + 16 + 4;
+
+    private StationRecordCodec() {
+    }
+
+    static byte[] nameBytes(Station station) {
+        return station.getName() == null ? new byte[0] : station.getName().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int size(byte[] name) {
+        return FIXED_BYTES + name.length;
+    }
+
+    static void encode(Station station, byte[] name, ByteBuffer buffer) {
+        buffer.putLong(station.getId());
+        buffer.putDouble(station.getLocation().lat());
+        buffer.putDouble(station.getLocation().lng());
+        putTime(buffer, station.getCreatedAt());
+        putTime(buffer, station.getUpdatedAt());
+        buffer.putInt(name.length);
+        buffer.put(name);
+    }
+
+    static Station decode(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        double lat = buffer.getDouble();
+        double lng = buffer.getDouble();
+        OffsetDateTime createdAt = getTime(buffer);
+        OffsetDateTime updatedAt = getTime(buffer);
+        byte[] name = new byte[buffer.getInt()];
+        buffer.get(name);
+
+        return Station.builder()
+                .id(id)
+                .name(new String(name, StandardCharsets.UTF_8))
+                .location(Location.of(lat, lng))
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private static void putTime(ByteBuffer buffer, OffsetDateTime time) {
+        buffer.putLong(time.toEpochSecond());
+        buffer.putInt(time.getNano());
+        buffer.putInt(time.getOffset().getTotalSeconds());
+    }
+
+    private static OffsetDateTime getTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(buffer.getInt());
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.metrics;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * StationRepository 호출을 계측하는 데코레이터.
+ * 호출 수는 station.repository.calls 로 모두 세고, 지연 시간은 sampleInterval 번에 한 번꼴로 골라 station.repository 타이머에 기록한다.
+ * 시계 읽기가 비싼 환경에서 나노초 단위의 메모리 조회에 매번 시각을 두 번 읽으면 조회보다 계측이 더 비싸지기 때문이다.
+ * 일괄 호출의 크기는 station.repository.batch.size 로 남기고, JFR 이 기록 중이면 모든 호출을 JFR 이벤트로 측정한다.
+ * 미터는 생성 시 모두 만들어 두므로 호출 경로에는 태그 조회가 없다.
+ */
+public class InstrumentedStationRepository implements StationRepository {
+
+    private enum Operation {
+        SAVE, SAVE_ALL, FIND_BY_ID, FIND_ALL_BY_ID, FIND_WITHIN_RADIUS, FIND_NEAREST;
+
+        private final String tag = name().toLowerCase().replace('_', '-');
+    }
+
+    private final StationRepository delegate;
+    private final String repositoryName;
+    private final int sampleInterval;
+    private final Timer[] timers = new Timer[Operation.values().length];
+    private final LongAdder[] calls = new LongAdder[Operation.values().length];
+    private final DistributionSummary saveAllSize;
+    private final DistributionSummary findAllByIdSize;
+
+    public InstrumentedStationRepository(StationRepository delegate, MeterRegistry registry) {
+        this(delegate, registry, 1);
+    }
+
+    public InstrumentedStationRepository(StationRepository delegate, MeterRegistry registry, int sampleInterval) {
+        this.delegate = checkNotNull(delegate, "Delegate repository cannot be null");
+        checkNotNull(registry, "MeterRegistry cannot be null");
+        checkArgument(sampleInterval > 0, "Sample interval must be positive, but was %s", sampleInterval);
+        this.repositoryName = delegate.getClass().getSimpleName();
+        this.sampleInterval = sampleInterval;
+
+        for (Operation operation : Operation.values()) {
+            int index = operation.ordinal();
+            timers[index] = Timer.builder("station.repository")
+                    .description("Sampled StationRepository call latency")
+                    .tag("repository", repositoryName)
+                    .tag("operation", operation.tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            calls[index] = new LongAdder();
+            FunctionCounter.builder("station.repository.calls", calls[index], LongAdder::sum)
+                    .description("StationRepository calls")
+                    .tag("repository", repositoryName)
+                    .tag("operation", operation.tag)
+                    .register(registry);
+        }
+        this.saveAllSize = batchSize(registry, Operation.SAVE_ALL);
+        this.findAllByIdSize = batchSize(registry, Operation.FIND_ALL_BY_ID);
+    }
+
+    @Override
+    public Station save(Station station) {
+        return record(Operation.SAVE, 1, () -> delegate.save(station));
+    }
+
+    @Override
+    public List<Station> saveAll(Collection<Station> stations) {
+        int size = stations == null ? 0 : stations.size();
+        saveAllSize.record(size);
+        return record(Operation.SAVE_ALL, size, () -> delegate.saveAll(stations));
+    }
+
+    @Override
+    public Optional<Station> findById(Long id) {
+        return record(Operation.FIND_BY_ID, 1, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Station> findAllById(Collection<Long> ids) {
+        int size = ids == null ? 0 : ids.size();
+        findAllByIdSize.record(size);
+        return record(Operation.FIND_ALL_BY_ID, size, () -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public List<Station> findWithinRadius(Location center, double meters) {
+        return record(Operation.FIND_WITHIN_RADIUS, 0, () -> delegate.findWithinRadius(center, meters));
+    }
+
+    @Override
+    public List<Station> findNearest(Location center, int k) {
+        return record(Operation.FIND_NEAREST, k, () -> delegate.findNearest(center, k));
+    }
+
+    StationRepository delegate() {
+        return delegate;
+    }
+
+    private <T> T record(Operation operation, int size, Supplier<T> call) {
+        calls[operation.ordinal()].increment();
+        boolean sampled = sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+        StationRepositoryEvent event = new StationRepositoryEvent();
+        if (!sampled && !event.isEnabled()) {
+            return call.get();
+        }
+
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            if (sampled) {
+                timers[operation.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName;
+                event.operation = operation.tag;
+                event.size = size;
+                event.commit();
+            }
+        }
+    }
+
+    private DistributionSummary batchSize(MeterRegistry registry, Operation operation) {
+        return DistributionSummary.builder("station.repository.batch.size")
+                .description("Number of stations or ids in a batch call")
+                .tag("repository", repositoryName)
+                .tag("operation", operation.tag)
+                .register(registry);
+    }
+}
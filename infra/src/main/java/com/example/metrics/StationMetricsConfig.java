@@ -0,0 +1,46 @@
+package com.example.metrics;
+
+import com.example.station.StationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * MeterRegistry 가 있으면 StationRepository 구현체를 InstrumentedStationRepository 로 감싼다. station.metrics.enabled=false 로 끌 수 있다.
+ * station.metrics.sample-interval 번에 한 번꼴로 지연 시간을 측정한다(기본 1, 매번).
+ * 저널 바로 바깥, 합치기(coalescing)와 캐시보다 안쪽에 두어 실제 저장소까지 간 호출만 측정한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "station.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StationMetricsConfig {
+
+    @Bean
+    static MetricsPostProcessor stationMetricsPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        int sampleInterval = environment.getProperty("station.metrics.sample-interval", Integer.class, 1);
+        return new MetricsPostProcessor(meterRegistry, sampleInterval);
+    }
+
+    // 반환 타입을 구체 타입으로 두어야 빈 생성 전에도 Ordered 로 인식된다.
+    record MetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry, int sampleInterval) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof StationRepository repository) || bean instanceof InstrumentedStationRepository) {
+                return bean;
+            }
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            return registry == null ? bean : new InstrumentedStationRepository(repository, registry, sampleInterval);
+        }
+
+        // 저널(HIGHEST_PRECEDENCE) 다음, 합치기(LOWEST_PRECEDENCE) 보다 먼저 적용된다.
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
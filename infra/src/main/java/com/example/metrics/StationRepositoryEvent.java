@@ -0,0 +1,28 @@
+package com.example.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * 오래 걸린 StationRepository 호출을 기록하는 JFR 이벤트. 임계값은 .jfc 설정으로 바꿀 수 있다.
+ */
+@Name("com.example.StationRepository")
+@Label("Station Repository Call")
+@Category({"Example", "Repository"})
+@Description("StationRepository call that took longer than the threshold")
+@Threshold("1 ms")
+final class StationRepositoryEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Size")
+    @Description("Number of stations or ids passed to a batch call, or k for nearest queries")
+    int size;
+}
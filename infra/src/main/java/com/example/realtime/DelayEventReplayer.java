@@ -0,0 +1,83 @@
+package com.example.realtime;
+
+import com.example.timetable.DelayEvent;
+import com.example.timetable.StationTimetable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 로컬 지연 이벤트 파일을 순서대로 읽어 StationTimetable 에 반영한다.
+ * 한 줄이 이벤트 하나이며 형식은 "turnRouteId,order,delaySeconds" 이다.
+ * '#' 으로 시작하는 줄과 빈 줄, 숫자로 시작하지 않는 헤더 줄은 건너뛴다.
+ * 잘못된 이벤트는 재생을 멈추지 않고 rejected 로 집계한다.
+ */
+@Component
+@Profile("memory")
+public class DelayEventReplayer {
+
+    private final StationTimetable stationTimetable;
+
+    public DelayEventReplayer(StationTimetable stationTimetable) {
+        this.stationTimetable = stationTimetable;
+    }
+
+    public DelayReplayResult replay(Path eventFile) {
+        checkNotNull(eventFile, "Event file cannot be null");
+
+        long started = System.nanoTime();
+        long applied = 0;
+        long rejected = 0;
+        try (BufferedReader reader = Files.newBufferedReader(eventFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.strip();
+                if (isSkipped(trimmed)) {
+                    continue;
+                }
+                try {
+                    stationTimetable.applyDelay(parse(trimmed));
+                    applied++;
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new DelayReplayResult(applied, rejected, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private static boolean isSkipped(String line) {
+        if (line.isEmpty() || line.charAt(0) == '#') {
+            return true;
+        }
+        char first = line.charAt(0);
+        return first != '-' && (first < '0' || first > '9');
+    }
+
+    /**
+     * 잘못된 숫자는 NumberFormatException(IllegalArgumentException 의 하위 타입)으로 드러난다.
+     */
+    static DelayEvent parse(String line) {
+        int first = line.indexOf(',');
+        int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("지연 이벤트 형식이 아닙니다: " + line);
+        }
+
+        long turnRouteId = Long.parseLong(line, 0, first, 10);
+        int order = Integer.parseInt(line, first + 1, second, 10);
+        long delaySeconds = Long.parseLong(line.substring(second + 1).strip());
+        return new DelayEvent(turnRouteId, order, Duration.ofSeconds(delaySeconds));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.realtime;
+
+import java.time.Duration;
+
+/**
+ * 지연 이벤트 파일 재생 결과. rejected 는 형식이 잘못됐거나 존재하지 않는 회차/순서를 가리킨 이벤트 수다.
+ */
+public record DelayReplayResult(
+        long applied,
+        long rejected,
+        Duration elapsed
+) {
+
+    public double eventsPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return (applied + rejected) * 1_000_000_000d / nanos;
+    }
+}
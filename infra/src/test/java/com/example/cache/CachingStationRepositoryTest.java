@@ -0,0 +1,118 @@
+package com.example.cache;
+
+import com.example.common.Location;
+import com.example.memory.MemoryStationRepository;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingStationRepositoryTest {
+
+    private final CountingStationRepository delegate = new CountingStationRepository();
+    private final AtomicLong nanos = new AtomicLong();
+    private final CachingStationRepository repository =
+            new CachingStationRepository(delegate, 100, Duration.ofMinutes(1), nanos::get);
+
+    @Test
+    @DisplayName("같은 id를 다시 조회하면 캐시에서 반환한다")
+    void cacheHit() {
+        // given
+        Station saved = repository.save(station("강남역"));
+
+        // when
+        repository.findById(saved.getId());
+        repository.findById(saved.getId());
+
+        // then
+        assertThat(delegate.findCount.get()).isEqualTo(1);
+        assertThat(repository.stats().hitCount()).isEqualTo(1);
+        assertThat(repository.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 id는 캐시하지 않는다")
+    void doNotCacheMissingStation() {
+        assertThat(repository.findById(999L)).isEmpty();
+        assertThat(repository.findById(999L)).isEmpty();
+
+        assertThat(delegate.findCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 저장소에서 다시 읽는다")
+    void expireAfterWrite() {
+        // given
+        Station saved = repository.save(station("강남역"));
+        repository.findById(saved.getId());
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        repository.findById(saved.getId());
+
+        // then
+        assertThat(delegate.findCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 항목을 제거하고 제거 횟수를 기록한다")
+    void evictWhenFull() {
+        // given
+        CachingStationRepository small = new CachingStationRepository(delegate, 10, Duration.ofMinutes(1), nanos::get);
+        List<Station> saved = small.saveAll(IntStream.range(0, 50).mapToObj(i -> station("s" + i)).toList());
+
+        // when
+        saved.forEach(station -> small.findById(station.getId()));
+        small.cache().cleanUp();
+
+        // then
+        assertThat(small.cache().estimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(small.stats().evictionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 id 조회 시 캐시에 없는 id만 한 번에 저장소에서 읽는다")
+    void findAllByIdLoadsOnlyMissing() {
+        // given
+        List<Station> saved = repository.saveAll(List.of(station("A"), station("B"), station("C")));
+        repository.findById(saved.get(0).getId());
+
+        // when
+        List<Station> found = repository.findAllById(saved.stream().map(Station::getId).toList());
+
+        // then
+        assertThat(found).extracting(Station::getName).containsExactly("A", "B", "C");
+        assertThat(delegate.lastBatch).containsExactlyInAnyOrder(saved.get(1).getId(), saved.get(2).getId());
+    }
+
+    private Station station(String name) {
+        return Station.of(name, Location.of(37.4979, 127.0276));
+    }
+
+    private static class CountingStationRepository extends MemoryStationRepository {
+
+        private final AtomicInteger findCount = new AtomicInteger();
+        private Collection<Long> lastBatch = List.of();
+
+        @Override
+        public Optional<Station> findById(Long id) {
+            findCount.incrementAndGet();
+            return super.findById(id);
+        }
+
+        @Override
+        public List<Station> findAllById(Collection<Long> ids) {
+            lastBatch = ids;
+            return super.findAllById(ids);
+        }
+    }
+}
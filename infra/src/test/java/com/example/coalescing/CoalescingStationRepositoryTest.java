@@ -0,0 +1,206 @@
+package com.example.coalescing;
+
+import com.example.common.Location;
+import com.example.memory.MemoryStationRepository;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingStationRepositoryTest {
+
+    private final CountingStationRepository delegate = new CountingStationRepository();
+
+    @Test
+    @DisplayName("같은 id 를 동시에 조회하면 저장소는 한 번만 읽고 결과를 함께 받는다")
+    void shareInFlightLoad() throws Exception {
+        // given
+        CoalescingStationRepository repository = new CoalescingStationRepository(delegate, Duration.ZERO, 100);
+        Long id = delegate.save(station("강남역")).getId();
+        delegate.block = new CountDownLatch(1);
+
+        // when
+        List<Future<Optional<Station>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> repository.findById(id)));
+            }
+            awaitUntil(() -> repository.coalescedCount() == 99);
+            delegate.block.countDown();
+        }
+
+        // then
+        for (Future<Optional<Station>> result : results) {
+            assertThat(result.get()).hasValueSatisfying(station -> assertThat(station.getName()).isEqualTo("강남역"));
+        }
+        assertThat(delegate.findCount.get()).isEqualTo(1);
+        assertThat(repository.loadCount()).isEqualTo(1);
+        assertThat(repository.requestedCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("서로 다른 id 를 동시에 조회하면 findAllById 한 번으로 묶고, 배치가 차면 window 를 기다리지 않는다")
+    void batchDistinctIds() throws Exception {
+        // given
+        CoalescingStationRepository repository = new CoalescingStationRepository(delegate, Duration.ofSeconds(10), 10);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            ids.add(delegate.save(station("station-" + i)).getId());
+        }
+        ids.add(999L);
+
+        // when
+        long start = System.nanoTime();
+        List<Future<Optional<Station>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Long id : ids) {
+                results.add(executor.submit(() -> repository.findById(id)));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        for (int i = 0; i < 9; i++) {
+            assertThat(results.get(i).get()).hasValueSatisfying(station -> assertThat(station.getId()).isIn(ids));
+        }
+        assertThat(results.get(9).get()).isEmpty();
+        assertThat(delegate.batches).hasSize(1);
+        assertThat(delegate.batches.getFirst()).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(delegate.findCount.get()).isZero();
+        assertThat(elapsed).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    @DisplayName("읽기가 끝난 뒤의 조회는 저장소를 다시 읽는다")
+    void doNotKeepCompletedResult() {
+        // given
+        CoalescingStationRepository repository = new CoalescingStationRepository(delegate, Duration.ZERO, 100);
+        Long id = delegate.save(station("강남역")).getId();
+
+        // when
+        repository.findById(id);
+        repository.findById(id);
+
+        // then
+        assertThat(delegate.findCount.get()).isEqualTo(2);
+        assertThat(repository.coalescedCount()).isZero();
+        assertThat(repository.loadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장소 읽기가 실패하면 기다리던 호출 모두 같은 예외를 받고 다음 조회는 다시 시도한다")
+    void propagateFailureToAllWaiters() throws Exception {
+        // given
+        CoalescingStationRepository repository = new CoalescingStationRepository(delegate, Duration.ZERO, 100);
+        Long id = delegate.save(station("강남역")).getId();
+        delegate.block = new CountDownLatch(1);
+        delegate.failure = new IllegalStateException("backend down");
+
+        // when
+        List<Future<Optional<Station>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> repository.findById(id)));
+            }
+            awaitUntil(() -> repository.coalescedCount() == 9);
+            delegate.block.countDown();
+        }
+
+        // then
+        for (Future<Optional<Station>> result : results) {
+            assertThatThrownBy(result::get).hasCauseInstanceOf(IllegalStateException.class);
+        }
+        delegate.failure = null;
+        assertThat(repository.findById(id)).isPresent();
+    }
+
+    @Test
+    @DisplayName("저장소 읽기가 Error 를 던져도 기다리던 호출이 모두 풀리고 다음 조회는 다시 시도한다")
+    void releaseWaitersOnError() throws Exception {
+        // given
+        CoalescingStationRepository repository = new CoalescingStationRepository(delegate, Duration.ZERO, 100);
+        Long id = delegate.save(station("강남역")).getId();
+        delegate.block = new CountDownLatch(1);
+        delegate.error = new StackOverflowError();
+
+        // when
+        List<Future<Optional<Station>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> repository.findById(id)));
+            }
+            awaitUntil(() -> repository.coalescedCount() == 9);
+            delegate.block.countDown();
+        }
+
+        // then
+        for (Future<Optional<Station>> result : results) {
+            assertThatThrownBy(result::get).hasCauseInstanceOf(StackOverflowError.class);
+        }
+        delegate.error = null;
+        assertThat(repository.findById(id)).isPresent();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private Station station(String name) {
+        return Station.of(name, Location.of(37.5, 127.0));
+    }
+
+    private static class CountingStationRepository extends MemoryStationRepository {
+
+        private final AtomicInteger findCount = new AtomicInteger();
+        private final List<Collection<Long>> batches = new ArrayList<>();
+        private volatile CountDownLatch block = new CountDownLatch(0);
+        private volatile RuntimeException failure;
+        private volatile Error error;
+
+        @Override
+        public Optional<Station> findById(Long id) {
+            findCount.incrementAndGet();
+            await();
+            if (failure != null) {
+                throw failure;
+            }
+            if (error != null) {
+                throw error;
+            }
+            return super.findById(id);
+        }
+
+        @Override
+        public synchronized List<Station> findAllById(Collection<Long> ids) {
+            batches.add(List.copyOf(ids));
+            return super.findAllById(ids);
+        }
+
+        private void await() {
+            try {
+                block.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.db;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * infra 모듈 단독으로 @DataJpaTest 를 실행하기 위한 설정 클래스
+ */
+@SpringBootApplication
+class DbTestApplication {
+}
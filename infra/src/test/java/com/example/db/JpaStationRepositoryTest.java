@@ -0,0 +1,150 @@
+package com.example.db;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("db")
+@Import(JpaStationRepository.class)
+class JpaStationRepositoryTest {
+
+    @Autowired
+    private JpaStationRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("저장한 정류장을 id로 조회할 수 있다")
+    void saveAndFindById() {
+        // given
+        Station saved = repository.save(station("강남역", 37.4979, 127.0276));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        assertThat(repository.findById(saved.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getName()).isEqualTo("강남역");
+            assertThat(found.getLocation()).isEqualTo(new Location(37.4979, 127.0276));
+        });
+        assertThat(repository.findById(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 정류장을 저장하면 시퀀스를 미리 할당받아 배치로 insert 한다")
+    void saveAllUsesPooledIdsAndBatchInserts() {
+        // given
+        List<Station> stations = IntStream.range(0, 120)
+                .mapToObj(i -> station("station-" + i, 37.0 + i * 0.001, 127.0))
+                .toList();
+
+        // when
+        List<Station> saved = repository.saveAll(stations);
+        entityManager.flush();
+
+        // then
+        assertThat(saved).extracting(Station::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // 120건 insert 를 50건 단위 배치로 묶고, id 는 50개 단위로 시퀀스에서 받아온다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 id로 조회하면 요청한 순서대로 존재하는 정류장만 반환한다")
+    void findAllById() {
+        // given
+        List<Station> saved = repository.saveAll(List.of(station("A", 37.0, 127.0), station("B", 37.1, 127.1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Station> found = repository.findAllById(Arrays.asList(saved.get(1).getId(), 999_999L, null, saved.get(0).getId()));
+
+        // then
+        assertThat(found).extracting(Station::getName).containsExactly("B", "A");
+    }
+
+    @Test
+    @DisplayName("반경 이내의 정류장을 가까운 순으로 조회하고, 가장 가까운 k개를 조회할 수 있다")
+    void findByLocation() {
+        // given
+        repository.saveAll(List.of(
+                station("강남역", 37.4979, 127.0276),
+                station("역삼역", 37.5006, 127.0364),
+                station("서울역", 37.5547, 126.9707),
+                station("부산역", 35.1151, 129.0422)));
+        entityManager.flush();
+        Location gangnam = Location.of(37.4979, 127.0276);
+
+        // when & then
+        assertThat(repository.findWithinRadius(gangnam, 1_000)).extracting(Station::getName).containsExactly("강남역", "역삼역");
+        assertThat(repository.findNearest(gangnam, 3)).extracting(Station::getName).containsExactly("강남역", "역삼역", "서울역");
+        assertThat(repository.findNearest(gangnam, 10)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("saveAll 은 배치마다 자기가 저장한 엔티티만 분리하고 호출한 쪽이 관리하던 엔티티는 그대로 둔다")
+    void saveAllKeepsCallerEntitiesManaged() {
+        // given
+        StationEntity callerEntity = StationEntity.from(station("호출자 정류장", 37.5, 127.0), OffsetDateTime.now());
+        entityManager.persist(callerEntity);
+
+        // when
+        repository.saveAll(IntStream.range(0, 120).mapToObj(i -> station("정류장-" + i, 37.0, 127.0)).toList());
+
+        // then
+        assertThat(entityManager.contains(callerEntity)).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 반경 안에 k 개가 없으면 반경을 더 넓히지 않고 가까운 순 k 개를 한 번에 조회한다")
+    void findNearestBeyondMaxRadius() {
+        // given
+        repository.saveAll(List.of(
+                station("강남역", 37.4979, 127.0276),
+                station("부산역", 35.1151, 129.0422),
+                station("제주공항", 33.5104, 126.4914),
+                station("도쿄역", 35.6812, 139.7671)));
+        entityManager.flush();
+        Location gangnam = Location.of(37.4979, 127.0276);
+
+        // when
+        List<Station> nearest = repository.findNearest(gangnam, 3);
+
+        // then
+        assertThat(nearest).extracting(Station::getName).containsExactly("강남역", "부산역", "제주공항");
+    }
+
+    private Station station(String name, double lat, double lng) {
+        return Station.of(name, Location.of(lat, lng));
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.gtfs;
+
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class GtfsFeedLoaderTest {
+
+    private static final LocalDate SERVICE_DATE = LocalDate.of(2025, 5, 1);
+    private static final ZoneOffset OFFSET = ZoneOffset.ofHours(9);
+
+    private static final Map<String, String> FEED = Map.of(
+            "stops.txt", """
+                    stop_id,stop_name,stop_lat,stop_lon
+                    S1,"강남역, 2번 출구",37.4979,127.0276
+                    S2,역삼역,37.5006,127.0364
+                    S3,선릉역,37.5045,127.0490
+                    """,
+            "routes.txt", """
+                    route_id,route_short_name,route_long_name,route_type
+                    R1,146,,3
+                    R2,,순환,3
+                    """,
+            "trips.txt", """
+                    route_id,service_id,trip_id,direction_id
+                    R1,WD,T1,0
+                    R1,WD,T2,1
+                    R2,WD,T3,
+                    R2,WD,T4,0
+                    """,
+            "stop_times.txt", """
+                    trip_id,arrival_time,departure_time,stop_id,stop_sequence,pickup_type,drop_off_type
+                    T1,07:10:00,07:10:00,S2,20,1,0
+                    T1,07:00:00,07:00:00,S1,10,0,1
+                    T1,07:20:00,07:20:00,S3,30,0,0
+                    T2,25:00:00,25:00:00,S3,1,,
+                    T2,,,S2,2,,
+                    T2,25:30:00,25:30:00,S1,3,,
+                    T3,08:00:00,08:00:00,S1,1,0,0
+                    T3,08:05:00,08:05:00,UNKNOWN,2,0,0
+                    T4,09:00:00,09:00:00,S1,1,0,0
+                    T4,09:10:00,09:10:00,S2,1,0,0
+                    """);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("피드를 노선, 회차 노선, 회차 정류장으로 변환한다")
+    void loadDirectory() throws IOException {
+        // given
+        writeFeed(directory);
+
+        // when
+        GtfsNetwork network = new GtfsFeedLoader().load(directory, SERVICE_DATE, OFFSET);
+
+        // then
+        assertThat(network.stations()).extracting(Station::getName)
+                .containsExactly("강남역, 2번 출구", "역삼역", "선릉역");
+        assertThat(network.routes()).extracting(Route::getName, Route::getType).containsExactly(
+                tuple("146", RouteType.GO),
+                tuple("146", RouteType.BACK),
+                tuple("순환", RouteType.GO));
+        assertThat(network.turnRoutes()).extracting(TurnRoute::getId).containsExactly(1L, 2L);
+        assertThat(network.skippedStops()).isZero();
+        assertThat(network.skippedStopTimes()).isEqualTo(1);
+        assertThat(network.skippedTrips()).isEqualTo(2);
+        assertThat(network.inactiveTrips()).isZero();
+
+        List<TurnStation> first = network.turnRoutes().get(0).getTurnStations().turnStations();
+        assertThat(first).extracting(turnStation -> turnStation.getStation().getName())
+                .containsExactly("강남역, 2번 출구", "역삼역", "선릉역");
+        assertThat(first).extracting(TurnStation::getOrder).containsExactly(1, 2, 3);
+        assertThat(first).extracting(TurnStation::getPointType)
+                .containsExactly(TurnStationType.BEGIN, TurnStationType.MIDDLE, TurnStationType.END);
+        assertThat(first).extracting(TurnStation::getOnOffType)
+                .containsExactly(TurnStationOnOffType.ON, TurnStationOnOffType.OFF, TurnStationOnOffType.OFF);
+        assertThat(first.get(0).getExpectedArrivalTime())
+                .isEqualTo(OffsetDateTime.of(2025, 5, 1, 7, 0, 0, 0, OFFSET));
+    }
+
+    @Test
+    @DisplayName("24시를 넘는 시각은 다음 날로, 비어 있는 시각은 직전 정류장 시각으로 채운다")
+    void fillOvernightAndMissingTimes() throws IOException {
+        // given
+        writeFeed(directory);
+
+        // when
+        GtfsNetwork network = new GtfsFeedLoader().load(directory, SERVICE_DATE, OFFSET);
+
+        // then
+        List<TurnStation> back = network.turnRoutes().get(1).getTurnStations().turnStations();
+        OffsetDateTime nextDay = OffsetDateTime.of(2025, 5, 2, 1, 0, 0, 0, OFFSET);
+        assertThat(back).extracting(TurnStation::getExpectedArrivalTime)
+                .containsExactly(nextDay, nextDay, nextDay.plusMinutes(30));
+        assertThat(back.get(1).getOnOffType()).isEqualTo(TurnStationOnOffType.ON);
+    }
+
+    @Test
+    @DisplayName("좌표가 비어 있는 정류장 행(location_type 3/4)은 적재를 멈추지 않고 건너뛴다")
+    void skipStopsWithoutCoordinates() throws IOException {
+        // given
+        writeFeed(directory);
+        Files.writeString(directory.resolve("stops.txt"), """
+                stop_id,stop_name,stop_lat,stop_lon,location_type,parent_station
+                S1,"강남역, 2번 출구",37.4979,127.0276,0,
+                N1,환승 통로,,,3,S1
+                S2,역삼역,37.5006,127.0364,0,
+                B1,탑승 구역, , ,4,S2
+                S3,선릉역,37.5045,127.0490,0,
+                """);
+
+        // when
+        GtfsNetwork network = new GtfsFeedLoader().load(directory, SERVICE_DATE, OFFSET);
+
+        // then
+        assertThat(network.skippedStops()).isEqualTo(2);
+        assertThat(network.stations()).extracting(Station::getId, Station::getName).containsExactly(
+                tuple(1L, "강남역, 2번 출구"),
+                tuple(2L, "역삼역"),
+                tuple(3L, "선릉역"));
+        assertThat(network.turnRoutes()).extracting(TurnRoute::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("calendar.txt 와 calendar_dates.txt 로 서비스일에 운행하는 회차만 적재한다")
+    void loadTripsRunningOnServiceDate() throws IOException {
+        // given
+        writeFeed(directory);
+        Files.writeString(directory.resolve("trips.txt"), """
+                route_id,service_id,trip_id,direction_id
+                R1,WD,T1,0
+                R1,HOL,T2,1
+                R2,WE,T3,
+                R2,WD,T4,0
+                """);
+        Files.writeString(directory.resolve("calendar.txt"), """
+                service_id,monday,tuesday,wednesday,thursday,friday,saturday,sunday,start_date,end_date
+                WD,1,1,1,1,1,0,0,20250101,20251231
+                WE,0,0,0,0,0,1,1,20250101,20251231
+                """);
+        Files.writeString(directory.resolve("calendar_dates.txt"), """
+                service_id,date,exception_type
+                HOL,20250501,1
+                WD,20250501,2
+                """);
+
+        // when
+        GtfsNetwork holiday = new GtfsFeedLoader().load(directory, SERVICE_DATE, OFFSET);
+        GtfsNetwork weekday = new GtfsFeedLoader().load(directory, SERVICE_DATE.plusDays(1), OFFSET);
+
+        // then
+        assertThat(holiday.turnRoutes()).extracting(turnRoute -> turnRoute.getRoute().getType())
+                .containsExactly(RouteType.BACK);
+        assertThat(holiday.inactiveTrips()).isEqualTo(3);
+        assertThat(holiday.skippedStopTimes()).isZero();
+        assertThat(weekday.turnRoutes()).extracting(turnRoute -> turnRoute.getRoute().getType())
+                .containsExactly(RouteType.GO);
+        assertThat(weekday.inactiveTrips()).isEqualTo(2);
+        assertThat(weekday.skippedTrips()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("zip 피드와 청크 경계에 걸친 행도 디렉터리 피드와 같은 결과를 낸다")
+    void loadZipWithSmallChunks() throws IOException {
+        // given
+        Path feedDirectory = Files.createDirectory(directory.resolve("feed"));
+        writeFeed(feedDirectory);
+        Path zip = directory.resolve("feed.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            for (Map.Entry<String, String> file : FEED.entrySet()) {
+                out.putNextEntry(new ZipEntry(file.getKey()));
+                out.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+
+        // when
+        GtfsNetwork expected = new GtfsFeedLoader().load(feedDirectory, SERVICE_DATE, OFFSET);
+        GtfsNetwork actual = new GtfsFeedLoader(2, 128).load(zip, SERVICE_DATE, OFFSET);
+
+        // then
+        assertThat(actual.turnRoutes()).hasSameSizeAs(expected.turnRoutes());
+        for (int i = 0; i < expected.turnRoutes().size(); i++) {
+            assertThat(actual.turnRoutes().get(i).getTurnStations().turnStations())
+                    .extracting(turnStation -> turnStation.getStation().getName(), TurnStation::getExpectedArrivalTime)
+                    .isEqualTo(expected.turnRoutes().get(i).getTurnStations().turnStations().stream()
+                            .map(turnStation -> tuple(
+                                    turnStation.getStation().getName(), turnStation.getExpectedArrivalTime()))
+                            .toList());
+        }
+        assertThat(actual.stations()).extracting(Station::getName)
+                .containsExactlyElementsOf(expected.stations().stream().map(Station::getName).toList());
+    }
+
+    private static void writeFeed(Path target) throws IOException {
+        for (Map.Entry<String, String> file : FEED.entrySet()) {
+            try (OutputStream out = Files.newOutputStream(target.resolve(file.getKey()))) {
+                out.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBlockAllocatorTest {
+
+    @Test
+    @DisplayName("한 번씩만 발급받는 가상 스레드가 많아도 id 가 중복되지 않고 줄 수 x 구간 크기 이상 건너뛰지 않는다")
+    void boundUnusedIdsWithShortLivedThreads() {
+        // given
+        int blockSize = 1024;
+        int stripeCount = 4;
+        int threadCount = 10_000;
+        IdBlockAllocator allocator = new IdBlockAllocator(blockSize, stripeCount);
+        Queue<Long> ids = new ConcurrentLinkedQueue<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> ids.add(allocator.next()));
+            }
+        }
+
+        // then
+        assertThat(ids).hasSize(threadCount).doesNotHaveDuplicates();
+        assertThat(ids.stream().mapToLong(Long::longValue).max().orElseThrow())
+                .isLessThanOrEqualTo((long) threadCount + (long) stripeCount * blockSize);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.memory;
+
+import com.example.route.Route;
+import com.example.route.RouteType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryRouteRepositoryTest {
+
+    private final MemoryRouteRepository repository = new MemoryRouteRepository();
+
+    @Test
+    @DisplayName("저장하면 새 id가 부여되고 id로 조회할 수 있다")
+    void saveAndFindById() {
+        // given
+        Route saved = repository.save(Route.of("인천송도노선", RouteType.GO));
+
+        // when & then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(repository.findById(saved.getId()))
+                .hasValueSatisfying(route -> assertThat(route.getName()).isEqualTo("인천송도노선"));
+        assertThat(repository.findById(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 요청한 id 순서를 따르고 없는 id는 제외한다")
+    void findAllByIdKeepsRequestOrder() {
+        // given
+        List<Route> saved = repository.saveAll(List.of(Route.of("A", RouteType.GO), Route.of("B", RouteType.BACK)));
+
+        // when
+        List<Route> found = repository.findAllById(List.of(saved.get(1).getId(), -1L, saved.get(0).getId()));
+
+        // then
+        assertThat(found).extracting(Route::getName).containsExactly("B", "A");
+    }
+
+    @Test
+    @DisplayName("유형별 노선을 id 순으로 조회한다")
+    void findAllByType() {
+        // given
+        repository.saveAll(List.of(Route.of("A", RouteType.GO), Route.of("B", RouteType.BACK), Route.of("C", RouteType.GO)));
+
+        // when
+        List<Route> found = repository.findAllByType(RouteType.GO);
+
+        // then
+        assertThat(found).extracting(Route::getName).containsExactly("A", "C");
+    }
+
+    @Test
+    @DisplayName("여러 쓰레드가 동시에 저장해도 유실되거나 중복된 id가 없다")
+    void concurrentWriters() throws InterruptedException {
+        // given
+        int writerCount = 8;
+        int savesPerWriter = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+        CountDownLatch done = new CountDownLatch(writerCount);
+        Queue<Long> savedIds = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int w = 0; w < writerCount; w++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < savesPerWriter; i++) {
+                        savedIds.add(repository.save(Route.of("route-" + i, RouteType.GO)).getId());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(savedIds).hasSize(writerCount * savesPerWriter).doesNotHaveDuplicates();
+        assertThat(repository.count()).isEqualTo(writerCount * savesPerWriter);
+        assertThat(repository.findAllById(new ArrayList<>(savedIds))).hasSize(savedIds.size());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.memory;
+
+import com.example.fixture.TransitFixtures;
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import com.example.turn.station.TurnStationOnOffType;
+import com.example.turn.station.TurnStationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryRouteScheduleIndexTest {
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2025, 5, 1, 0, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private final Route go = Route.of("출근노선", RouteType.GO);
+    private final Route back = Route.of("퇴근노선", RouteType.BACK);
+    private final MemoryRouteScheduleIndex index = new MemoryRouteScheduleIndex();
+
+    @Test
+    @DisplayName("노선 유형과 출발 시각 구간으로 회차를 출발 시각 순으로 찾는다")
+    void findDepartingBetween() {
+        // given
+        index.addAll(List.of(
+                turnRoute(1L, go, at(7, 30), at(8, 10)),
+                turnRoute(2L, go, at(7, 0), at(7, 40)),
+                turnRoute(3L, go, at(8, 0), at(8, 40)),
+                turnRoute(4L, back, at(7, 10), at(7, 50))));
+
+        // when
+        List<TurnRoute> found = index.findDepartingBetween(RouteType.GO, at(7, 0), at(8, 0));
+
+        // then
+        assertThat(found).extracting(TurnRoute::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("노선 유형과 종료 시각 구간으로 회차를 찾는다")
+    void findEndingBetween() {
+        // given
+        index.addAll(List.of(
+                turnRoute(1L, back, at(17, 50), at(18, 20)),
+                turnRoute(2L, back, at(18, 10), at(18, 30)),
+                turnRoute(3L, back, at(18, 30), at(19, 5)),
+                turnRoute(4L, go, at(18, 0), at(18, 45))));
+
+        // when
+        List<TurnRoute> found = index.findEndingBetween(RouteType.BACK, at(18, 30), at(24, 0));
+
+        // then
+        assertThat(found).extracting(TurnRoute::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 출발하는 회차는 모두 id 순으로 찾는다")
+    void keepRoutesWithSameTime() {
+        // given
+        index.addAll(List.of(turnRoute(2L, go, at(7, 0), at(7, 30)), turnRoute(1L, go, at(7, 0), at(7, 40))));
+
+        // when & then
+        assertThat(index.findDepartingBetween(RouteType.GO, at(7, 0), at(7, 1)))
+                .extracting(TurnRoute::getId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("회차를 교체하거나 삭제하면 인덱스에 바로 반영된다")
+    void reflectReplaceAndRemove() {
+        // given
+        index.add(turnRoute(1L, go, at(7, 0), at(7, 30)));
+        index.add(turnRoute(2L, go, at(7, 10), at(7, 40)));
+
+        // when
+        index.add(turnRoute(1L, go, at(9, 0), at(9, 30)));
+        index.remove(2L);
+
+        // then
+        assertThat(index.findDepartingBetween(RouteType.GO, at(7, 0), at(8, 0))).isEmpty();
+        assertThat(index.findEndingBetween(RouteType.GO, at(9, 0), at(10, 0)))
+                .extracting(TurnRoute::getId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("구간의 끝이 시작보다 앞서면 예외가 발생한다")
+    void throwExceptionWhenRangeIsReversed() {
+        assertThatThrownBy(() -> index.findDepartingBetween(RouteType.GO, at(8, 0), at(7, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OffsetDateTime at(int hour, int minute) {
+        return BASE.plusHours(hour).plusMinutes(minute);
+    }
+
+    private TurnRoute turnRoute(Long id, Route route, OffsetDateTime begin, OffsetDateTime end) {
+        return TransitFixtures.turnRoute(id, route, List.of(
+                TurnStation.of(null, station(1L), TurnStationOnOffType.ON, TurnStationType.BEGIN, 1, begin),
+                TurnStation.of(null, station(2L), TurnStationOnOffType.OFF, TurnStationType.END, 2, end)));
+    }
+}
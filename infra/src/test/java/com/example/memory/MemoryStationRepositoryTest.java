@@ -0,0 +1,142 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryStationRepositoryTest {
+
+    private final MemoryStationRepository repository = new MemoryStationRepository();
+
+    @Nested
+    @DisplayName("단건 저장/조회 테스트")
+    class SingleTests {
+
+        @Test
+        @DisplayName("저장한 정류장을 id로 조회할 수 있다")
+        void findSavedStationById() {
+            // given
+            Station saved = repository.save(createStation("강남역"));
+
+            // when & then
+            assertThat(repository.findById(saved.getId()))
+                    .hasValueSatisfying(station -> assertThat(station.getName()).isEqualTo("강남역"));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 id로 조회하면 빈 값을 반환한다")
+        void findByUnknownIdReturnsEmpty() {
+            assertThat(repository.findById(999L)).isEmpty();
+            assertThat(repository.findById(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 저장/조회 테스트")
+    class BatchTests {
+
+        @Test
+        @DisplayName("여러 정류장을 한 번에 저장하면 각각 id가 부여된다")
+        void saveAllAssignsIds() {
+            // when
+            List<Station> saved = repository.saveAll(List.of(createStation("A"), createStation("B"), createStation("C")));
+
+            // then
+            assertThat(saved).extracting(Station::getId).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(saved).extracting(Station::getName).containsExactly("A", "B", "C");
+        }
+
+        @Test
+        @DisplayName("여러 id로 조회하면 요청한 순서대로 존재하는 정류장만 반환한다")
+        void findAllByIdKeepsRequestOrderAndSkipsMissing() {
+            // given
+            List<Station> saved = repository.saveAll(List.of(createStation("A"), createStation("B")));
+            Long first = saved.get(0).getId();
+            Long second = saved.get(1).getId();
+
+            // when
+            List<Station> found = repository.findAllById(Arrays.asList(second, 999L, null, first));
+
+            // then
+            assertThat(found).extracting(Station::getName).containsExactly("B", "A");
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 테스트")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("여러 쓰레드가 동시에 저장하고 조회해도 유실되거나 중복된 id가 없다")
+        void concurrentReadersAndWriters() throws InterruptedException {
+            // given
+            int writerCount = 8;
+            int readerCount = 8;
+            int savesPerWriter = 5_000;
+            ExecutorService executor = Executors.newFixedThreadPool(writerCount + readerCount);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(writerCount + readerCount);
+            Queue<Long> savedIds = new ConcurrentLinkedQueue<>();
+            Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+            // when
+            for (int w = 0; w < writerCount; w++) {
+                executor.submit(() -> run(start, done, failures, () -> {
+                    for (int i = 0; i < savesPerWriter; i++) {
+                        savedIds.add(repository.save(createStation("station-" + i)).getId());
+                    }
+                }));
+            }
+            for (int r = 0; r < readerCount; r++) {
+                executor.submit(() -> run(start, done, failures, () -> {
+                    for (int i = 0; i < savesPerWriter; i++) {
+                        long id = (i % (writerCount * savesPerWriter)) + 1;
+                        repository.findById(id).ifPresent(station -> assertThat(station.getId()).isEqualTo(id));
+                    }
+                }));
+            }
+            start.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+            executor.shutdown();
+
+            // then
+            assertThat(failures).isEmpty();
+            assertThat(savedIds).hasSize(writerCount * savesPerWriter).doesNotHaveDuplicates();
+
+            List<Long> ids = new ArrayList<>(savedIds);
+            assertThat(repository.findAllById(ids)).hasSize(ids.size());
+            assertThat(IntStream.rangeClosed(1, writerCount * savesPerWriter)
+                    .allMatch(id -> repository.findById((long) id).isPresent())).isTrue();
+        }
+
+        private void run(CountDownLatch start, CountDownLatch done, Queue<Throwable> failures, Runnable task) {
+            try {
+                start.await();
+                task.run();
+            } catch (Throwable e) {
+                failures.add(e);
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    private Station createStation(String name) {
+        return Station.of(name, new Location(37.4979, 127.0276));
+    }
+}
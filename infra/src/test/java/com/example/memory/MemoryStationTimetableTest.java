@@ -0,0 +1,226 @@
+package com.example.memory;
+
+import com.example.fixture.TransitFixtures;
+import com.example.route.RouteType;
+import com.example.station.Station;
+import com.example.timetable.DelayEvent;
+import com.example.timetable.StationArrival;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStationOnOffType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.route;
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryStationTimetableTest {
+
+    private final Station a = station(1L, "A");
+    private final Station b = station(2L, "B");
+    private final Station c = station(3L, "C");
+
+    private final MemoryStationTimetable timetable = new MemoryStationTimetable();
+
+    @Test
+    @DisplayName("기준 시각 이후 정류장에 도착하는 회차를 도착 시각 순으로 반환한다")
+    void findNextArrivalsSortedByTime() {
+        // given
+        timetable.add(turnRoute(10L, List.of(a, b, c), 30));
+        timetable.add(turnRoute(11L, List.of(a, b, c), 0));
+        timetable.add(turnRoute(12L, List.of(a, b, c), 60));
+
+        // when
+        List<StationArrival> arrivals = timetable.findNextArrivals(b.getId(), BASE.plusMinutes(10), 2);
+
+        // then
+        assertThat(arrivals).extracting(arrival -> arrival.turnRoute().getId()).containsExactly(11L, 10L);
+        assertThat(arrivals.getFirst().expectedArrivalTime()).isEqualTo(BASE.plusMinutes(10));
+        assertThat(arrivals.getFirst().onOffType()).isEqualTo(TurnStationOnOffType.ON);
+        assertThat(arrivals.getFirst().route().getType()).isEqualTo(RouteType.GO);
+    }
+
+    @Test
+    @DisplayName("다른 시간대로 표현된 기준 시각도 같은 시점으로 비교한다")
+    void compareByInstant() {
+        // given
+        timetable.add(turnRoute(10L, List.of(a, b), 0));
+
+        // when
+        List<StationArrival> arrivals = timetable.findNextArrivals(a.getId(), BASE.withOffsetSameInstant(ZoneOffset.UTC), 5);
+
+        // then
+        assertThat(arrivals).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("회차 노선을 삭제하면 해당 회차의 도착 정보가 사라진다")
+    void removeTurnRoute() {
+        // given
+        timetable.addAll(List.of(turnRoute(10L, List.of(a, b, c), 0), turnRoute(11L, List.of(a, c), 5)));
+
+        // when
+        timetable.remove(10L);
+
+        // then
+        assertThat(timetable.findNextArrivals(b.getId(), BASE, 10)).isEmpty();
+        assertThat(timetable.findNextArrivals(c.getId(), BASE, 10))
+                .extracting(arrival -> arrival.turnRoute().getId())
+                .containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("같은 id의 회차 노선을 다시 추가하면 기존 도착 정보를 교체한다")
+    void replaceTurnRoute() {
+        // given
+        timetable.add(turnRoute(10L, List.of(a, b), 0));
+
+        // when
+        timetable.add(turnRoute(10L, List.of(a, c), 20));
+
+        // then
+        assertThat(timetable.findNextArrivals(b.getId(), BASE, 10)).isEmpty();
+        assertThat(timetable.findNextArrivals(a.getId(), BASE, 10))
+                .extracting(StationArrival::expectedArrivalTime)
+                .containsExactly(BASE.plusMinutes(20));
+    }
+
+    @Test
+    @DisplayName("도착 정보가 없는 정류장은 빈 목록을 반환한다")
+    void unknownStation() {
+        assertThat(timetable.findNextArrivals(99L, BASE, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지연을 반영하면 보고된 순서 이후 정류장의 도착 시각만 늦춰진다")
+    void applyDelayToSuffix() {
+        // given
+        timetable.add(turnRoute(10L, List.of(a, b, c), 0));
+
+        // when
+        timetable.applyDelay(new DelayEvent(10L, 2, Duration.ofMinutes(5)));
+
+        // then
+        assertThat(timetable.findNextArrivals(a.getId(), BASE, 1))
+                .extracting(StationArrival::expectedArrivalTime)
+                .containsExactly(BASE);
+        assertThat(timetable.findNextArrivals(b.getId(), BASE, 1))
+                .extracting(StationArrival::expectedArrivalTime)
+                .containsExactly(BASE.plusMinutes(15));
+        assertThat(timetable.findTurnRoute(10L)).hasValueSatisfying(turnRoute ->
+                assertThat(turnRoute.getTurnStations().getEndStationExpectedArrivalTime()).isEqualTo(BASE.plusMinutes(25)));
+    }
+
+    @Test
+    @DisplayName("지연된 회차는 정류장 도착 목록에서 새 도착 시각 순서로 다시 정렬된다")
+    void reorderArrivalsAfterDelay() {
+        // given
+        timetable.add(turnRoute(10L, List.of(a, b, c), 0));
+        timetable.add(turnRoute(11L, List.of(a, b, c), 5));
+
+        // when
+        timetable.applyDelay(new DelayEvent(10L, 2, Duration.ofMinutes(10)));
+
+        // then
+        assertThat(timetable.findNextArrivals(b.getId(), BASE, 10))
+                .extracting(arrival -> arrival.turnRoute().getId())
+                .containsExactly(11L, 10L);
+        assertThat(timetable.findNextArrivals(c.getId(), BASE, 10))
+                .extracting(StationArrival::expectedArrivalTime)
+                .containsExactly(BASE.plusMinutes(25), BASE.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("새 지연 보고는 해당 구간의 이전 지연을 덮어쓴다")
+    void overwritePreviousDelay() {
+        // given
+        timetable.add(turnRoute(10L, List.of(a, b, c), 0));
+        timetable.applyDelay(new DelayEvent(10L, 2, Duration.ofMinutes(10)));
+
+        // when
+        timetable.applyDelay(new DelayEvent(10L, 3, Duration.ofMinutes(3)));
+
+        // then
+        assertThat(timetable.findNextArrivals(b.getId(), BASE, 1))
+                .extracting(StationArrival::expectedArrivalTime)
+                .containsExactly(BASE.plusMinutes(20));
+        assertThat(timetable.findNextArrivals(c.getId(), BASE, 1))
+                .extracting(StationArrival::expectedArrivalTime)
+                .containsExactly(BASE.plusMinutes(23));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회차나 순서에 대한 지연은 예외가 발생한다")
+    void throwExceptionWhenDelayTargetNotFound() {
+        timetable.add(turnRoute(10L, List.of(a, b), 0));
+
+        assertThatThrownBy(() -> timetable.applyDelay(new DelayEvent(99L, 1, Duration.ofMinutes(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> timetable.applyDelay(new DelayEvent(10L, 3, Duration.ofMinutes(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 회차를 동시에 교체하고 삭제해도 도착 목록은 남아 있는 회차와 일치한다")
+    void keepArrivalsConsistentUnderConcurrentReplaceAndRemove() throws Exception {
+        // given
+        TurnRoute first = turnRoute(10L, List.of(a, b), 0);
+        TurnRoute second = turnRoute(10L, List.of(b, c), 30);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                // when
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = List.of(
+                        executor.submit(() -> {
+                            start.await();
+                            timetable.add(first);
+                            return null;
+                        }),
+                        executor.submit(() -> {
+                            start.await();
+                            timetable.add(second);
+                            return null;
+                        }),
+                        executor.submit(() -> {
+                            start.await();
+                            timetable.remove(10L);
+                            return null;
+                        }));
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                // then
+                TurnRoute current = timetable.findTurnRoute(10L).orElse(null);
+                for (Station station : List.of(a, b, c)) {
+                    long expected = current == null ? 0 : current.getTurnStations().turnStations().stream()
+                            .filter(turnStation -> turnStation.getStation().getId().equals(station.getId()))
+                            .count();
+                    assertThat(timetable.findNextArrivals(station.getId(), BASE, 10))
+                            .hasSize((int) expected)
+                            .allSatisfy(arrival -> assertThat(arrival.turnRoute()).isSameAs(current));
+                }
+                timetable.remove(10L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TurnRoute turnRoute(Long id, List<Station> stations, int departureOffsetMinutes) {
+        return TransitFixtures.turnRoute(id, route(id), stations, BASE.plusMinutes(departureOffsetMinutes), 10);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.memory;
+
+import com.example.route.Route;
+import com.example.route.RouteType;
+import com.example.turn.route.TurnRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.station;
+import static com.example.fixture.TransitFixtures.turnStations;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryTurnRouteRepositoryTest {
+
+    private final MemoryRouteRepository routeRepository = new MemoryRouteRepository();
+    private final MemoryTurnRouteRepository repository = new MemoryTurnRouteRepository();
+
+    @Test
+    @DisplayName("저장한 회차 노선은 정류장 목록을 그대로 유지한다")
+    void saveKeepsTurnStations() {
+        // given
+        Route route = routeRepository.save(Route.of("인천송도노선", RouteType.GO));
+        TurnRoute turnRoute = turnRoute(route);
+
+        // when
+        TurnRoute saved = repository.save(turnRoute);
+
+        // then
+        assertThat(repository.findById(saved.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getRoute()).isSameAs(route);
+            assertThat(found.getTurnStations()).isSameAs(turnRoute.getTurnStations());
+        });
+    }
+
+    @Test
+    @DisplayName("노선 id로 회차 노선을 id 순으로 조회한다")
+    void findAllByRouteId() {
+        // given
+        Route go = routeRepository.save(Route.of("GO", RouteType.GO));
+        Route back = routeRepository.save(Route.of("BACK", RouteType.BACK));
+        List<TurnRoute> saved = repository.saveAll(List.of(turnRoute(go), turnRoute(back), turnRoute(go)));
+
+        // when
+        List<TurnRoute> found = repository.findAllByRouteId(go.getId());
+
+        // then
+        assertThat(found).extracting(TurnRoute::getId).containsExactly(saved.get(0).getId(), saved.get(2).getId());
+    }
+
+    private TurnRoute turnRoute(Route route) {
+        return TurnRoute.of(route, turnStations(List.of(station(1L), station(2L)), BASE, 10));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.fixture.TransitFixtures.station;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationGeoIndexTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "37.5, 127.0, 500",
+            "37.5, 127.0, 3000",
+            "0.0, 179.99, 2000",
+            "-33.9, -180.0, 1500"
+    })
+    @DisplayName("반경 조회 결과는 전체 탐색 결과와 같다")
+    void findWithinRadiusMatchesBruteForce(double lat, double lng, double meters) {
+        // given
+        Location center = Location.of(lat, lng);
+        List<Station> stations = randomStationsAround(center, 2_000, 0.05);
+        StationGeoIndex index = new StationGeoIndex();
+        stations.forEach(index::add);
+
+        // when
+        List<Station> found = index.findWithinRadius(center, meters);
+
+        // then
+        List<Station> expected = stations.stream()
+                .filter(station -> center.distanceTo(station.getLocation()) <= meters)
+                .sorted(Comparator.comparingDouble(station -> center.distanceTo(station.getLocation())))
+                .toList();
+        assertThat(found).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "37.5, 127.0, 1",
+            "37.5, 127.0, 5",
+            "37.5, 127.0, 50",
+            "0.0, 180.0, 10"
+    })
+    @DisplayName("최근접 조회 결과는 전체 탐색 결과와 같다")
+    void findNearestMatchesBruteForce(double lat, double lng, int k) {
+        // given
+        Location center = Location.of(lat, lng);
+        List<Station> stations = randomStationsAround(center, 2_000, 0.2);
+        StationGeoIndex index = new StationGeoIndex();
+        stations.forEach(index::add);
+
+        // when
+        List<Station> found = index.findNearest(center, k);
+
+        // then
+        List<Station> expected = stations.stream()
+                .sorted(Comparator.comparingDouble(station -> center.distanceTo(station.getLocation())))
+                .limit(k)
+                .toList();
+        assertThat(found).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("정류장 수보다 많은 개수를 요청하면 모든 정류장을 반환한다")
+    void findNearestReturnsAllWhenKExceedsSize() {
+        // given
+        StationGeoIndex index = new StationGeoIndex();
+        index.add(station(1L, Location.of(37.5, 127.0)));
+        index.add(station(2L, Location.of(35.1, 129.0)));
+
+        // when & then
+        assertThat(index.findNearest(Location.of(37.5, 127.0), 10))
+                .extracting(Station::getId)
+                .containsExactly(1L, 2L);
+        assertThat(new StationGeoIndex().findNearest(Location.of(0, 0), 3)).isEmpty();
+    }
+
+    private List<Station> randomStationsAround(Location center, int count, double spreadDegrees) {
+        Random random = new Random(42);
+        List<Station> stations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double lat = center.lat() + (random.nextDouble() * 2 - 1) * spreadDegrees;
+            double lng = center.lng() + (random.nextDouble() * 2 - 1) * spreadDegrees;
+            if (lng > 180) {
+                lng -= 360;
+            } else if (lng < -180) {
+                lng += 360;
+            }
+            stations.add(station((long) i + 1, Location.of(lat, lng)));
+        }
+        return stations;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.metrics.InstrumentedStationRepository;
+import com.example.metrics.StationMetricsConfig;
+import com.example.station.Station;
+import com.example.station.StationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationJournalConfigTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("다른 데코레이터가 저널을 감싸도 컨텍스트를 닫으면 마지막 스냅샷을 남기고 저널을 닫는다")
+    void snapshotOnContextClose() {
+        // given
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().setActiveProfiles("memory");
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "station.journal.enabled", "true",
+                "station.journal.directory", directory.toString(),
+                "station.journal.snapshot-interval", "1h")));
+        context.register(StationJournalConfig.class, StationMetricsConfig.class, MemoryStationRepository.class);
+        context.registerBean(SimpleMeterRegistry.class);
+        context.refresh();
+
+        StationRepository repository = context.getBean(StationRepository.class);
+        repository.save(Station.of("강남역", Location.of(37.4979, 127.0276)));
+        assertThat(repository).isInstanceOf(InstrumentedStationRepository.class);
+        assertThat(directory.resolve(StationJournal.SNAPSHOT_FILE)).doesNotExist();
+
+        // when
+        context.close();
+
+        // then
+        assertThat(directory.resolve(StationJournal.SNAPSHOT_FILE)).exists();
+        MemoryStationRepository restored = new MemoryStationRepository();
+        StationJournal.open(restored, new StationJournalProperties(true, directory, null, null, null)).close();
+        assertThat(restored.findById(1L)).hasValueSatisfying(station -> assertThat(station.getName()).isEqualTo("강남역"));
+    }
+}
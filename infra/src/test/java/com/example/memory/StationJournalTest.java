@@ -0,0 +1,170 @@
+package com.example.memory;
+
+import com.example.common.Location;
+import com.example.station.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StationJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    @DisplayName("종료 후 다시 열면 저장했던 정류장과 id 발급 위치가 복원된다")
+    void restoreAfterClose(FsyncPolicy fsync) {
+        // given
+        JournalingStationRepository repository = open(directory, fsync);
+        Station gangnam = repository.save(createStation("강남역", 37.4979, 127.0276));
+        List<Station> others = repository.saveAll(List.of(createStation("역삼역", 37.5006, 127.0364), createStation("선릉역", 37.5045, 127.0490)));
+        repository.close();
+
+        // when
+        JournalingStationRepository restored = open(directory, fsync);
+
+        // then
+        assertThat(restored.findById(gangnam.getId())).hasValueSatisfying(station -> {
+            assertThat(station.getName()).isEqualTo("강남역");
+            assertThat(station.getLocation()).isEqualTo(gangnam.getLocation());
+            assertThat(station.getCreatedAt()).isEqualTo(gangnam.getCreatedAt());
+        });
+        assertThat(restored.findAllById(others.stream().map(Station::getId).toList()))
+                .extracting(Station::getName).containsExactly("역삼역", "선릉역");
+        assertThat(restored.findNearest(Location.of(37.5006, 127.0364), 1))
+                .extracting(Station::getName).containsExactly("역삼역");
+        assertThat(restored.save(createStation("삼성역", 37.5088, 127.0631)).getId()).isEqualTo(4L);
+        restored.close();
+    }
+
+    @Test
+    @DisplayName("비정상 종료 시 스냅샷 이후의 로그를 재생하고 깨진 마지막 레코드는 잘라낸다")
+    void replayLogTailAfterCrash() throws IOException {
+        // given
+        JournalingStationRepository repository = open(directory, FsyncPolicy.ALWAYS);
+        repository.saveAll(List.of(createStation("A", 37.1, 127.1), createStation("B", 37.2, 127.2)));
+        repository.snapshot();
+        repository.save(createStation("C", 37.3, 127.3));
+
+        Path crashed = Files.createDirectory(directory.resolve("crashed"));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.copy(file, crashed.resolve(file.getFileName()));
+            }
+        }
+        repository.close();
+        Path lastLog;
+        try (Stream<Path> files = Files.list(crashed)) {
+            lastLog = files.filter(file -> file.getFileName().toString().startsWith("wal-")).sorted().toList().getLast();
+        }
+        long validSize = Files.size(lastLog);
+        Files.write(lastLog, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // when
+        JournalingStationRepository restored = open(crashed, FsyncPolicy.ALWAYS);
+
+        // then
+        assertThat(restored.findAllById(List.of(1L, 2L, 3L))).extracting(Station::getName).containsExactly("A", "B", "C");
+        assertThat(Files.size(lastLog)).isEqualTo(validSize);
+        restored.close();
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 중 여러 쓰레드가 동시에 저장해도 모든 정류장이 복원된다")
+    void concurrentGroupedSaves() throws Exception {
+        // given
+        JournalingStationRepository repository = open(directory, FsyncPolicy.GROUPED);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = IntStream.range(0, 8)
+                .mapToObj(writer -> executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        repository.save(createStation("station-" + writer + "-" + i, 37.0 + i * 0.001, 127.0 + writer * 0.001));
+                        if (writer == 0 && i == 100) {
+                            repository.snapshot();
+                        }
+                    }
+                }))
+                .<Future<?>>map(future -> future)
+                .toList();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        repository.close();
+
+        // when
+        JournalingStationRepository restored = open(directory, FsyncPolicy.GROUPED);
+
+        // then
+        List<Long> ids = IntStream.rangeClosed(1, 1_600).mapToObj(Long::valueOf).toList();
+        assertThat(restored.findAllById(ids)).hasSize(1_600);
+        restored.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    @DisplayName("인터럽트된 쓰레드가 저장해도 로그가 닫히지 않고 이후 저장과 종료가 정상 동작한다")
+    void keepLogOpenAfterInterruptedSave(FsyncPolicy fsync) {
+        // given
+        JournalingStationRepository repository = open(directory, fsync);
+
+        // when
+        Thread.currentThread().interrupt();
+        try {
+            repository.save(createStation("강남역", 37.4979, 127.0276));
+        } finally {
+            Thread.interrupted();
+        }
+        repository.save(createStation("역삼역", 37.5006, 127.0364));
+        repository.close();
+
+        // then
+        JournalingStationRepository restored = open(directory, fsync);
+        assertThat(restored.findAllById(List.of(1L, 2L))).extracting(Station::getName).containsExactly("강남역", "역삼역");
+        restored.close();
+    }
+
+    @Test
+    @DisplayName("로그에 쓰지 못한 정류장은 저장소에 들어가지 않는다")
+    void keepUnloggedStationOutOfRepository() {
+        // given
+        JournalingStationRepository repository = open(directory, FsyncPolicy.ALWAYS);
+        repository.save(createStation("강남역", 37.4979, 127.0276));
+        repository.close();
+
+        // when & then
+        assertThatThrownBy(() -> repository.save(createStation("역삼역", 37.5006, 127.0364)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(repository.findWithinRadius(Location.of(37.5006, 127.0364), 10_000))
+                .extracting(Station::getName).containsExactly("강남역");
+    }
+
+    private JournalingStationRepository open(Path directory, FsyncPolicy fsync) {
+        StationJournalProperties properties = new StationJournalProperties(
+                true, directory, fsync, Duration.ofMillis(10), Duration.ofHours(1));
+        MemoryStationRepository repository = new MemoryStationRepository();
+        return new JournalingStationRepository(repository, StationJournal.open(repository, properties));
+    }
+
+    private Station createStation(String name, double lat, double lng) {
+        return Station.of(name, Location.of(lat, lng));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.metrics;
+
+import com.example.common.Location;
+import com.example.memory.MemoryStationRepository;
+import com.example.station.Station;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentedStationRepositoryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InstrumentedStationRepository repository =
+            new InstrumentedStationRepository(new MemoryStationRepository(), registry);
+
+    @Test
+    @DisplayName("호출마다 연산별 타이머에 기록하고 일괄 호출의 크기를 남긴다")
+    void recordLatencyAndBatchSize() {
+        // given
+        List<Station> saved = repository.saveAll(List.of(station("강남역"), station("역삼역"), station("선릉역")));
+
+        // when
+        repository.findById(saved.getFirst().getId());
+        repository.findById(999L);
+        repository.findAllById(List.of(1L, 2L));
+
+        // then
+        assertThat(registry.get("station.repository").tags("repository", "MemoryStationRepository", "operation", "find-by-id")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("station.repository").tag("operation", "save-all").timer().count()).isEqualTo(1);
+        assertThat(registry.get("station.repository.calls").tag("operation", "find-by-id").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("station.repository.batch.size").tag("operation", "save-all").summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("station.repository.batch.size").tag("operation", "find-all-by-id").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("표본 간격을 두면 호출 수는 모두 세고 지연 시간은 일부만 기록한다")
+    void sampleLatency() {
+        // given
+        SimpleMeterRegistry sampledRegistry = new SimpleMeterRegistry();
+        InstrumentedStationRepository sampled = new InstrumentedStationRepository(new MemoryStationRepository(), sampledRegistry, 1_000_000);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            sampled.findById(1L);
+        }
+
+        // then
+        assertThat(sampledRegistry.get("station.repository.calls").tag("operation", "find-by-id").functionCounter().count()).isEqualTo(1_000);
+        assertThat(sampledRegistry.get("station.repository").tag("operation", "find-by-id").timer().count()).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("임계값을 넘은 호출은 JFR 이벤트로 남는다")
+    void emitJfrEvent(@TempDir Path directory) throws Exception {
+        // given
+        Path file = directory.resolve("station.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.StationRepository").withThreshold(Duration.ZERO);
+            recording.start();
+
+            // when
+            repository.saveAll(List.of(station("강남역"), station("역삼역")));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.StationRepository"))
+                .toList();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("operation")).isEqualTo("save-all");
+            assertThat(event.getString("repository")).isEqualTo("MemoryStationRepository");
+            assertThat(event.getInt("size")).isEqualTo(2);
+        });
+    }
+
+    private Station station(String name) {
+        return Station.of(name, Location.of(37.5, 127.0));
+    }
+}
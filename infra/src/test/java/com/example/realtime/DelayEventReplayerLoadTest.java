@@ -0,0 +1,76 @@
+package com.example.realtime;
+
+import com.example.memory.MemoryStationTimetable;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.route;
+import static com.example.fixture.TransitFixtures.station;
+import static com.example.fixture.TransitFixtures.turnRoute;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량의 지연 이벤트 파일을 재생해 처리량을 확인한다.
+ * 실행 환경에 따라 결과가 달라지므로 기본 test 에서는 제외되고 ./gradlew :infra:loadTest 로 실행한다.
+ */
+@Tag("load")
+class DelayEventReplayerLoadTest {
+
+    private static final int TURN_ROUTES = 2_000;
+    private static final int STOPS = 30;
+    private static final int EVENTS = 50_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("초당 수천 건의 지연 이벤트를 재생할 수 있다")
+    void sustainThousandsOfEventsPerSecond() throws IOException {
+        // given
+        MemoryStationTimetable timetable = new MemoryStationTimetable();
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            stations.add(station(id));
+        }
+        List<TurnRoute> turnRoutes = new ArrayList<>();
+        for (int i = 0; i < TURN_ROUTES; i++) {
+            List<Station> path = new ArrayList<>();
+            for (int j = 0; j < STOPS; j++) {
+                path.add(stations.get((i * 7 + j) % stations.size()));
+            }
+            turnRoutes.add(turnRoute((long) i, route(i), path, BASE.plusMinutes(i % 600), 5));
+        }
+        timetable.addAll(turnRoutes);
+
+        Path events = directory.resolve("delays.csv");
+        SplittableRandom random = new SplittableRandom(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(events)) {
+            for (int i = 0; i < EVENTS; i++) {
+                writer.write(random.nextInt(TURN_ROUTES) + "," + (1 + random.nextInt(STOPS)) + "," + random.nextInt(-60, 900));
+                writer.newLine();
+            }
+        }
+
+        // when
+        DelayReplayResult result = new DelayEventReplayer(timetable).replay(events);
+
+        // then
+        System.out.printf("%d events in %d ms (%.0f events/s)%n",
+                EVENTS, result.elapsed().toMillis(), result.eventsPerSecond());
+        assertThat(result.applied()).isEqualTo(EVENTS);
+        assertThat(result.eventsPerSecond()).isGreaterThan(2_000);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.realtime;
+
+import com.example.fixture.TransitFixtures;
+import com.example.memory.MemoryStationTimetable;
+import com.example.station.Station;
+import com.example.turn.route.TurnRoute;
+import com.example.turn.station.TurnStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.example.fixture.TransitFixtures.BASE;
+import static com.example.fixture.TransitFixtures.route;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DelayEventReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    private final MemoryStationTimetable timetable = new MemoryStationTimetable();
+    private final DelayEventReplayer replayer = new DelayEventReplayer(timetable);
+
+    @Test
+    @DisplayName("이벤트 파일을 재생해 지연을 반영하고 잘못된 이벤트는 건너뛴다")
+    void replayEventFile() throws IOException {
+        // given
+        List<Station> stations = stations(3);
+        timetable.add(turnRoute(10L, stations, 0));
+        Path events = Files.writeString(directory.resolve("delays.csv"), """
+                turn_route_id,order,delay_seconds
+                # 운행 중 지연 보고
+                10,2,300
+
+                10,3,-60
+                99,1,60
+                10,x,60
+                """);
+
+        // when
+        DelayReplayResult result = replayer.replay(events);
+
+        // then
+        assertThat(result.applied()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(timetable.findTurnRoute(10L)).hasValueSatisfying(turnRoute -> {
+            List<TurnStation> turnStations = turnRoute.getTurnStations().turnStations();
+            assertThat(turnStations.get(1).getExpectedArrivalTime()).isEqualTo(BASE.plusMinutes(10));
+            assertThat(turnStations.get(2).getExpectedArrivalTime()).isEqualTo(BASE.plusMinutes(9));
+        });
+    }
+
+    @Test
+    @DisplayName("여러 회차에 흩어진 지연 이벤트를 모두 반영한다")
+    void replayEventsAcrossTurnRoutes() throws IOException {
+        // given
+        int turnRouteCount = 50;
+        int stopCount = 10;
+        int eventCount = 1_000;
+        List<Station> stations = stations(20);
+        List<TurnRoute> turnRoutes = new ArrayList<>();
+        for (int i = 0; i < turnRouteCount; i++) {
+            List<Station> path = new ArrayList<>();
+            for (int j = 0; j < stopCount; j++) {
+                path.add(stations.get((i * 7 + j) % stations.size()));
+            }
+            turnRoutes.add(turnRoute((long) i, path, i % 600));
+        }
+        timetable.addAll(turnRoutes);
+
+        Path events = directory.resolve("delays.csv");
+        SplittableRandom random = new SplittableRandom(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(events)) {
+            for (int i = 0; i < eventCount; i++) {
+                writer.write(random.nextInt(turnRouteCount) + "," + (1 + random.nextInt(stopCount)) + "," + random.nextInt(-60, 900));
+                writer.newLine();
+            }
+        }
+
+        // when
+        DelayReplayResult result = replayer.replay(events);
+
+        // then
+        assertThat(result.applied()).isEqualTo(eventCount);
+        assertThat(result.rejected()).isZero();
+    }
+
+    private TurnRoute turnRoute(Long id, List<Station> stations, int departureOffsetMinutes) {
+        return TransitFixtures.turnRoute(id, route(id), stations, BASE.plusMinutes(departureOffsetMinutes), 5);
+    }
+
+    private List<Station> stations(int count) {
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            stations.add(TransitFixtures.station(id));
+        }
+        return stations;
+    }
+}